@@ -127,6 +127,8 @@ tasks {
 
     test {
         useJUnitPlatform()
+        // benchmarks are skipped unless run with -Ppapertweaks.benchmark=true
+        systemProperty("papertweaks.benchmark", providers.gradleProperty("papertweaks.benchmark").getOrElse("false"))
     }
 
     jar {
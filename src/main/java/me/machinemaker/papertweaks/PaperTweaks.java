@@ -34,6 +34,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Stream;
 import me.machinemaker.lectern.BaseConfig;
+import me.machinemaker.papertweaks.afk.AFKService;
+import me.machinemaker.papertweaks.afk.AFKTracker;
 import me.machinemaker.papertweaks.cloud.CloudModule;
 import me.machinemaker.papertweaks.db.DatabaseModule;
 import me.machinemaker.papertweaks.db.DatabaseType;
@@ -43,8 +45,11 @@ import me.machinemaker.papertweaks.modules.ModuleManager;
 import me.machinemaker.papertweaks.modules.ModuleRegistry;
 import me.machinemaker.papertweaks.modules.teleportation.homes.Homes;
 import me.machinemaker.papertweaks.utils.PlayerMapFactory;
+import me.machinemaker.papertweaks.utils.boards.VirtualScoreboards;
 import net.kyori.adventure.text.Component;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
@@ -75,6 +80,7 @@ public class PaperTweaks extends JavaPlugin {
     private PaperTweaksMetrics metrics;
     private @MonotonicNonNull PaperTweaksConfig config;
     private @MonotonicNonNull Jdbi jdbi;
+    private @MonotonicNonNull AFKTracker afkTracker;
 
     @Override
     public void onEnable() {
@@ -123,6 +129,7 @@ public class PaperTweaks extends JavaPlugin {
                     this.bind(JavaPlugin.class).toInstance(PaperTweaks.this);
                     this.bind(Plugin.class).toInstance(PaperTweaks.this);
                     this.bind(PlayerMapFactory.class).toInstance(mapFactory);
+                    this.bind(AFKService.class).to(AFKTracker.class);
                     this.bind(Path.class).annotatedWith(Names.named("data")).toInstance(PaperTweaks.this.dataPath);
                     this.bind(Path.class).annotatedWith(Names.named("modules")).toInstance(PaperTweaks.this.modulesPath);
                     this.bind(Path.class).annotatedWith(Names.named("i18n")).toInstance(PaperTweaks.this.i18nPath);
@@ -131,16 +138,21 @@ public class PaperTweaks extends JavaPlugin {
                 }
             }, new ModuleRegistry(this, PaperTweaks.this.dataPath), new CloudModule(this, EXECUTOR_SERVICE));
             pluginInjector.injectMembers(this);
+            this.afkTracker = pluginInjector.getInstance(AFKTracker.class);
         } catch (final CreationException e) {
             throw new RuntimeException("Could not create injector!", e);
         }
 
+        this.getServer().getPluginManager().registerEvents(this.afkTracker, this);
+        this.afkTracker.start();
+
         this.getServer().getConsoleSender().sendMessage(join(PLUGIN_PREFIX, translatable("plugin-lifecycle.on-enable.loaded-modules", GOLD, text(this.moduleManager.loadModules(), GRAY))));
         this.getServer().getConsoleSender().sendMessage(join(PLUGIN_PREFIX, translatable("plugin-lifecycle.on-enable.enabled-modules", GREEN, text(this.moduleManager.enableModules(), GRAY))));
 
         pluginInjector.getInstance(RootCommand.class).registerCommands();
         this.getServer().getPluginManager().registerEvents(pluginInjector.getInstance(GlobalListener.class), this);
         this.getServer().getPluginManager().registerEvents(mapFactory, this);
+        this.getServer().getPluginManager().registerEvents(pluginInjector.getInstance(VirtualScoreboards.class), this);
     }
 
     @Override
@@ -148,6 +160,9 @@ public class PaperTweaks extends JavaPlugin {
         if (this.moduleManager != null) {
             this.moduleManager.disableModules(true);
         }
+        if (this.afkTracker != null) {
+            this.afkTracker.stop();
+        }
         EXECUTOR_SERVICE.shutdownNow();
     }
 
@@ -188,6 +203,18 @@ public class PaperTweaks extends JavaPlugin {
                 Files.deleteIfExists(this.modulesPath.resolve("homes").resolve("homes.yml"));
                 LOGGER.info("Migrated '{}' config to h2 database", "homes/" + current);
             }
+            current = "afkdisplay";
+            final Path afkDisplayConfig = this.modulesPath.resolve(current).resolve("config.yml");
+            if (Files.exists(afkDisplayConfig)) {
+                final FileConfiguration afkDisplay = YamlConfiguration.loadConfiguration(afkDisplayConfig.toFile());
+                if (afkDisplay.contains("afk-time-in-seconds")) { // moved to the global afk section
+                    this.config.afk.secondsBeforeAFK = afkDisplay.getLong("afk-time-in-seconds");
+                    this.config.save();
+                    afkDisplay.set("afk-time-in-seconds", null);
+                    afkDisplay.save(afkDisplayConfig.toFile());
+                    LOGGER.info("Moved '{}' afk-time-in-seconds to afk.afk-time-in-seconds in config.yml", current);
+                }
+            }
         } catch (final IOException e) {
             LOGGER.error("Failed to migrate {} configuration!", current, e);
         }
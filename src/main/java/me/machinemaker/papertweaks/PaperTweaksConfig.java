@@ -34,6 +34,8 @@ public class PaperTweaksConfig extends BaseConfig {
 
     public Database database = new Database();
 
+    public Afk afk = new Afk();
+
     @ConfigurationSection(path = "database", description = "Settings related to the embedded database. Don't change these, they are just there if you want to look inside the H2 database for yourself")
     public static class Database {
 
@@ -44,4 +46,16 @@ public class PaperTweaksConfig extends BaseConfig {
 
         public String password = "password";
     }
+
+    @ConfigurationSection(path = "afk", description = "Settings for detecting AFK players, used by AFKDisplay and modules that pause work for AFK players")
+    public static class Afk {
+
+        @Key("afk-time-in-seconds")
+        @Description("The time in seconds without any activity before a player is considered AFK")
+        public long secondsBeforeAFK = 60 * 5L;
+
+        @Key("look-threshold")
+        @Description("How many degrees a player has to turn their head for it to count as activity")
+        public float lookThreshold = 15f;
+    }
 }
@@ -28,6 +28,7 @@ import me.machinemaker.lectern.ConfigurationNode;
 import me.machinemaker.papertweaks.adventure.Components;
 import me.machinemaker.papertweaks.cloud.PaperTweaksCommand;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
+import me.machinemaker.papertweaks.common.Skulls;
 import me.machinemaker.papertweaks.menus.AbstractConfigurationMenu;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
@@ -124,6 +125,9 @@ public class RootCommand extends PaperTweaksCommand {
         this.register(this.simple("version")
             .handler(this::showVersion)
         );
+        this.register(this.simple("skulls")
+            .handler(this::showSkulls)
+        );
     }
 
     private Command.Builder<CommandDispatcher> simple(final String name) {
@@ -206,4 +210,15 @@ public class RootCommand extends PaperTweaksCommand {
         context.sender().sendMessage(component);
     }
 
+    private void showSkulls(final CommandContext<CommandDispatcher> context) {
+        final Skulls.Stats stats = Skulls.stats();
+        context.sender().sendMessage(translatable("commands.skulls.success", GRAY,
+            text(stats.requested(), GOLD),
+            text(stats.templates(), GOLD),
+            text(stats.built(), GOLD),
+            text(stats.textures(), GOLD),
+            text(stats.textureBytes() / 1024, GOLD)
+        ));
+    }
+
 }
@@ -0,0 +1,59 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.afk;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Tracks which players are AFK. Modules can use this to skip per-player
+ * work for idle players.
+ */
+public interface AFKService {
+
+    /**
+     * Checks if a player is currently AFK.
+     *
+     * @param player the player
+     * @return true if AFK
+     */
+    boolean isAFK(Player player);
+
+    /**
+     * Adds a listener that's notified when a player becomes AFK or stops being AFK.
+     * Listeners are called on the player's entity scheduler.
+     *
+     * @param listener the listener
+     */
+    void addListener(ChangeListener listener);
+
+    void removeListener(ChangeListener listener);
+
+    @FunctionalInterface
+    interface ChangeListener {
+
+        /**
+         * Called when a player's AFK state changes.
+         *
+         * @param player the player
+         * @param afk true if the player is now AFK
+         */
+        void onChange(Player player, boolean afk);
+    }
+}
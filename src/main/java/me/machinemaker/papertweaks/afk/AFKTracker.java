@@ -0,0 +1,220 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.afk;
+
+import com.google.common.collect.Maps;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import me.machinemaker.papertweaks.PaperTweaksConfig;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import me.machinemaker.papertweaks.utils.TimingWheel;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracks player activity and marks players as AFK.
+ * <p>
+ * Activity only updates a timestamp. Each player has a single deadline in a
+ * {@link TimingWheel}; when it fires and the player was active in the meantime,
+ * it is pushed back to the new deadline, otherwise the player becomes AFK.
+ * Players are only touched when their deadline fires or their state changes.
+ */
+@Singleton
+public final class AFKTracker implements AFKService, Listener {
+
+    private static final long RESOLUTION_MILLIS = 1000L;
+    private static final int SLOTS = 512;
+
+    private final JavaPlugin plugin;
+    private final PaperTweaksConfig.Afk config;
+    private final Map<UUID, Activity> players = Maps.newConcurrentMap();
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final TimingWheel<Activity> wheel = new TimingWheel<>(SLOTS, RESOLUTION_MILLIS, System.currentTimeMillis());
+    private SchedulerUtil.@Nullable Task task;
+
+    @Inject
+    AFKTracker(final JavaPlugin plugin, final PaperTweaksConfig config) {
+        this.plugin = plugin;
+        this.config = config.afk;
+    }
+
+    public void start() {
+        Bukkit.getOnlinePlayers().forEach(this::track);
+        this.task = SchedulerUtil.runTaskTimer(this.plugin, t -> this.wheel.advance(System.currentTimeMillis(), this::expire), 20L, 20L);
+    }
+
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        this.wheel.clear();
+        this.players.clear();
+    }
+
+    @Override
+    public boolean isAFK(final Player player) {
+        final Activity activity = this.players.get(player.getUniqueId());
+        return activity != null && activity.afk;
+    }
+
+    @Override
+    public void addListener(final ChangeListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(final ChangeListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        final Activity activity = this.players.get(event.getPlayer().getUniqueId());
+        if (activity == null) {
+            return;
+        }
+        final Location last = activity.location;
+        final Location to = event.getTo();
+        // only count movement past the thresholds, to ignore being pushed around by water and the like
+        if (last.getBlockX() != to.getBlockX() || last.getBlockY() != to.getBlockY() || last.getBlockZ() != to.getBlockZ()
+            || Math.abs(Location.normalizeYaw(to.getYaw() - last.getYaw())) >= this.config.lookThreshold
+            || Math.abs(to.getPitch() - last.getPitch()) >= this.config.lookThreshold) {
+            activity.location = to;
+            this.active(event.getPlayer(), activity);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onAsyncChat(final AsyncChatEvent event) {
+        this.activity(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(final PlayerCommandPreprocessEvent event) {
+        this.activity(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerInteract(final PlayerInteractEvent event) {
+        this.activity(event.getPlayer()); // interacting with air is cancelled by default
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(final InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof final Player player) {
+            this.activity(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        this.track(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.players.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void track(final Player player) {
+        final Activity activity = new Activity(player.getUniqueId(), player.getLocation());
+        this.players.put(player.getUniqueId(), activity);
+        this.wheel.schedule(activity, activity.lastActive + this.afkMillis());
+    }
+
+    private void activity(final Player player) {
+        final Activity activity = this.players.get(player.getUniqueId());
+        if (activity != null) {
+            this.active(player, activity);
+        }
+    }
+
+    private void active(final Player player, final Activity activity) {
+        activity.lastActive = System.currentTimeMillis();
+        if (activity.afk) {
+            SchedulerUtil.runEntityTask(this.plugin, player, () -> {
+                if (activity.afk && this.players.get(activity.uuid) == activity) {
+                    activity.afk = false;
+                    this.wheel.schedule(activity, activity.lastActive + this.afkMillis());
+                    this.listeners.forEach(listener -> listener.onChange(player, false));
+                }
+            }, null);
+        }
+    }
+
+    private void expire(final Activity activity) {
+        final long deadline = activity.lastActive + this.afkMillis();
+        if (deadline > System.currentTimeMillis()) {
+            this.wheel.schedule(activity, deadline);
+            return;
+        }
+        final @Nullable Player player = Bukkit.getPlayer(activity.uuid);
+        if (player == null || this.players.get(activity.uuid) != activity) {
+            return; // quit or rejoined
+        }
+        SchedulerUtil.runEntityTask(this.plugin, player, () -> {
+            if (this.players.get(activity.uuid) != activity) {
+                return;
+            }
+            final long newDeadline = activity.lastActive + this.afkMillis();
+            if (newDeadline > System.currentTimeMillis()) {
+                this.wheel.schedule(activity, newDeadline);
+                return;
+            }
+            activity.afk = true;
+            this.listeners.forEach(listener -> listener.onChange(player, true));
+        }, null);
+    }
+
+    private long afkMillis() {
+        return 1000L * this.config.secondsBeforeAFK;
+    }
+
+    private static final class Activity {
+
+        private final UUID uuid;
+        private volatile long lastActive = System.currentTimeMillis();
+        private volatile Location location;
+        private volatile boolean afk;
+
+        private Activity(final UUID uuid, final Location location) {
+            this.uuid = uuid;
+            this.location = location;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+/**
+ * Schedulers a command handler can be dispatched to.
+ *
+ * @see ExecutionTarget
+ */
+public interface CommandScheduler {
+
+    /**
+     * Runs a task on the global region, or the main thread on Paper.
+     *
+     * @param task the task
+     */
+    void global(Runnable task);
+
+    /**
+     * Runs a task off the server threads.
+     *
+     * @param task the task
+     */
+    void async(Runnable task);
+
+    /**
+     * Runs a task on the thread owning an entity. The task is dropped if
+     * the entity is removed before it runs.
+     *
+     * @param entity the entity
+     * @param task the task
+     */
+    void entity(Entity entity, Runnable task);
+
+    /**
+     * Runs a task on the thread owning a location.
+     *
+     * @param location the location
+     * @param task the task
+     */
+    void location(Location location, Runnable task);
+}
@@ -0,0 +1,104 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud;
+
+import java.util.function.Function;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.incendo.cloud.context.CommandContext;
+
+/**
+ * Where a command handler runs. On Folia each target is its own scheduler,
+ * on Paper everything but {@link #ASYNC} runs on the main thread.
+ */
+public sealed interface ExecutionTarget {
+
+    /**
+     * The thread owning the sender, or the global region if the sender isn't an entity.
+     */
+    ExecutionTarget SENDER = new Sender();
+
+    /**
+     * The global region, for commands touching several worlds or regions.
+     */
+    ExecutionTarget GLOBAL = new Global();
+
+    /**
+     * Off the server threads, for commands that only do I/O or messaging.
+     */
+    ExecutionTarget ASYNC = new Async();
+
+    /**
+     * The thread owning a location resolved from the command context.
+     *
+     * @param location gets the location from the context
+     * @return the target
+     */
+    static ExecutionTarget at(final Function<? super CommandContext<?>, Location> location) {
+        return new At(location);
+    }
+
+    /**
+     * Schedules a command handler on this target.
+     *
+     * @param scheduler the scheduler
+     * @param context the command context
+     * @param sender the sender of the command
+     * @param task the handler
+     */
+    void schedule(CommandScheduler scheduler, CommandContext<?> context, CommandSender sender, Runnable task);
+
+    record Sender() implements ExecutionTarget {
+
+        @Override
+        public void schedule(final CommandScheduler scheduler, final CommandContext<?> context, final CommandSender sender, final Runnable task) {
+            if (sender instanceof final Entity entity) {
+                scheduler.entity(entity, task);
+            } else {
+                scheduler.global(task);
+            }
+        }
+    }
+
+    record Global() implements ExecutionTarget {
+
+        @Override
+        public void schedule(final CommandScheduler scheduler, final CommandContext<?> context, final CommandSender sender, final Runnable task) {
+            scheduler.global(task);
+        }
+    }
+
+    record Async() implements ExecutionTarget {
+
+        @Override
+        public void schedule(final CommandScheduler scheduler, final CommandContext<?> context, final CommandSender sender, final Runnable task) {
+            scheduler.async(task);
+        }
+    }
+
+    record At(Function<? super CommandContext<?>, Location> location) implements ExecutionTarget {
+
+        @Override
+        public void schedule(final CommandScheduler scheduler, final CommandContext<?> context, final CommandSender sender, final Runnable task) {
+            scheduler.location(this.location.apply(context), task);
+        }
+    }
+}
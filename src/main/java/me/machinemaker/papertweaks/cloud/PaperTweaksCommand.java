@@ -25,8 +25,10 @@ import java.util.function.Consumer;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.cloud.dispatchers.PlayerCommandDispatcher;
 import me.machinemaker.papertweaks.cloud.parsers.ParserFactory;
-import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.description.Description;
@@ -45,22 +47,61 @@ public abstract class PaperTweaksCommand {
     private PaperCommandManager<CommandDispatcher> manager;
     @Inject
     protected ParserFactory argumentFactory;
+    private @Nullable CommandScheduler scheduler;
 
-    protected final <C> CommandExecutionHandler<C> sync(final BiConsumer<CommandContext<C>, Player> playerTaskConsumer) {
+    /**
+     * Runs a command handler on the global region. Player command handlers
+     * have no global shortcut, pick their target with
+     * {@link #execute(ExecutionTarget, BiConsumer)}, usually {@link ExecutionTarget#SENDER}.
+     *
+     * @see #execute(ExecutionTarget, Consumer)
+     */
+    protected final <C> CommandExecutionHandler<C> sync(final Consumer<CommandContext<C>> taskConsumer) {
+        return this.execute(ExecutionTarget.GLOBAL, taskConsumer);
+    }
+
+    /**
+     * Runs a player command handler on the given target.
+     */
+    protected final <C> CommandExecutionHandler<C> execute(final ExecutionTarget target, final BiConsumer<CommandContext<C>, Player> playerTaskConsumer) {
         return context -> {
-            SchedulerUtil.runTask(this.manager.owningPlugin(), () -> {
+            target.schedule(this.scheduler(), context, sender(context), () -> {
                 final Player player = PlayerCommandDispatcher.from(context);
                 playerTaskConsumer.accept(context, player);
             });
         };
     }
 
-    protected final <C> CommandExecutionHandler<C> sync(final Consumer<CommandContext<C>> taskConsumer) {
+    /**
+     * Runs a command handler on the given target.
+     */
+    protected final <C> CommandExecutionHandler<C> execute(final ExecutionTarget target, final Consumer<CommandContext<C>> taskConsumer) {
         return context -> {
-            SchedulerUtil.runTask(this.manager.owningPlugin(), () -> taskConsumer.accept(context));
+            target.schedule(this.scheduler(), context, sender(context), () -> taskConsumer.accept(context));
         };
     }
 
+    private CommandScheduler scheduler() {
+        if (this.scheduler == null) {
+            this.scheduler = new PluginCommandScheduler(this.manager.owningPlugin());
+        }
+        return this.scheduler;
+    }
+
+    /**
+     * Replaces the scheduler command handlers are run on, for tests.
+     */
+    final void scheduler(final CommandScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    private static CommandSender sender(final CommandContext<?> context) {
+        if (context.sender() instanceof final CommandDispatcher dispatcher) {
+            return dispatcher.sender();
+        }
+        return Bukkit.getConsoleSender();
+    }
+
     protected ImmutableMinecraftHelp.AudienceProviderBuildStage<CommandDispatcher> createHelp() {
         return MinecraftHelp.<CommandDispatcher>builder().commandManager(this.manager);
     }
@@ -0,0 +1,52 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud;
+
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Dispatches command handlers through {@link SchedulerUtil}, which picks
+ * the Folia schedulers or falls back to the Bukkit scheduler on Paper.
+ */
+record PluginCommandScheduler(Plugin plugin) implements CommandScheduler {
+
+    @Override
+    public void global(final Runnable task) {
+        SchedulerUtil.runTask(this.plugin, task);
+    }
+
+    @Override
+    public void async(final Runnable task) {
+        SchedulerUtil.runTaskAsynchronously(this.plugin, task);
+    }
+
+    @Override
+    public void entity(final Entity entity, final Runnable task) {
+        SchedulerUtil.runEntityTask(this.plugin, entity, task, null);
+    }
+
+    @Override
+    public void location(final Location location, final Runnable task) {
+        SchedulerUtil.runAtLocation(this.plugin, location, task);
+    }
+}
@@ -32,16 +32,17 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
-import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 
 public class HomeParser implements ArgumentParser<CommandDispatcher, Home> {
 
     private final HomesDAO homesDAO;
+    private final HomeSuggestions suggestions;
 
     @Inject
-    HomeParser(final HomesDAO homesDAO) {
+    HomeParser(final HomesDAO homesDAO, final HomeSuggestions suggestions) {
         this.homesDAO = homesDAO;
+        this.suggestions = suggestions;
     }
 
     @Override
@@ -62,7 +63,7 @@ public class HomeParser implements ArgumentParser<CommandDispatcher, Home> {
     public @NonNull SuggestionProvider<CommandDispatcher> suggestionProvider() {
         return (context, input) -> {
             if (context.sender() instanceof final PlayerCommandDispatcher playerCommandDispatcher) {
-                return CompletableFuture.supplyAsync(() -> this.homesDAO.getHomesForPlayer(playerCommandDispatcher.getUUID()).keySet().stream().map(Suggestion::suggestion).toList());
+                return this.suggestions.suggest(playerCommandDispatcher.getUUID(), input.lastRemainingToken());
             }
             return CompletableFuture.completedFuture(Collections.emptyList());
         };
@@ -0,0 +1,67 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud.parsers;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import me.machinemaker.papertweaks.cloud.suggestions.SuggestionCache;
+import me.machinemaker.papertweaks.db.dao.teleportation.homes.HomesDAO;
+import org.incendo.cloud.suggestion.Suggestion;
+
+/**
+ * Home name suggestions, loaded once per player and kept until their homes change.
+ */
+@Singleton
+public final class HomeSuggestions {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final SuggestionCache<Suggestion> cache;
+
+    @Inject
+    HomeSuggestions(final HomesDAO homesDAO) {
+        this.cache = new SuggestionCache<>(TTL, player -> homesDAO.getHomesForPlayer(player).keySet(), Suggestion::suggestion);
+    }
+
+    CompletableFuture<List<Suggestion>> suggest(final UUID player, final String prefix) {
+        return this.cache.suggest(player, prefix);
+    }
+
+    /**
+     * Drops the cached home names of a player, to be called after their homes changed.
+     *
+     * @param player the player
+     */
+    public void invalidate(final UUID player) {
+        this.cache.invalidate(player);
+    }
+
+    /**
+     * Drops the cached home names of all players, to be called when
+     * homes may have changed without going through the homes commands.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+}
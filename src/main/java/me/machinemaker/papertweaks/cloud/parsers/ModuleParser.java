@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.cloud.processors.ConditionalCaseInsensitiveSuggestionProcessor;
+import me.machinemaker.papertweaks.cloud.suggestions.PrefixTrie;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleManager;
@@ -44,11 +45,14 @@ public class ModuleParser implements ArgumentParser<CommandDispatcher, ModuleBas
 
     private final ModuleManager manager;
     private final @Nullable Boolean enabled;
+    private final PrefixTrie<String> moduleNames;
 
     @Inject
     ModuleParser(final ModuleManager manager, @Assisted final @Nullable Boolean enabled) {
         this.manager = manager;
         this.enabled = enabled;
+        // the set of modules is fixed once the manager is created, only their states change
+        this.moduleNames = PrefixTrie.of(manager.getModules().values().stream().map(ModuleBase::getName).toList());
     }
 
     private static Predicate<ModuleLifecycle> predicateFor(final @Nullable Boolean enabled) {
@@ -87,12 +91,16 @@ public class ModuleParser implements ArgumentParser<CommandDispatcher, ModuleBas
     public @NonNull SuggestionProvider<CommandDispatcher> suggestionProvider() {
         return (BlockingSuggestionProvider.Strings<CommandDispatcher>) (context, input) -> {
             context.set(ConditionalCaseInsensitiveSuggestionProcessor.IGNORE_CASE, true);
-            final List<String> modules = new ArrayList<>();
+            final List<String> matching = this.moduleNames.withPrefix(input.lastRemainingToken());
+            if (this.enabled == null) {
+                return matching;
+            }
+            final List<String> modules = new ArrayList<>(matching.size());
             final Predicate<ModuleLifecycle> lifecyclePredicate = predicateFor(this.enabled);
-            for (final ModuleBase module : this.manager.getModules().values()) {
-                this.manager.getLifecycle(module.getName()).ifPresent(lifecycle -> {
+            for (final String module : matching) {
+                this.manager.getLifecycle(module).ifPresent(lifecycle -> {
                     if (lifecyclePredicate.test(lifecycle)) {
-                        modules.add(module.getName());
+                        modules.add(module);
                     }
                 });
             }
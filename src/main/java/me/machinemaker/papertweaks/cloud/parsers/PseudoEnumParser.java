@@ -24,6 +24,7 @@ import java.io.Serial;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import me.machinemaker.papertweaks.cloud.suggestions.PrefixTrie;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.caption.StandardCaptionKeys;
@@ -34,6 +35,8 @@ import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.parser.standard.StringParser;
+import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 
 import static org.incendo.cloud.parser.ParserDescriptor.parserDescriptor;
@@ -67,6 +70,7 @@ public class PseudoEnumParser<C> implements ArgumentParser<C, String> {
     }
 
     private final Set<String> allowedValues;
+    private final PrefixTrie<Suggestion> suggestions;
     private final StringParser<C> stringParser;
 
     public PseudoEnumParser(final StringParser.StringMode stringMode, final Iterable<String> allowedValues) {
@@ -74,6 +78,7 @@ public class PseudoEnumParser<C> implements ArgumentParser<C, String> {
         final Set<String> allowedValuesSet = new HashSet<>();
         Iterables.addAll(allowedValuesSet, allowedValues);
         this.allowedValues = Set.copyOf(allowedValuesSet);
+        this.suggestions = PrefixTrie.of(this.allowedValues, Suggestion::suggestion);
     }
 
     @Override
@@ -93,7 +98,10 @@ public class PseudoEnumParser<C> implements ArgumentParser<C, String> {
 
     @Override
     public @NonNull SuggestionProvider<C> suggestionProvider() {
-        return SuggestionProvider.suggestingStrings(this.allowedValues);
+        return (BlockingSuggestionProvider<C>) (context, input) -> {
+            final String remaining = input.remainingInput();
+            return this.suggestions.withPrefix(remaining.startsWith("\"") ? remaining.substring(1) : remaining);
+        };
     }
 
     /**
@@ -22,13 +22,17 @@ package me.machinemaker.papertweaks.cloud.parsers.setting;
 import java.util.Locale;
 import java.util.Map;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
+import me.machinemaker.papertweaks.cloud.suggestions.PrefixTrie;
 import me.machinemaker.papertweaks.settings.Setting;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 
 class SettingParser<C, S extends Setting<?, C>> implements ArgumentParser<CommandDispatcher, S> {
@@ -36,6 +40,7 @@ class SettingParser<C, S extends Setting<?, C>> implements ArgumentParser<Comman
     private final Map<String, S> settings;
     private final CloudKey<S> key;
     private final boolean hideSuggestions;
+    private volatile @Nullable PrefixTrie<Suggestion> suggestions;
 
     SettingParser(final Map<String, S> settings, final CloudKey<S> key, final boolean hideSuggestions) {
         this.settings = settings;
@@ -60,6 +65,16 @@ class SettingParser<C, S extends Setting<?, C>> implements ArgumentParser<Comman
         if (this.hideSuggestions) {
             return SuggestionProvider.noSuggestions();
         }
-        return SuggestionProvider.suggestingStrings(this.settings.keySet());
+        return (BlockingSuggestionProvider<CommandDispatcher>) (context, input) -> this.suggestions().withPrefix(input.lastRemainingToken());
+    }
+
+    private PrefixTrie<Suggestion> suggestions() {
+        // built on first use, so settings collected after the parser was created are included
+        @Nullable PrefixTrie<Suggestion> suggestions = this.suggestions;
+        if (suggestions == null) {
+            suggestions = PrefixTrie.of(this.settings.keySet(), Suggestion::suggestion);
+            this.suggestions = suggestions;
+        }
+        return suggestions;
     }
 }
@@ -0,0 +1,207 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud.suggestions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An immutable, case-insensitive prefix trie of suggestion candidates.
+ * <p>
+ * Nodes are stored in flat arrays, and each node covers a contiguous range of
+ * the candidates sorted by key. Looking up a prefix walks one node per
+ * character, and prefixes up to {@value #CACHED_DEPTH} characters long return
+ * a view built with the trie, so the most common queries don't allocate.
+ *
+ * @param <V> the candidate type
+ */
+public final class PrefixTrie<V> {
+
+    static final int CACHED_DEPTH = 3;
+    private static final int NONE = -1;
+    private static final PrefixTrie<?> EMPTY = of(List.of(), Function.identity());
+
+    private final List<V> values;
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] start;
+    private final int[] end;
+    private final List<V>[] views;
+
+    @SuppressWarnings("unchecked")
+    private PrefixTrie(final List<V> values, final Builder builder) {
+        this.values = values;
+        this.labels = Arrays.copyOf(builder.labels, builder.size);
+        this.firstChild = Arrays.copyOf(builder.firstChild, builder.size);
+        this.nextSibling = Arrays.copyOf(builder.nextSibling, builder.size);
+        this.start = Arrays.copyOf(builder.start, builder.size);
+        this.end = Arrays.copyOf(builder.end, builder.size);
+        this.views = new List[builder.size];
+        for (int node = 0; node < builder.size; node++) {
+            if (builder.depth[node] <= CACHED_DEPTH) {
+                this.views[node] = this.values.subList(this.start[node], this.end[node]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> PrefixTrie<V> empty() {
+        return (PrefixTrie<V>) EMPTY;
+    }
+
+    public static PrefixTrie<String> of(final Collection<String> keys) {
+        return of(keys, Function.identity());
+    }
+
+    /**
+     * Builds a trie of candidates.
+     *
+     * @param keys the keys the candidates are looked up by
+     * @param value creates the candidate for a key
+     * @param <V> the candidate type
+     * @return the trie
+     */
+    public static <V> PrefixTrie<V> of(final Collection<String> keys, final Function<? super String, ? extends V> value) {
+        final List<String> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparing(PrefixTrie::lowerCase));
+        final List<V> values = new ArrayList<>(sorted.size());
+        final Builder builder = new Builder(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            final String key = sorted.get(i);
+            values.add(value.apply(key));
+            builder.insert(key, i);
+        }
+        return new PrefixTrie<>(List.copyOf(values), builder);
+    }
+
+    /**
+     * Gets the candidates whose key starts with a prefix, ignoring case.
+     *
+     * @param prefix the prefix
+     * @return an unmodifiable view of the candidates, sorted by key
+     */
+    public List<V> withPrefix(final String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = Character.toLowerCase(prefix.charAt(i));
+            int child = this.firstChild[node];
+            while (child != NONE && this.labels[child] != c) {
+                child = this.nextSibling[child];
+            }
+            if (child == NONE) {
+                return List.of();
+            }
+            node = child;
+        }
+        final List<V> view = this.views[node];
+        return view != null ? view : this.values.subList(this.start[node], this.end[node]);
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    private static String lowerCase(final String key) {
+        final char[] chars = key.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Grows the node arrays while keys are inserted in sorted order, so a
+     * key either continues the last child of a node or starts a new one.
+     */
+    private static final class Builder {
+
+        private char[] labels;
+        private int[] firstChild;
+        private int[] lastChild;
+        private int[] nextSibling;
+        private int[] start;
+        private int[] end;
+        private int[] depth;
+        private int size;
+
+        Builder(final int keys) {
+            final int capacity = Math.max(16, keys * 4);
+            this.labels = new char[capacity];
+            this.firstChild = new int[capacity];
+            this.lastChild = new int[capacity];
+            this.nextSibling = new int[capacity];
+            this.start = new int[capacity];
+            this.end = new int[capacity];
+            this.depth = new int[capacity];
+            this.add('\0', 0, 0);
+            this.end[0] = 0;
+        }
+
+        void insert(final String key, final int index) {
+            int node = 0;
+            this.end[node] = index + 1;
+            for (int i = 0; i < key.length(); i++) {
+                final char c = Character.toLowerCase(key.charAt(i));
+                final int last = this.lastChild[node];
+                final int child;
+                if (last != NONE && this.labels[last] == c) {
+                    child = last;
+                } else {
+                    child = this.add(c, index, i + 1);
+                    if (last == NONE) {
+                        this.firstChild[node] = child;
+                    } else {
+                        this.nextSibling[last] = child;
+                    }
+                    this.lastChild[node] = child;
+                }
+                this.end[child] = index + 1;
+                node = child;
+            }
+        }
+
+        private int add(final char label, final int index, final int nodeDepth) {
+            if (this.size == this.labels.length) {
+                final int capacity = this.size * 2;
+                this.labels = Arrays.copyOf(this.labels, capacity);
+                this.firstChild = Arrays.copyOf(this.firstChild, capacity);
+                this.lastChild = Arrays.copyOf(this.lastChild, capacity);
+                this.nextSibling = Arrays.copyOf(this.nextSibling, capacity);
+                this.start = Arrays.copyOf(this.start, capacity);
+                this.end = Arrays.copyOf(this.end, capacity);
+                this.depth = Arrays.copyOf(this.depth, capacity);
+            }
+            final int node = this.size++;
+            this.labels[node] = label;
+            this.firstChild[node] = NONE;
+            this.lastChild[node] = NONE;
+            this.nextSibling[node] = NONE;
+            this.start[node] = index;
+            this.end[node] = index + 1;
+            this.depth[node] = nodeDepth;
+            return node;
+        }
+    }
+}
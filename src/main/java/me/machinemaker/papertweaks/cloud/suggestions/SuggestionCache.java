@@ -0,0 +1,103 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud.suggestions;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Per-sender suggestion candidates of one parser, kept in a {@link PrefixTrie}.
+ * <p>
+ * Candidates are loaded off the main thread the first time a sender asks for
+ * them. After that, suggestions are answered from the trie until the entry is
+ * {@link #invalidate(UUID) invalidated} because the candidates changed, or
+ * until it expires.
+ *
+ * @param <V> the candidate type
+ */
+public final class SuggestionCache<V> {
+
+    private final Cache<UUID, CompletableFuture<PrefixTrie<V>>> cache;
+    private final Function<UUID, ? extends Collection<String>> loader;
+    private final Function<? super String, ? extends V> value;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param ttl how long candidates are kept after loading
+     * @param loader loads the candidate keys of a sender
+     * @param value creates the candidate for a key
+     */
+    public SuggestionCache(final Duration ttl, final Function<UUID, ? extends Collection<String>> loader, final Function<? super String, ? extends V> value) {
+        this.cache = CacheBuilder.newBuilder().expireAfterWrite(ttl).build();
+        this.loader = loader;
+        this.value = value;
+    }
+
+    /**
+     * Gets the candidates of a sender starting with a prefix.
+     *
+     * @param sender the sender
+     * @param prefix the prefix
+     * @return the candidates, completed right away unless they have to be loaded
+     */
+    public CompletableFuture<List<V>> suggest(final UUID sender, final String prefix) {
+        return this.trie(sender).thenApply(trie -> trie.withPrefix(prefix));
+    }
+
+    private CompletableFuture<PrefixTrie<V>> trie(final UUID sender) {
+        try {
+            return this.cache.get(sender, () -> {
+                final CompletableFuture<PrefixTrie<V>> future = CompletableFuture.supplyAsync(() -> PrefixTrie.of(this.loader.apply(sender), this.value));
+                future.exceptionally(throwable -> {
+                    this.cache.asMap().remove(sender, future);
+                    return null;
+                });
+                return future;
+            });
+        } catch (final ExecutionException exception) {
+            return CompletableFuture.failedFuture(exception.getCause());
+        }
+    }
+
+    /**
+     * Drops the candidates of a sender, to be called when they change.
+     *
+     * @param sender the sender
+     */
+    public void invalidate(final UUID sender) {
+        this.cache.invalidate(sender);
+    }
+
+    /**
+     * Drops the candidates of every sender, to be called when the
+     * changes can't be attributed to one sender, like when their module is disabled.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+}
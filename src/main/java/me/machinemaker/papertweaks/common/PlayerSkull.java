@@ -29,12 +29,12 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class PlayerSkull {
 
     private final Component name;
-    private final ItemStack skull;
+    private final Skulls.Skull skull;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public PlayerSkull(final String name, final UUID uuid, final String texture, final @Nullable Integer count) {
         this.name = PTUtils.sanitizeName(name);
-        this.skull = PTUtils.getSkull(this.name, uuid, texture, count != null ? count : 1);
+        this.skull = Skulls.skull(this.name, uuid, texture, count != null ? count : 1);
     }
 
     public Component name() {
@@ -42,9 +42,7 @@ public class PlayerSkull {
     }
 
     public ItemStack cloneWithAmount(final int amount) {
-        final ItemStack clone = this.skull.clone();
-        clone.setAmount(amount);
-        return clone;
+        return this.skull.create(amount);
     }
 
     public ItemStack cloneSingle() {
@@ -52,6 +50,6 @@ public class PlayerSkull {
     }
 
     public ItemStack cloneOriginal() {
-        return this.skull.clone();
+        return this.skull.create();
     }
 }
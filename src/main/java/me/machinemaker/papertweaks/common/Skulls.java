@@ -0,0 +1,176 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.common;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.machinemaker.papertweaks.utils.PTUtils;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.Component.translatable;
+
+/**
+ * Shared registry of textured player heads.
+ * <p>
+ * Heads are interned by texture, profile and item name, so modules loading
+ * the same head share one template. The profile and template stack are only
+ * built the first time a head is handed out, after that every head is a
+ * clone of the template.
+ */
+public final class Skulls {
+
+    private static final ConcurrentMap<String, String> TEXTURES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Key, Template> TEMPLATES = new ConcurrentHashMap<>();
+    private static final AtomicInteger REQUESTED = new AtomicInteger();
+    private static final AtomicInteger BUILT = new AtomicInteger();
+
+    private Skulls() {
+    }
+
+    public static Skull skull(final Component name, final @Nullable UUID uuid, final String texture, final int count) {
+        return skull(name, PTUtils.makeValidGameProfileName(name), uuid, texture, count);
+    }
+
+    public static Skull skull(final String stringName, final @Nullable UUID uuid, final String texture) {
+        final String gameProfileName = PTUtils.makeValidGameProfileName(stringName);
+        final @Nullable Component name;
+        if (!gameProfileName.equals(stringName)) {
+            name = translatable("block.minecraft.player_head.named", text(stringName));
+        } else {
+            name = null; // name is valid in the gameprofile
+        }
+        return skull(name, gameProfileName, uuid, texture, 1);
+    }
+
+    /**
+     * Gets a handle to a head. Heads without an id get one derived from their
+     * texture, so the same texture is the same profile everywhere.
+     *
+     * @param customName the item name or null to use the profile name
+     * @param gameProfileName the profile name
+     * @param uuid the profile id
+     * @param texture the base64 textures property
+     * @param count the default stack size
+     * @return the head
+     */
+    public static Skull skull(final @Nullable Component customName, final String gameProfileName, final @Nullable UUID uuid, final String texture, final int count) {
+        final String interned = Objects.requireNonNullElse(TEXTURES.putIfAbsent(texture, texture), texture);
+        final UUID id = uuid != null ? uuid : UUID.nameUUIDFromBytes(interned.getBytes(StandardCharsets.UTF_8));
+        REQUESTED.incrementAndGet();
+        return new Skull(TEMPLATES.computeIfAbsent(new Key(interned, id, gameProfileName, customName), Template::new), count);
+    }
+
+    public static Stats stats() {
+        long textureBytes = 0;
+        for (final String texture : TEXTURES.keySet()) {
+            textureBytes += texture.length(); // base64 is latin1, one byte per char
+        }
+        return new Stats(REQUESTED.get(), TEMPLATES.size(), BUILT.get(), TEXTURES.size(), textureBytes);
+    }
+
+    private static ItemStack build(final Key key) {
+        final ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
+        final SkullMeta meta = (SkullMeta) Objects.requireNonNull(skull.getItemMeta());
+        final PlayerProfile profile = Bukkit.createProfile(key.uuid(), key.gameProfileName());
+        profile.setProperty(new ProfileProperty("textures", key.texture()));
+        meta.setPlayerProfile(profile);
+        if (key.customName() != null) {
+            meta.itemName(key.customName());
+        }
+        skull.setItemMeta(meta);
+        BUILT.incrementAndGet();
+        return skull;
+    }
+
+    /**
+     * Counts of the heads in the registry.
+     *
+     * @param requested handles handed out to modules
+     * @param templates distinct heads among those handles
+     * @param built templates built so far
+     * @param textures distinct textures
+     * @param textureBytes size of the distinct textures
+     */
+    public record Stats(int requested, int templates, int built, int textures, long textureBytes) {
+    }
+
+    private record Key(String texture, UUID uuid, String gameProfileName, @Nullable Component customName) {
+    }
+
+    private static final class Template {
+
+        private final Key key;
+        private volatile @Nullable ItemStack stack;
+
+        private Template(final Key key) {
+            this.key = key;
+        }
+
+        ItemStack stack() {
+            @Nullable ItemStack stack = this.stack;
+            if (stack == null) {
+                synchronized (this) {
+                    stack = this.stack;
+                    if (stack == null) {
+                        stack = build(this.key);
+                        this.stack = stack;
+                    }
+                }
+            }
+            return stack;
+        }
+    }
+
+    /**
+     * A head from the registry.
+     */
+    public static final class Skull {
+
+        private final Template template;
+        private final int count;
+
+        private Skull(final Template template, final int count) {
+            this.template = template;
+            this.count = count;
+        }
+
+        public ItemStack create() {
+            return this.create(this.count);
+        }
+
+        public ItemStack create(final int amount) {
+            final ItemStack skull = this.template.stack().clone();
+            skull.setAmount(amount);
+            return skull;
+        }
+    }
+}
@@ -30,4 +30,8 @@ class Config extends ModuleConfig {
     @Key("max-search-distance")
     @Description("Max search distance in the positive or negative Y to look for other elevators")
     public int maxVerticalSearch = 15;
+
+    @Key("particle-view-distance")
+    @Description("Distance from a player within which elevator particles are shown to them")
+    public int particleViewDistance = 32;
 }
@@ -41,7 +41,7 @@ class ItemListener implements ModuleListener {
     public void onItemDrop(final PlayerDropItemEvent event) {
         if (event.getPlayer().hasPermission("vanillatweaks.elevators.create") && event.getItemDrop().getItemStack().getType() == Material.ENDER_PEARL) {
             final ElevatorItemFinder finder = new ElevatorItemFinder(event.getItemDrop());
-            finder.setTask(SchedulerUtil.runEntityTaskTimer(this.plugin, event.getItemDrop(), t -> finder.run(), null, 1L, 1L));
+            finder.setTask(SchedulerUtil.runEntityTaskTimer(this.plugin, event.getItemDrop(), t -> finder.run(), finder::cancel, 1L, 1L));
         }
     }
 }
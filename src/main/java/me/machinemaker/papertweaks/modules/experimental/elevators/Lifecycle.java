@@ -26,28 +26,25 @@ import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.modules.ModuleRecipe;
-import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 class Lifecycle extends ModuleLifecycle {
 
-    private SchedulerUtil.Task particlesTask;
+    private final PortalParticles portalParticles;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final PortalParticles portalParticles, final Set<ModuleRecipe<?>> moduleRecipes) {
         super(plugin, commands, listeners, configs, moduleRecipes);
+        this.portalParticles = portalParticles;
     }
 
     @Override
     public void onEnable() {
-        this.particlesTask = new PortalParticles().runTaskTimer(this.getPlugin(), 1L, 10L);
+        this.portalParticles.startAll();
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        if (this.particlesTask != null && !this.particlesTask.isCancelled()) {
-            this.particlesTask.cancel();
-        }
+        this.portalParticles.stopAll();
     }
 }
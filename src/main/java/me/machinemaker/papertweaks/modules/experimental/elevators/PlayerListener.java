@@ -35,7 +35,9 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerToggleSneakEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -43,11 +45,13 @@ class PlayerListener implements ModuleListener {
 
     private final Config config;
     private final JavaPlugin plugin;
+    private final PortalParticles portalParticles;
 
     @Inject
-    PlayerListener(final Config config, final JavaPlugin plugin) {
+    PlayerListener(final Config config, final JavaPlugin plugin, final PortalParticles portalParticles) {
         this.config = config;
         this.plugin = plugin;
+        this.portalParticles = portalParticles;
     }
 
     private static boolean canUseElevator(final PlayerEvent event) {
@@ -58,6 +62,16 @@ class PlayerListener implements ModuleListener {
         return Entities.getSingleNearbyEntityOfType(Marker.class, location.subtract(0, 1, 0).getBlock().getLocation().add(0.5, 0.5, 0.5), 0.1, 0.1, 0.1, Elevators.IS_ELEVATOR::has) != null;
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        this.portalParticles.start(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.portalParticles.stop(event.getPlayer());
+    }
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(final PlayerMoveEvent event) {
         if (canUseElevator(event) && event.getPlayer().getVelocity().getY() > 0 && isOnElevator(event.getPlayer().getLocation())) {
@@ -19,45 +19,83 @@
  */
 package me.machinemaker.papertweaks.modules.experimental.elevators;
 
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Tag;
-import org.bukkit.World;
 import org.bukkit.entity.Marker;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.Plugin;
-import org.checkerframework.checker.nullness.qual.Nullable;
-
-class PortalParticles implements Runnable {
-
-    private SchedulerUtil.Task task;
-
-    @Override
-    public void run() {
-        for (final World world : Bukkit.getWorlds()) {
-            for (final Marker marker : world.getEntitiesByClass(Marker.class)) {
-                if (Elevators.IS_ELEVATOR.has(marker)) {
-                    if (!Tag.WOOL.isTagged(marker.getLocation().getBlock().getType())) {
-                        marker.remove();
-                        marker.getWorld().dropItem(marker.getLocation(), new ItemStack(Material.ENDER_PEARL));
-                        return;
-                    }
-                    marker.getWorld().spawnParticle(Particle.REVERSE_PORTAL, marker.getLocation().add(0, 0.5, 0), 1, 0.25, 0, 0.25, 0.02);
-                }
-            }
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Renders elevator particles per player, on the player's own scheduler.
+ * <p>
+ * Only elevators within the configured view distance of a player are looked up, so
+ * the lookup stays inside loaded chunks the player's region owns, and the particles
+ * are sent to that player alone. Elevators whose wool block is gone are cleaned up
+ * as players come across them.
+ */
+@Singleton
+class PortalParticles {
+
+    private static final long PERIOD = 10L;
+
+    private final JavaPlugin plugin;
+    private final Config config;
+    private final Map<UUID, SchedulerUtil.Task> tasks = new ConcurrentHashMap<>();
+
+    @Inject
+    PortalParticles(final JavaPlugin plugin, final Config config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    void start(final Player player) {
+        this.tasks.computeIfAbsent(player.getUniqueId(), uuid -> SchedulerUtil.runEntityTaskTimer(this.plugin, player, task -> this.render(player), null, 1L, PERIOD));
+    }
+
+    void stop(final Player player) {
+        final SchedulerUtil.Task task = this.tasks.remove(player.getUniqueId());
+        if (task != null) {
+            task.cancel();
         }
     }
 
-    public SchedulerUtil.Task runTaskTimer(final Plugin plugin, final long delay, final long period) {
-        this.task = SchedulerUtil.runTaskTimer(plugin, t -> this.run(), delay, period);
-        return this.task;
+    void startAll() {
+        Bukkit.getOnlinePlayers().forEach(this::start);
+    }
+
+    void stopAll() {
+        this.tasks.values().forEach(SchedulerUtil.Task::cancel);
+        this.tasks.clear();
     }
 
-    public void cancel() {
-        if (this.task != null) {
-            this.task.cancel();
+    private void render(final Player player) {
+        if (!player.isOnline()) {
+            this.stop(player);
+            return;
+        }
+        final Location playerLoc = player.getLocation();
+        final double distance = this.config.particleViewDistance;
+        for (final Marker marker : player.getWorld().getNearbyEntitiesByType(Marker.class, playerLoc, distance, Elevators.IS_ELEVATOR::has)) {
+            if (!marker.isValid()) {
+                continue; // removed while rendering for another nearby player
+            }
+            final Location markerLoc = marker.getLocation();
+            if (!Tag.WOOL.isTagged(markerLoc.getBlock().getType())) {
+                marker.remove();
+                marker.getWorld().dropItem(markerLoc, new ItemStack(Material.ENDER_PEARL));
+                continue;
+            }
+            player.spawnParticle(Particle.REVERSE_PORTAL, markerLoc.add(0, 0.5, 0), 1, 0.25, 0, 0.25, 0.02);
         }
     }
 }
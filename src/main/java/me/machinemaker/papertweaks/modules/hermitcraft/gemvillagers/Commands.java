@@ -20,6 +20,7 @@
 package me.machinemaker.papertweaks.modules.hermitcraft.gemvillagers;
 
 import com.google.inject.Inject;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.PlayerCommandDispatcher;
 import me.machinemaker.papertweaks.cloud.parsers.PseudoEnumParser;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
@@ -50,7 +51,7 @@ class Commands extends ConfiguredModuleCommand {
                 .senderType(PlayerCommandDispatcher.class)
                 .required("villager", PseudoEnumParser.singlePseudoEnumParser(this.gemVillagers.villagers.keySet()))
                 .optional("loc", LocationParser.locationParser(), dynamic(ctx -> ctx.sender().sender().getLocation()))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.at(context -> context.get("loc")), (context, player) -> {
                     final String villager = context.get("villager");
                     final Location loc = context.get("loc");
                     this.gemVillagers.villagers.get(villager).spawnVillager(loc.getWorld(), loc);
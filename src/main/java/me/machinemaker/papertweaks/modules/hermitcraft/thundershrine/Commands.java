@@ -19,6 +19,7 @@
  */
 package me.machinemaker.papertweaks.modules.hermitcraft.thundershrine;
 
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -44,7 +45,7 @@ class Commands extends ConfiguredModuleCommand {
 
         this.register(
             this.literal(builder, "create")
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final @Nullable ArmorStand stand = Entities.getSingleNearbyEntityOfType(ArmorStand.class, player.getLocation(), 3, 3, 3);
                     if (stand == null) {
                         context.sender().sendMessage(translatable("modules.thunder-shrine.commands.create.fail.no-stands", RED));
@@ -65,7 +66,7 @@ class Commands extends ConfiguredModuleCommand {
         );
         this.register(
             this.literal(builder, "remove")
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final @Nullable AreaEffectCloud cloud = Entities.getSingleNearbyEntityOfType(AreaEffectCloud.class, player.getLocation(), 3, 3, 3, c -> player.getUniqueId().equals(ThunderShrine.SHRINE.getFrom(c)));
                     if (cloud == null) {
                         context.sender().sendMessage(translatable("modules.thunder-shrine.commands.remove.fail.no-stands", RED));
@@ -30,21 +30,24 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 class Lifecycle extends ModuleLifecycle {
 
-    private final ShrineRunnable runnable;
+    private final ShrineRegistry registry;
+    private final OfferingTracker offerings;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final ShrineRunnable runnable) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final ShrineRegistry registry, final OfferingTracker offerings) {
         super(plugin, commands, listeners, configs, moduleRecipes);
-        this.runnable = runnable;
+        this.registry = registry;
+        this.offerings = offerings;
     }
 
     @Override
     public void onEnable() {
-        this.runnable.runTaskTimer(1L, 5L);
+        this.registry.registerLoaded(this.offerings::trackNear);
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        this.runnable.cancel();
+        this.offerings.cancelAll();
+        this.registry.clear();
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.hermitcraft.thundershrine;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import me.machinemaker.papertweaks.utils.Entities;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Location;
+import org.bukkit.entity.Item;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Watches nether stars near shrines. Stars elsewhere are ignored until a
+ * shrine is registered next to them, so idle stars cost nothing.
+ */
+@Singleton
+class OfferingTracker {
+
+    // stars further away won't reach the shrine, and a small box stays within the shrine's region on Folia
+    private static final double SCAN_RADIUS = 16;
+
+    private final JavaPlugin plugin;
+    private final ShrineRegistry registry;
+    private final Map<UUID, ShrineItemFinder> finders = new ConcurrentHashMap<>();
+
+    @Inject
+    OfferingTracker(final JavaPlugin plugin, final ShrineRegistry registry) {
+        this.plugin = plugin;
+        this.registry = registry;
+    }
+
+    /**
+     * Starts watching an item if it is an offering near a shrine.
+     * Must be called from the item's thread.
+     *
+     * @param item the item
+     */
+    void track(final Item item) {
+        if (!ShrineItemFinder.isOffering(item) || !this.registry.isNearAny(item.getLocation())) {
+            return;
+        }
+        final ShrineItemFinder finder = new ShrineItemFinder(item, this.plugin, this.registry, () -> this.finders.remove(item.getUniqueId()));
+        if (this.finders.putIfAbsent(item.getUniqueId(), finder) != null) {
+            return;
+        }
+        finder.setTask(SchedulerUtil.runEntityTaskTimer(this.plugin, item, t -> finder.run(), finder::cancel, 1L, 1L));
+    }
+
+    /**
+     * Starts watching the offerings around a newly registered shrine. Must
+     * be called from the thread owning the shrine's location.
+     *
+     * @param shrine the shrine location
+     */
+    void trackNear(final Location shrine) {
+        for (final Item item : Entities.getNearbyEntitiesOfType(Item.class, shrine, SCAN_RADIUS, SCAN_RADIUS, SCAN_RADIUS, ShrineItemFinder::isOffering)) {
+            this.track(item);
+        }
+    }
+
+    void cancelAll() {
+        this.finders.values().forEach(ShrineItemFinder::cancel);
+        this.finders.clear();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.hermitcraft.thundershrine;
+
+import me.machinemaker.papertweaks.utils.Entities;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import me.machinemaker.papertweaks.utils.runnables.ItemDropFinder;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static net.kyori.adventure.text.Component.translatable;
+import static net.kyori.adventure.text.format.NamedTextColor.RED;
+
+class ShrineItemFinder extends ItemDropFinder {
+
+    static final double TRIGGER_RADIUS = 0.5;
+
+    private final Plugin plugin;
+    private final ShrineRegistry registry;
+    private final Runnable onCancel;
+
+    ShrineItemFinder(final Item item, final Plugin plugin, final ShrineRegistry registry, final Runnable onCancel) {
+        super(item, 100);
+        this.plugin = plugin;
+        this.registry = registry;
+        this.onCancel = onCancel;
+    }
+
+    static boolean isOffering(final Item item) {
+        return item.getItemStack().getType() == Material.NETHER_STAR;
+    }
+
+    @Override
+    public boolean failCheck(final Item item) {
+        return item.getItemStack().getAmount() != 1;
+    }
+
+    @Override
+    public boolean keepSearching(final Item item) {
+        // stars can still roll or be pushed onto a shrine after they settle
+        return this.registry.isNearAny(item.getLocation());
+    }
+
+    @Override
+    protected void onCancel() {
+        this.onCancel.run();
+    }
+
+    @Override
+    public boolean successCheck(final Item item) {
+        final ShrineRegistry.@Nullable Shrine shrine = this.registry.find(item.getLocation(), TRIGGER_RADIUS);
+        if (shrine == null) {
+            return false;
+        }
+        item.remove();
+        final Location loc = shrine.location;
+        final World world = loc.getWorld();
+        world.spawnParticle(Particle.FLAME, loc, 100, 0, 0, 0, 0.5);
+        world.playSound(loc, Sound.ITEM_FIRECHARGE_USE, SoundCategory.MASTER, 1.0f, 1.0f);
+        world.strikeLightning(loc);
+        SchedulerUtil.runTask(this.plugin, () -> { // weather is owned by the global region
+            world.setClearWeatherDuration(0);
+            world.setWeatherDuration(6000);
+            world.setThunderDuration(6000);
+            world.setStorm(true);
+            world.setThundering(true);
+        });
+        for (final Player player : Entities.getNearbyEntitiesOfType(Player.class, loc, 5, 5, 5)) {
+            player.sendMessage(translatable("modules.thunder-shrine.ritual.success", RED));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.hermitcraft.thundershrine;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.google.inject.Inject;
+import me.machinemaker.papertweaks.modules.ModuleListener;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Location;
+import org.bukkit.entity.AreaEffectCloud;
+import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+class ShrineListener implements ModuleListener {
+
+    private final JavaPlugin plugin;
+    private final ShrineRegistry registry;
+    private final OfferingTracker offerings;
+
+    @Inject
+    ShrineListener(final JavaPlugin plugin, final ShrineRegistry registry, final OfferingTracker offerings) {
+        this.plugin = plugin;
+        this.registry = registry;
+        this.offerings = offerings;
+    }
+
+    @EventHandler
+    public void onEntityAdd(final EntityAddToWorldEvent event) {
+        if (event.getEntity() instanceof final AreaEffectCloud cloud && ThunderShrine.SHRINE.has(cloud)) {
+            this.registry.register(cloud);
+            // stars loaded before the shrine weren't near one yet, scan once the chunk finished loading
+            final Location location = cloud.getLocation();
+            SchedulerUtil.runAtLocation(this.plugin, location, () -> this.offerings.trackNear(location));
+        } else if (event.getEntity() instanceof final Item item) { // dropped, spawned or loaded with its chunk
+            this.offerings.track(item);
+        }
+    }
+
+    @EventHandler
+    public void onEntityRemove(final EntityRemoveFromWorldEvent event) {
+        if (event.getEntity() instanceof final AreaEffectCloud cloud && ThunderShrine.SHRINE.has(cloud)) {
+            this.registry.unregister(cloud);
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onItemMerge(final ItemMergeEvent event) {
+        // keep offerings separate so a single star on a shrine isn't absorbed into a stack
+        if (ShrineItemFinder.isOffering(event.getEntity()) && this.registry.find(event.getTarget().getLocation(), ShrineItemFinder.TRIGGER_RADIUS * 2) != null) {
+            event.setCancelled(true);
+        }
+    }
+}
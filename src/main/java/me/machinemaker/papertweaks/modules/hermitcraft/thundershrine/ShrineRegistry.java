@@ -0,0 +1,209 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.hermitcraft.thundershrine;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.AreaEffectCloud;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Positions of all shrines in loaded chunks, indexed by world and chunk.
+ * <p>
+ * The shrine clouds themselves are saved with their chunk, so the registry is rebuilt
+ * as their entities are added to the world and shrinks again as they are unloaded.
+ */
+@Singleton
+class ShrineRegistry {
+
+    private static final long PARTICLE_PERIOD = 5L;
+
+    private final JavaPlugin plugin;
+    private final Map<UUID, Map<Long, Set<Shrine>>> shrines = new ConcurrentHashMap<>();
+
+    @Inject
+    ShrineRegistry(final JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    void register(final AreaEffectCloud cloud) {
+        final Location loc = cloud.getLocation();
+        final Shrine shrine = new Shrine(cloud.getUniqueId(), loc);
+        final Set<Shrine> chunk = this.shrines.computeIfAbsent(loc.getWorld().getUID(), uuid -> new ConcurrentHashMap<>())
+            .computeIfAbsent(Chunk.getChunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4), key -> ConcurrentHashMap.newKeySet());
+        if (chunk.add(shrine)) {
+            shrine.particles = SchedulerUtil.runAtLocationTimer(this.plugin, loc, task -> loc.getWorld().spawnParticle(Particle.ENCHANT, loc, 1, 0.1, 0.1, 0.1, 1), PARTICLE_PERIOD, PARTICLE_PERIOD);
+        }
+    }
+
+    void unregister(final Entity cloud) {
+        final Location loc = cloud.getLocation();
+        final @Nullable Map<Long, Set<Shrine>> world = this.shrines.get(loc.getWorld().getUID());
+        if (world == null) {
+            return;
+        }
+        world.computeIfPresent(Chunk.getChunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4), (key, chunk) -> {
+            chunk.removeIf(shrine -> {
+                if (shrine.id.equals(cloud.getUniqueId())) {
+                    shrine.cancel();
+                    return true;
+                }
+                return false;
+            });
+            return chunk.isEmpty() ? null : chunk;
+        });
+    }
+
+    /**
+     * Checks if there is any shrine within a chunk of the location.
+     *
+     * @param location the location to check
+     * @return true if a shrine may be close enough to be used
+     */
+    boolean isNearAny(final Location location) {
+        final @Nullable Map<Long, Set<Shrine>> world = this.shrines.get(location.getWorld().getUID());
+        if (world == null || world.isEmpty()) {
+            return false;
+        }
+        final int chunkX = location.getBlockX() >> 4;
+        final int chunkZ = location.getBlockZ() >> 4;
+        for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+            for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                final @Nullable Set<Shrine> chunk = world.get(Chunk.getChunkKey(x, z));
+                if (chunk != null && !chunk.isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds a shrine whose position is within {@code radius} on every axis of the location.
+     *
+     * @param location the location
+     * @param radius the max distance on each axis
+     * @return the shrine or null if none are in range
+     */
+    @Nullable Shrine find(final Location location, final double radius) {
+        final @Nullable Map<Long, Set<Shrine>> world = this.shrines.get(location.getWorld().getUID());
+        if (world == null) {
+            return null;
+        }
+        final int minChunkX = ((int) Math.floor(location.getX() - radius)) >> 4;
+        final int maxChunkX = ((int) Math.floor(location.getX() + radius)) >> 4;
+        final int minChunkZ = ((int) Math.floor(location.getZ() - radius)) >> 4;
+        final int maxChunkZ = ((int) Math.floor(location.getZ() + radius)) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final @Nullable Set<Shrine> chunk = world.get(Chunk.getChunkKey(chunkX, chunkZ));
+                if (chunk == null) {
+                    continue;
+                }
+                for (final Shrine shrine : chunk) {
+                    if (Math.abs(shrine.x - location.getX()) <= radius && Math.abs(shrine.y - location.getY()) <= radius && Math.abs(shrine.z - location.getZ()) <= radius) {
+                        return shrine;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers every shrine in already loaded chunks. Used when the module is
+     * enabled while the server is running.
+     *
+     * @param registered called with each shrine's location, on the thread owning it
+     */
+    void registerLoaded(final Consumer<Location> registered) {
+        for (final World world : Bukkit.getWorlds()) {
+            for (final Chunk chunk : world.getLoadedChunks()) {
+                if (SchedulerUtil.isFolia()) {
+                    SchedulerUtil.runAtLocation(this.plugin, new Location(world, (chunk.getX() << 4) + 8, 0, (chunk.getZ() << 4) + 8), () -> this.registerAll(chunk, registered));
+                } else {
+                    this.registerAll(chunk, registered);
+                }
+            }
+        }
+    }
+
+    private void registerAll(final Chunk chunk, final Consumer<Location> registered) {
+        for (final Entity entity : chunk.getEntities()) {
+            if (entity instanceof final AreaEffectCloud cloud && ThunderShrine.SHRINE.has(cloud)) {
+                this.register(cloud);
+                registered.accept(cloud.getLocation());
+            }
+        }
+    }
+
+    void clear() {
+        this.shrines.values().forEach(world -> world.values().forEach(chunk -> chunk.forEach(Shrine::cancel)));
+        this.shrines.clear();
+    }
+
+    static final class Shrine {
+
+        final UUID id;
+        final Location location;
+        final double x;
+        final double y;
+        final double z;
+        volatile SchedulerUtil.@Nullable Task particles;
+
+        private Shrine(final UUID id, final Location location) {
+            this.id = id;
+            this.location = location;
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+        }
+
+        private void cancel() {
+            final SchedulerUtil.@Nullable Task task = this.particles;
+            if (task != null) {
+                task.cancel();
+            }
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            return this == o || (o instanceof final Shrine shrine && this.id.equals(shrine.id));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.id.hashCode();
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package me.machinemaker.papertweaks.modules.hermitcraft.treasuregems;
 
 import com.google.inject.Inject;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -48,9 +49,8 @@ class Commands extends ConfiguredModuleCommand {
             this.literal(builder, "give")
                 .required("head", singlePseudoEnumParser(this.treasureGems.heads.keySet()))
                 .optional("count", integerParser(1), constant(1))
-                .handler(this.sync((context, player) -> {
-                    final ItemStack head = this.treasureGems.heads.get((String) context.get("head")).clone();
-                    head.setAmount(context.get("count"));
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
+                    final ItemStack head = this.treasureGems.heads.get((String) context.get("head")).create(context.get("count"));
                     player.getInventory()
                         .addItem(head).values()
                         .forEach(extraHead -> player.getWorld().dropItem(player.getLocation(), extraHead, item -> item.setOwner(player.getUniqueId())));
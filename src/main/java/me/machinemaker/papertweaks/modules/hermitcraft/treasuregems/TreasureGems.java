@@ -35,14 +35,13 @@ import java.util.Set;
 import java.util.UUID;
 import me.machinemaker.papertweaks.LoggerFactory;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
+import me.machinemaker.papertweaks.common.Skulls;
 import me.machinemaker.papertweaks.config.Mixins;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
-import me.machinemaker.papertweaks.utils.PTUtils;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.loot.LootTables;
 import org.slf4j.Logger;
 
@@ -53,12 +52,12 @@ public class TreasureGems extends ModuleBase {
     static final ObjectMapper JSON_MAPPER = Mixins.registerMixins(new ObjectMapper().registerModule(new ParameterNamesModule()));
 
     final Set<LootTables> tables;
-    final Map<String, ItemStack> heads;
+    final Map<String, Skulls.Skull> heads;
 
     @Inject
     TreasureGems(@Named("plugin") final ClassLoader loader) {
         Set<LootTables> tempTables;
-        final Map<String, ItemStack> tempHeads = new HashMap<>();
+        final Map<String, Skulls.Skull> tempHeads = new HashMap<>();
         this.heads = Collections.unmodifiableMap(tempHeads);
         try {
             tempTables = JSON_MAPPER.readValue(loader.getResourceAsStream("data/treasure_gems/loot_tables.json"), new TypeReference<Set<LootTables>>() {
@@ -67,7 +66,7 @@ public class TreasureGems extends ModuleBase {
             final Iterator<Map.Entry<String, JsonNode>> iter = heads.fields();
             while (iter.hasNext()) {
                 final Map.Entry<String, JsonNode> entry = iter.next();
-                tempHeads.put(entry.getKey(), PTUtils.getSkull(GsonComponentSerializer.gson().deserialize(entry.getValue().get("name").asText()), UUID.fromString(entry.getValue().get("uuid").asText()), entry.getValue().get("texture").asText(), 1));
+                tempHeads.put(entry.getKey(), Skulls.skull(GsonComponentSerializer.gson().deserialize(entry.getValue().get("name").asText()), UUID.fromString(entry.getValue().get("uuid").asText()), entry.getValue().get("texture").asText(), 1));
             }
 
         } catch (final Exception ex) {
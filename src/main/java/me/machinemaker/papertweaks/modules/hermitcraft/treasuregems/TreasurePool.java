@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
+import me.machinemaker.papertweaks.common.Skulls;
 import me.machinemaker.papertweaks.utils.WeightedRandomList;
 import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -39,7 +40,7 @@ class TreasurePool {
         this.entries.addAll(entries);
     }
 
-    public void collectLoot(final Map<String, ItemStack> gems, final Consumer<ItemStack> stackConsumer) {
+    public void collectLoot(final Map<String, Skulls.Skull> gems, final Consumer<ItemStack> stackConsumer) {
         for (int i = 0; i < ThreadLocalRandom.current().nextInt(this.minRolls, this.maxRolls + 1); i++) {
             this.entries.next().rollSkull(gems, stackConsumer);
         }
@@ -59,15 +60,13 @@ class TreasurePool {
             this.gem = head;
         }
 
-        public void rollSkull(final Map<String, ItemStack> gems, final Consumer<ItemStack> stackConsumer) {
+        public void rollSkull(final Map<String, Skulls.Skull> gems, final Consumer<ItemStack> stackConsumer) {
             if (this.gem != null) {
-                ItemStack stack = gems.get(this.gem);
-                if (stack == null) {
+                final Skulls.@Nullable Skull skull = gems.get(this.gem);
+                if (skull == null) {
                     throw new IllegalStateException("Could not find a gem with name " + this.gem);
                 }
-                stack = stack.clone();
-                stack.setAmount(ThreadLocalRandom.current().nextInt(this.minCount, this.maxCount + 1));
-                stackConsumer.accept(stack);
+                stackConsumer.accept(skull.create(ThreadLocalRandom.current().nextInt(this.minCount, this.maxCount + 1)));
             }
         }
 
@@ -20,7 +20,7 @@
 package me.machinemaker.papertweaks.modules.hermitcraft.wanderingtrades;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import java.util.UUID;
+import me.machinemaker.papertweaks.common.Skulls;
 import me.machinemaker.papertweaks.utils.PTUtils;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -30,13 +30,13 @@ class Trade {
 
     private final int maxUses;
     private final Material secondaryCost;
-    private final ItemStack skull;
+    private final Skulls.Skull skull;
 
     @JsonCreator
     Trade(final int maxUses, final Material secondaryCost, final int headCount, final String name, final String texture) {
         this.maxUses = maxUses;
         this.secondaryCost = secondaryCost;
-        this.skull = PTUtils.getSkull(PTUtils.sanitizeName(name), null, texture, headCount);
+        this.skull = Skulls.skull(PTUtils.sanitizeName(name), null, texture, headCount);
     }
 
     public boolean isBlockTrade() {
@@ -44,7 +44,7 @@ class Trade {
     }
 
     public MerchantRecipe createTrade() {
-        final MerchantRecipe recipe = new MerchantRecipe(this.skull.clone(), this.maxUses);
+        final MerchantRecipe recipe = new MerchantRecipe(this.skull.create(), this.maxUses);
         recipe.addIngredient(new ItemStack(Material.EMERALD, 1));
         if (this.secondaryCost != Material.AIR) {
             recipe.addIngredient(new ItemStack(this.secondaryCost, 1));
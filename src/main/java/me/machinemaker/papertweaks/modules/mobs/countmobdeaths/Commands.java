@@ -20,18 +20,24 @@
 package me.machinemaker.papertweaks.modules.mobs.countmobdeaths;
 
 import com.google.inject.Inject;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
-import me.machinemaker.papertweaks.utils.boards.Scoreboards;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.execution.CommandExecutionHandler;
 
+import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.Component.translatable;
+import static net.kyori.adventure.text.format.NamedTextColor.GOLD;
 import static net.kyori.adventure.text.format.NamedTextColor.GREEN;
+import static net.kyori.adventure.text.format.NamedTextColor.RED;
 import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
+import static org.incendo.cloud.parser.standard.EnumParser.enumParser;
 
 @ModuleCommand.Info(value = "countmobdeaths", aliases = {"cmdeaths", "cmd"}, i18n = "mob-death-count", perm = "mobdeathcount")
 class Commands extends ConfiguredModuleCommand {
@@ -51,8 +57,9 @@ class Commands extends ConfiguredModuleCommand {
             this.literal(builder, "start")
             .handler(this.sync((player, context, countingBoard) -> {
                 countingBoard.setCounting(true);
-                player.setScoreboard(countingBoard.scoreboard());
+                countingBoard.show();
                 context.sender().sendMessage(translatable("modules.mob-death-count.started", GREEN));
+                this.warnIfHidden(context);
             }))
         );
         this.register(
@@ -65,24 +72,52 @@ class Commands extends ConfiguredModuleCommand {
         this.register(
             this.literal(builder, "reset")
             .handler(this.sync((player, context, countingBoard) -> {
-                countingBoard.scoreboard().getEntries().forEach(countingBoard.scoreboard()::resetScores);
+                countingBoard.reset();
                 context.sender().sendMessage(translatable("modules.mob-death-count.reset", GREEN));
             }))
         );
+        this.register(
+            this.literal(builder, "count")
+            .optional("mob", enumParser(EntityType.class))
+            .handler(this.sync((player, context, countingBoard) -> {
+                final @Nullable EntityType type = context.getOrDefault("mob", null);
+                if (type == null) {
+                    context.sender().sendMessage(translatable("modules.mob-death-count.count.total", YELLOW, text(countingBoard.total(), GOLD)));
+                } else {
+                    context.sender().sendMessage(translatable("modules.mob-death-count.count.mob", YELLOW, text(countingBoard.count(type), GOLD), translatable(type, GOLD)));
+                }
+            }))
+        );
         this.register(
             this.literal(builder, "toggle")
             .handler(this.sync((player, context, countingBoard) -> {
-                if (player.getScoreboard() == countingBoard.scoreboard()) {
-                    player.setScoreboard(Scoreboards.main());
+                if (this.warnIfHidden(context)) {
+                    return;
+                }
+                if (countingBoard.isShown()) {
+                    countingBoard.hide();
                 } else {
-                    player.setScoreboard(countingBoard.scoreboard());
+                    countingBoard.show();
                 }
             }))
         );
     }
 
+    /**
+     * Tells the sender the scoreboard can't be shown on this server.
+     *
+     * @return true if it can't be shown
+     */
+    private boolean warnIfHidden(final CommandContext<CommandDispatcher> context) {
+        if (this.countMobDeaths.canShowBoards()) {
+            return false;
+        }
+        context.sender().sendMessage(translatable("modules.mob-death-count.no-scoreboard", RED));
+        return true;
+    }
+
     private CommandExecutionHandler<CommandDispatcher> sync(final BoardHandle boardHandle) {
-        return this.sync((context, player) -> {
+        return this.execute(ExecutionTarget.SENDER, (context, player) -> {
             final CountMobDeaths.CountingBoard board = this.countMobDeaths.getOrCreateBoard(player);
             boardHandle.handle(player, context, board);
         });
@@ -30,6 +30,10 @@ import org.bukkit.entity.EntityType;
 @PTConfig
 class Config extends ModuleConfig {
 
+    @Key("flush-interval-in-ticks")
+    @Description("Time in ticks between writing the counted deaths to the scoreboards")
+    public long flushInterval = 20L;
+
     @SuppressWarnings("CollectionDeclaredAsConcreteClass") // for the config scraper
     @Key("counted-mobs")
     @Description("Any mobs listed here will be counted by the module")
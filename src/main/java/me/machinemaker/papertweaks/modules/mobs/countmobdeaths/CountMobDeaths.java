@@ -21,25 +21,35 @@ package me.machinemaker.papertweaks.modules.mobs.countmobdeaths;
 
 import com.google.inject.Inject;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
+import me.machinemaker.papertweaks.pdc.PDCKey;
+import me.machinemaker.papertweaks.utils.Keys;
 import me.machinemaker.papertweaks.utils.PlayerMapFactory;
-import me.machinemaker.papertweaks.utils.boards.Scoreboards;
+import me.machinemaker.papertweaks.utils.boards.VirtualScoreboard;
+import me.machinemaker.papertweaks.utils.boards.VirtualScoreboards;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.Criteria;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scoreboard.DisplaySlot;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Scoreboard;
-import org.bukkit.scoreboard.Team;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.Component.translatable;
 import static net.kyori.adventure.text.format.NamedTextColor.GOLD;
+import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
 
 @ModuleInfo(name = "CountMobDeaths", configPath = "mobs.count-mob-deaths", description = "Toggleable scoreboard for counting mob deaths")
 public class CountMobDeaths extends ModuleBase {
@@ -47,37 +57,43 @@ public class CountMobDeaths extends ModuleBase {
     static final String DEATH_COUNT_OBJECTIVE = "mobDeathCount";
 
     final PlayerMapFactory.PlayerMap<CountingBoard> scoreboardPlayerMap;
+    private final VirtualScoreboards virtualScoreboards;
 
     @Inject
-    public CountMobDeaths(final PlayerMapFactory factory) {
+    public CountMobDeaths(final PlayerMapFactory factory, final VirtualScoreboards virtualScoreboards) {
         this.scoreboardPlayerMap = factory.concurrent(PlayerMapFactory.Key.of("mdc_scoreboard", CountingBoard.class));
+        this.virtualScoreboards = virtualScoreboards;
     }
 
+    /**
+     * Gets or creates the counting board of a player. Must be called
+     * from the player's thread.
+     *
+     * @param player the player
+     * @return the counting board
+     */
     CountingBoard getOrCreateBoard(final Player player) {
         return this.scoreboardPlayerMap.computeIfAbsent(player, p -> {
-            final Scoreboard scoreboard = Scoreboards.manager().getNewScoreboard();
-            final Objective objective = scoreboard.registerNewObjective(DEATH_COUNT_OBJECTIVE, Criteria.DUMMY, text("No. Mob Deaths", GOLD));
-            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
-            return new CountingBoard(scoreboard);
+            final VirtualScoreboard board = this.virtualScoreboards.get(p);
+            board.objective(DEATH_COUNT_OBJECTIVE, text("No. Mob Deaths", GOLD));
+            final CountingBoard countingBoard = new CountingBoard(board);
+            countingBoard.load(p);
+            return countingBoard;
         });
     }
 
-    Objective getDeathCountObjective(final Scoreboard board) {
-        final @Nullable Objective objective = board.getObjective(DEATH_COUNT_OBJECTIVE);
-        if (objective == null) {
-            throw new IllegalArgumentException(board + " does not contain the required objective");
-        }
-        return objective;
+    boolean canShowBoards() {
+        return this.virtualScoreboards.isDisplayable();
     }
 
     @Override
     protected Class<? extends ModuleLifecycle> lifecycle() {
-        return ModuleLifecycle.Empty.class;
+        return Lifecycle.class;
     }
 
     @Override
     protected Collection<Class<? extends ModuleListener>> listeners() {
-        return Set.of(EntityListener.class);
+        return Set.of(EntityListener.class, PlayerListener.class);
     }
 
     @Override
@@ -90,17 +106,23 @@ public class CountMobDeaths extends ModuleBase {
         return Set.of(Commands.class);
     }
 
+    /**
+     * A player's counting scoreboard. Deaths are added to the counters from any
+     * thread, and only written to the player's virtual scoreboard when the
+     * counters are flushed on the player's thread.
+     */
     static final class CountingBoard {
 
-        private final Scoreboard scoreboard;
-        private boolean counting;
+        static final PDCKey<Boolean> COUNTING = PDCKey.bool(Keys.key("mob_death_counting"));
+        private static final NamespacedKey COUNTS = Keys.key("mob_death_counts");
 
-        CountingBoard(final Scoreboard scoreboard) {
-            this.scoreboard = scoreboard;
-        }
+        private final VirtualScoreboard board;
+        private final Map<EntityType, LongAdder> counts = new ConcurrentHashMap<>();
+        private final Set<String> teams = ConcurrentHashMap.newKeySet();
+        private volatile boolean counting;
 
-        public Scoreboard scoreboard() {
-            return this.scoreboard;
+        CountingBoard(final VirtualScoreboard board) {
+            this.board = board;
         }
 
         public boolean isCounting() {
@@ -111,9 +133,110 @@ public class CountMobDeaths extends ModuleBase {
             this.counting = counting;
         }
 
-        public Team getOrCreateTeam(final String teamName) {
-            final @Nullable Team team = this.scoreboard.getTeam(teamName);
-            return team != null ? team : this.scoreboard.registerNewTeam(teamName);
+        boolean isShown() {
+            return DEATH_COUNT_OBJECTIVE.equals(this.board.displayed(DisplaySlot.SIDEBAR));
+        }
+
+        void show() {
+            this.board.display(DisplaySlot.SIDEBAR, DEATH_COUNT_OBJECTIVE);
+        }
+
+        void hide() {
+            if (this.isShown()) {
+                this.board.display(DisplaySlot.SIDEBAR, null);
+            }
+        }
+
+        void record(final EntityType type) {
+            this.counts.computeIfAbsent(type, ignored -> new LongAdder()).increment();
+        }
+
+        long count(final EntityType type) {
+            final @Nullable LongAdder count = this.counts.get(type);
+            return count == null ? 0 : count.sum();
+        }
+
+        long total() {
+            long total = 0;
+            for (final LongAdder count : this.counts.values()) {
+                total += count.sum();
+            }
+            return total;
+        }
+
+        /**
+         * Writes the counters to the scoreboard.
+         *
+         * @param entryNames the scoreboard entry of each entity type
+         * @return true if any score changed
+         */
+        boolean flush(final Function<EntityType, String> entryNames) {
+            boolean changed = false;
+            for (final Map.Entry<EntityType, LongAdder> entry : this.counts.entrySet()) {
+                final int score = (int) Math.min(Integer.MAX_VALUE, entry.getValue().sum());
+                final String entryName = entryNames.apply(entry.getKey());
+                final @Nullable Integer previous = this.board.score(DEATH_COUNT_OBJECTIVE, entryName);
+                if (previous != null && previous == score) {
+                    continue;
+                }
+                final String team = teamName(entry.getKey());
+                if (!this.board.hasTeam(team)) {
+                    this.board.team(team, translatable(entry.getKey(), YELLOW), null);
+                    this.board.addTeamEntry(team, entryName);
+                    this.teams.add(team);
+                }
+                this.board.score(DEATH_COUNT_OBJECTIVE, entryName, score);
+                changed = true;
+            }
+            return changed;
+        }
+
+        void reset() {
+            this.counts.clear();
+            this.board.resetScores(DEATH_COUNT_OBJECTIVE);
+        }
+
+        /**
+         * Removes everything this module added to the player's scoreboard,
+         * including the teams of entity types whose counts were since reset.
+         */
+        void dispose() {
+            for (final String team : this.teams) {
+                this.board.removeTeam(team);
+            }
+            this.teams.clear();
+            this.board.removeObjective(DEATH_COUNT_OBJECTIVE);
+        }
+
+        void load(final Player player) {
+            this.counting = COUNTING.getFromOrDefault(player, false);
+            final @Nullable PersistentDataContainer saved = player.getPersistentDataContainer().get(COUNTS, PersistentDataType.TAG_CONTAINER);
+            if (saved == null) {
+                return;
+            }
+            for (final NamespacedKey key : saved.getKeys()) {
+                final @Nullable EntityType type = Registry.ENTITY_TYPE.get(key);
+                final @Nullable Long count = saved.get(key, PersistentDataType.LONG);
+                if (type != null && count != null) {
+                    this.counts.computeIfAbsent(type, ignored -> new LongAdder()).add(count);
+                }
+            }
+        }
+
+        void save(final Player player) {
+            COUNTING.setTo(player, this.counting);
+            final PersistentDataContainer saved = player.getPersistentDataContainer().getAdapterContext().newPersistentDataContainer();
+            this.counts.forEach((type, count) -> {
+                final long sum = count.sum();
+                if (sum > 0) {
+                    saved.set(type.getKey(), PersistentDataType.LONG, sum);
+                }
+            });
+            player.getPersistentDataContainer().set(COUNTS, PersistentDataType.TAG_CONTAINER, saved);
+        }
+
+        private static String teamName(final EntityType type) {
+            return "cmd:" + type.key().value();
         }
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.mobs.countmobdeaths;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.EnumMap;
+import java.util.Map;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import me.machinemaker.papertweaks.utils.boards.UniqueScores;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Periodically writes the counted deaths to the scoreboards, so the number
+ * of scoreboard updates depends on the flush interval and not on the kill rate.
+ */
+@Singleton
+class DeathCounter {
+
+    private final JavaPlugin plugin;
+    private final CountMobDeaths countMobDeaths;
+    private final Config config;
+    private final Map<EntityType, String> entryNames = new EnumMap<>(EntityType.class);
+    private final UniqueScores.Pool scorePool = UniqueScores.createPool();
+    private SchedulerUtil.@Nullable Task flushTask;
+
+    @Inject
+    DeathCounter(final JavaPlugin plugin, final CountMobDeaths countMobDeaths, final Config config) {
+        this.plugin = plugin;
+        this.countMobDeaths = countMobDeaths;
+        this.config = config;
+    }
+
+    void start() {
+        final long interval = Math.max(1L, this.config.flushInterval);
+        this.flushTask = SchedulerUtil.runTaskTimer(this.plugin, task -> this.flushAll(), interval, interval);
+    }
+
+    /**
+     * Stops flushing, after writing and saving the pending counts.
+     */
+    void stop() {
+        if (this.flushTask != null) {
+            this.flushTask.cancel();
+            this.flushTask = null;
+        }
+        this.countMobDeaths.scoreboardPlayerMap.forEach((player, board) -> {
+            board.flush(this::entryName);
+            board.save(player);
+        });
+    }
+
+    /**
+     * Shows the counting board again for a player that was counting
+     * when they left or the module was disabled.
+     *
+     * @param player the player
+     */
+    void resumeCounting(final Player player) {
+        if (CountMobDeaths.CountingBoard.COUNTING.getFromOrDefault(player, false)) {
+            SchedulerUtil.runEntityTask(this.plugin, player, () -> this.countMobDeaths.getOrCreateBoard(player).show(), null);
+        }
+    }
+
+    void record(final EntityType type) {
+        for (final CountMobDeaths.CountingBoard board : this.countMobDeaths.scoreboardPlayerMap.values()) {
+            if (board.isCounting()) {
+                board.record(type);
+            }
+        }
+    }
+
+    private void flushAll() {
+        this.countMobDeaths.scoreboardPlayerMap.forEach((player, board) -> SchedulerUtil.runEntityTask(this.plugin, player, () -> {
+            if (board.flush(this::entryName)) {
+                board.save(player);
+            }
+        }, null));
+    }
+
+    private synchronized String entryName(final EntityType type) {
+        return this.entryNames.computeIfAbsent(type, ignored -> this.scorePool.generate());
+    }
+}
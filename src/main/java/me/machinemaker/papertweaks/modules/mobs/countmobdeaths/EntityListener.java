@@ -20,48 +20,26 @@
 package me.machinemaker.papertweaks.modules.mobs.countmobdeaths;
 
 import com.google.inject.Inject;
-import java.util.HashMap;
-import java.util.Map;
 import me.machinemaker.papertweaks.modules.ModuleListener;
-import me.machinemaker.papertweaks.utils.boards.UniqueScores;
-import org.bukkit.entity.EntityType;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityDeathEvent;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Score;
-import org.bukkit.scoreboard.Team;
-
-import static net.kyori.adventure.text.Component.translatable;
-import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
 
 class EntityListener implements ModuleListener {
 
-    private final CountMobDeaths countMobDeaths;
+    private final DeathCounter deathCounter;
     private final Config config;
-    private final Map<EntityType, String> typeNameCache = new HashMap<>();
-    private final UniqueScores.Pool scorePool = UniqueScores.createPool();
 
     @Inject
-    EntityListener(final CountMobDeaths countMobDeaths, final Config config) {
-        this.countMobDeaths = countMobDeaths;
+    EntityListener(final DeathCounter deathCounter, final Config config) {
+        this.deathCounter = deathCounter;
         this.config = config;
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEntityDeath(final EntityDeathEvent event) {
         if (this.config.countedMobs.contains(event.getEntityType()) && event.getEntity().customName() == null) {
-            final String entryName = this.typeNameCache.computeIfAbsent(event.getEntityType(), ignored -> this.scorePool.generate());
-            for (final CountMobDeaths.CountingBoard countingBoard : this.countMobDeaths.scoreboardPlayerMap.values()) {
-                final Team team = countingBoard.getOrCreateTeam("cmd:" + event.getEntityType().key().value());
-                team.addEntry(entryName);
-                team.prefix(translatable(event.getEntityType(), YELLOW));
-                if (countingBoard.isCounting()) {
-                    final Objective objective = this.countMobDeaths.getDeathCountObjective(countingBoard.scoreboard());
-                    final Score score = objective.getScore(entryName);
-                    score.setScore(score.getScore() + 1);
-                }
-            }
+            this.deathCounter.record(event.getEntityType());
         }
     }
 
@@ -26,7 +26,7 @@ import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.modules.ModuleRecipe;
-import me.machinemaker.papertweaks.utils.boards.Scoreboards;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import static net.kyori.adventure.text.Component.translatable;
@@ -34,28 +34,36 @@ import static net.kyori.adventure.text.Component.translatable;
 final class Lifecycle extends ModuleLifecycle {
 
     private final CountMobDeaths countMobDeaths;
+    private final DeathCounter deathCounter;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final CountMobDeaths countMobDeaths) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final CountMobDeaths countMobDeaths, final DeathCounter deathCounter) {
         super(plugin, commands, listeners, configs, moduleRecipes);
         this.countMobDeaths = countMobDeaths;
+        this.deathCounter = deathCounter;
+    }
+
+    @Override
+    public void onEnable() {
+        this.deathCounter.start();
+        Bukkit.getOnlinePlayers().forEach(this.deathCounter::resumeCounting);
     }
 
     @Override
     public void onReload() {
-        this.resetBoards("modules.mob-death-count.reload-msg");
+        this.deathCounter.stop();
+        this.deathCounter.start();
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
+        this.deathCounter.stop();
         this.resetBoards("modules.mob-death-count.disabled-msg");
     }
 
     private void resetBoards(final String msg) {
         this.countMobDeaths.scoreboardPlayerMap.forEach((player, countingBoard) -> {
-            if (player.getScoreboard() == countingBoard.scoreboard()) {
-                player.setScoreboard(Scoreboards.main());
-            }
+            countingBoard.dispose();
             if (countingBoard.isCounting()) {
                 player.sendMessage(translatable(msg));
             }
@@ -0,0 +1,54 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.mobs.countmobdeaths;
+
+import com.google.inject.Inject;
+import me.machinemaker.papertweaks.modules.ModuleListener;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+class PlayerListener implements ModuleListener {
+
+    private final CountMobDeaths countMobDeaths;
+    private final DeathCounter deathCounter;
+
+    @Inject
+    PlayerListener(final CountMobDeaths countMobDeaths, final DeathCounter deathCounter) {
+        this.countMobDeaths = countMobDeaths;
+        this.deathCounter = deathCounter;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        this.deathCounter.resumeCounting(event.getPlayer());
+    }
+
+    // before PlayerMapFactory drops the board
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        final CountMobDeaths.@Nullable CountingBoard board = this.countMobDeaths.scoreboardPlayerMap.get(event.getPlayer());
+        if (board != null) {
+            board.save(event.getPlayer());
+        }
+    }
+}
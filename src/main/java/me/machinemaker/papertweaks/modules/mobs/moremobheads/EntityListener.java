@@ -20,7 +20,6 @@
 package me.machinemaker.papertweaks.modules.mobs.moremobheads;
 
 import com.google.inject.Inject;
-import java.util.Collection;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.utils.PTUtils;
 import org.bukkit.enchantments.Enchantment;
@@ -65,17 +64,9 @@ class EntityListener implements ModuleListener {
             lootingLevel = event.getEntity().getKiller().getInventory().getItemInMainHand().getEnchantmentLevel(Enchantment.FORTUNE);
         }
 
-        final Collection<MobHead> heads = this.moreMobHeads.getMobHeads(entity.getType());
-        if (heads.isEmpty()) {
-            return;
-        }
-        for (final MobHead head : heads) {
-            if (head.test(event.getEntity())) {
-                if (head.chance(lootingLevel)) {
-                    event.getDrops().add(head.createSkull());
-                }
-                break;
-            }
+        final @Nullable MobHead head = this.moreMobHeads.findHead(entity);
+        if (head != null && head.chance(lootingLevel)) {
+            event.getDrops().add(head.createSkull());
         }
     }
 }
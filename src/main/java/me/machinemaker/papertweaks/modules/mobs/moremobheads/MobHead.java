@@ -31,9 +31,10 @@ import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import me.machinemaker.papertweaks.common.Skulls;
 import me.machinemaker.papertweaks.config.Mixins;
-import me.machinemaker.papertweaks.utils.PTUtils;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.bukkit.entity.EntityType;
@@ -46,19 +47,21 @@ final class MobHead {
     private static final ObjectMapper MAPPER = Mixins.registerMixins(new ObjectMapper().registerModule(new ParameterNamesModule()));
     private final String lootTable;
     private final String name;
-    private final ItemStack skull;
+    private final Skulls.Skull skull;
     @SuppressWarnings({"FieldCanBeLocal", "unused"})
     private final boolean needsPlayer; // TODO
     private final boolean requiresCustomization;
     private final float chance;
     private final float lootingMultiplier;
+    private @Nullable Function<? extends LivingEntity, ?> variantProperty;
+    private @Nullable Object variantValue;
     private @Nullable Predicate<? extends LivingEntity> predicate;
 
     @JsonCreator
     MobHead(@JsonProperty("tableName") final String lootTable, final UUID uuid, final String name, final String texture, final boolean needsPlayer, final boolean requiresCustomization, final float chance, final float lootingMultiplier) {
         this.lootTable = lootTable;
         this.name = name;
-        this.skull = PTUtils.getSkull(name, uuid, texture);
+        this.skull = Skulls.skull(name, uuid, texture);
         this.needsPlayer = needsPlayer;
         this.requiresCustomization = requiresCustomization;
         this.chance = chance;
@@ -102,7 +105,7 @@ final class MobHead {
     }
 
     public ItemStack createSkull() {
-        return this.skull.clone();
+        return this.skull.create();
     }
 
     public boolean requiresCustomization() {
@@ -110,11 +113,14 @@ final class MobHead {
     }
 
     @SuppressWarnings("unchecked")
-    public <E extends LivingEntity> boolean test(final E entity) {
-        if (this.predicate == null) {
-            return true;
+    void register(final MobHeadDispatch.Builder<EntityType, LivingEntity, MobHead> dispatch, final EntityType type) {
+        if (this.variantProperty != null) {
+            dispatch.keyed(type, this, (Function<LivingEntity, ?>) this.variantProperty, this.variantValue);
+        } else if (this.predicate != null) {
+            dispatch.guarded(type, this, (Predicate<LivingEntity>) this.predicate);
+        } else {
+            dispatch.always(type, this);
         }
-        return ((Predicate<E>) this.predicate).test(entity);
     }
 
     public boolean chance(final int lootingLevel) {
@@ -124,4 +130,9 @@ final class MobHead {
     public void predicate(final Predicate<? extends LivingEntity> predicate) {
         this.predicate = predicate;
     }
+
+    public <E extends LivingEntity, V> void variant(final Function<E, V> property, final V value) {
+        this.variantProperty = property;
+        this.variantValue = value;
+    }
 }
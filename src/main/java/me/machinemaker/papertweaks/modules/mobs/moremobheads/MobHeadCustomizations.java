@@ -19,6 +19,7 @@
  */
 package me.machinemaker.papertweaks.modules.mobs.moremobheads;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.DyeColor;
@@ -44,6 +45,23 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class MobHeadCustomizations {
 
+    // one instance per property, heads of a type sharing it are looked up by its value
+    private static final Function<Cat, Cat.Type> CAT_TYPE = Cat::getCatType;
+    private static final Function<Llama, Llama.Color> LLAMA_COLOR = Llama::getColor;
+    private static final Function<TraderLlama, Llama.Color> TRADER_LLAMA_COLOR = TraderLlama::getColor;
+    private static final Function<Panda, Panda.Gene> PANDA_MAIN_GENE = Panda::getMainGene;
+    private static final Function<Goat, Boolean> GOAT_SCREAMING = Goat::isScreaming;
+    private static final Function<Fox, Fox.Type> FOX_TYPE = Fox::getFoxType;
+    private static final Function<Parrot, Parrot.Variant> PARROT_VARIANT = Parrot::getVariant;
+    private static final Function<Horse, Horse.Color> HORSE_COLOR = Horse::getColor;
+    private static final Function<Rabbit, Rabbit.Type> RABBIT_TYPE = Rabbit::getRabbitType;
+    private static final Function<Axolotl, Axolotl.Variant> AXOLOTL_VARIANT = Axolotl::getVariant;
+    private static final Function<ZombieVillager, Villager.Profession> ZOMBIE_VILLAGER_PROFESSION = ZombieVillager::getVillagerProfession;
+    private static final Function<MushroomCow, MushroomCow.Variant> MOOSHROOM_VARIANT = MushroomCow::getVariant;
+    private static final Function<Villager, Villager.Profession> VILLAGER_PROFESSION = Villager::getProfession;
+    private static final Function<Sheep, @Nullable DyeColor> SHEEP_COLOR = Sheep::getColor;
+    private static final Function<Frog, Frog.Variant> FROG_VARIANT = Frog::getVariant;
+
     private MobHeadCustomizations() {
     }
 
@@ -129,8 +147,7 @@ final class MobHeadCustomizations {
             case "Black Cat" -> Cat.Type.ALL_BLACK;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid cat name");
         };
-        final Predicate<Cat> catPredicate = cat -> cat.getCatType() == type;
-        head.predicate(catPredicate);
+        head.variant(CAT_TYPE, type);
     }
 
     private static void creeper(final MobHead head) {
@@ -150,22 +167,29 @@ final class MobHeadCustomizations {
             case "Gray Llama" -> Llama.Color.GRAY;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid llama name");
         };
-        final Predicate<Llama> llamaPredicate = llama -> llama.getColor() == color;
-        head.predicate(llamaPredicate);
+        head.variant(LLAMA_COLOR, color);
     }
 
     private static void panda(final MobHead head) {
-        final Predicate<Panda> pandaPredicate = switch (head.name()) {
-            case "Aggressive Panda" -> panda -> panda.getMainGene() == Panda.Gene.AGGRESSIVE;
-            case "Lazy Panda" -> panda -> panda.getMainGene() == Panda.Gene.LAZY;
-            case "Playful Panda" -> panda -> panda.getMainGene() == Panda.Gene.PLAYFUL;
-            case "Worried Panda" -> panda -> panda.getMainGene() == Panda.Gene.WORRIED;
+        // recessive genes only show if both genes match, so those can't be keyed by the main gene
+        final Predicate<Panda> recessivePredicate = switch (head.name()) {
             case "Brown Panda" -> panda -> panda.getMainGene() == Panda.Gene.BROWN && panda.getHiddenGene() == Panda.Gene.BROWN;
             case "Weak Panda" -> panda -> panda.getMainGene() == Panda.Gene.WEAK && panda.getHiddenGene() == Panda.Gene.WEAK;
-            case "Panda" -> panda -> panda.getMainGene() == Panda.Gene.NORMAL;
+            default -> null;
+        };
+        if (recessivePredicate != null) {
+            head.predicate(recessivePredicate);
+            return;
+        }
+        final Panda.Gene gene = switch (head.name()) {
+            case "Aggressive Panda" -> Panda.Gene.AGGRESSIVE;
+            case "Lazy Panda" -> Panda.Gene.LAZY;
+            case "Playful Panda" -> Panda.Gene.PLAYFUL;
+            case "Worried Panda" -> Panda.Gene.WORRIED;
+            case "Panda" -> Panda.Gene.NORMAL;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid panda name");
         };
-        head.predicate(pandaPredicate);
+        head.variant(PANDA_MAIN_GENE, gene);
     }
 
     private static void traderLlama(final MobHead head) {
@@ -176,17 +200,16 @@ final class MobHeadCustomizations {
             case "Gray Trader Llama" -> Llama.Color.GRAY;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid trader llama name");
         };
-        final Predicate<TraderLlama> llamaPredicate = llama -> llama.getColor() == color;
-        head.predicate(llamaPredicate);
+        head.variant(TRADER_LLAMA_COLOR, color);
     }
 
     private static void goat(final MobHead head) {
-        final Predicate<Goat> goatPredicate = switch (head.name()) {
-            case "Goat" -> Predicate.not(Goat::isScreaming);
-            case "Screaming Goat" -> Goat::isScreaming;
+        final boolean screaming = switch (head.name()) {
+            case "Goat" -> false;
+            case "Screaming Goat" -> true;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid goat name");
         };
-        head.predicate(goatPredicate);
+        head.variant(GOAT_SCREAMING, screaming);
     }
 
     private static void bee(final MobHead head) {
@@ -207,8 +230,7 @@ final class MobHeadCustomizations {
             case "Snow Fox" -> Fox.Type.SNOW;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid fox name");
         };
-        final Predicate<Fox> foxPredicate = fox -> fox.getFoxType() == type;
-        head.predicate(foxPredicate);
+        head.variant(FOX_TYPE, type);
     }
 
     private static void parrot(final MobHead head) {
@@ -220,8 +242,7 @@ final class MobHeadCustomizations {
             case "Gray Parrot" -> Parrot.Variant.GRAY;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid parrot name");
         };
-        final Predicate<Parrot> parrotPredicate = parrot -> parrot.getVariant() == variant;
-        head.predicate(parrotPredicate);
+        head.variant(PARROT_VARIANT, variant);
     }
 
     private static void horse(final MobHead head) {
@@ -235,8 +256,7 @@ final class MobHeadCustomizations {
             case "Dark Brown Horse" -> Horse.Color.DARK_BROWN;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid horse name");
         };
-        final Predicate<Horse> horsePredicate = horse -> horse.getColor() == color;
-        head.predicate(horsePredicate);
+        head.variant(HORSE_COLOR, color);
     }
 
     // TODO
@@ -244,18 +264,22 @@ final class MobHeadCustomizations {
     // }
 
     private static void rabbit(final MobHead head) {
-        final Predicate<Rabbit> rabbitPredicate = switch (head.name()) {
-            case "Toast" -> rabbit -> "Toast".equals(PlainTextComponentSerializer.plainText().serializeOrNull(rabbit.customName()));
-            case "Brown Rabbit" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.BROWN;
-            case "White Rabbit" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.WHITE;
-            case "Black Rabbit" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.BLACK;
-            case "Black and White Rabbit" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.BLACK_AND_WHITE;
-            case "Gold Rabbit" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.GOLD;
-            case "Salt and Pepper Rabbit" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.SALT_AND_PEPPER;
-            case "The Killer Bunny" -> rabbit -> rabbit.getRabbitType() == Rabbit.Type.THE_KILLER_BUNNY;
+        if (head.name().equals("Toast")) {
+            final Predicate<Rabbit> rabbitPredicate = rabbit -> "Toast".equals(PlainTextComponentSerializer.plainText().serializeOrNull(rabbit.customName()));
+            head.predicate(rabbitPredicate);
+            return;
+        }
+        final Rabbit.Type type = switch (head.name()) {
+            case "Brown Rabbit" -> Rabbit.Type.BROWN;
+            case "White Rabbit" -> Rabbit.Type.WHITE;
+            case "Black Rabbit" -> Rabbit.Type.BLACK;
+            case "Black and White Rabbit" -> Rabbit.Type.BLACK_AND_WHITE;
+            case "Gold Rabbit" -> Rabbit.Type.GOLD;
+            case "Salt and Pepper Rabbit" -> Rabbit.Type.SALT_AND_PEPPER;
+            case "The Killer Bunny" -> Rabbit.Type.THE_KILLER_BUNNY;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid rabbit name");
         };
-        head.predicate(rabbitPredicate);
+        head.variant(RABBIT_TYPE, type);
     }
 
     private static void axolotl(final MobHead head) {
@@ -267,8 +291,7 @@ final class MobHeadCustomizations {
             case "Blue Axolotl" -> Axolotl.Variant.BLUE;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid axolotl name");
         };
-        final Predicate<Axolotl> axolotlPredicate = axolotl -> axolotl.getVariant() == variant;
-        head.predicate(axolotlPredicate);
+        head.variant(AXOLOTL_VARIANT, variant);
     }
 
     private static void zombieVillager(final MobHead head) {
@@ -290,8 +313,7 @@ final class MobHeadCustomizations {
             case "Zombie Weaponsmith" -> Villager.Profession.WEAPONSMITH;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid zombie villager name");
         };
-        final Predicate<ZombieVillager> zombieVillagerPredicate = zombieVillager -> zombieVillager.getVillagerProfession() == profession;
-        head.predicate(zombieVillagerPredicate);
+        head.variant(ZOMBIE_VILLAGER_PROFESSION, profession);
     }
 
     private static void mooshroom(final MobHead head) {
@@ -300,8 +322,7 @@ final class MobHeadCustomizations {
             case "Brown Mooshroom" -> MushroomCow.Variant.BROWN;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid mooshroom cow name");
         };
-        final Predicate<MushroomCow> mushroomCowPredicate = mushroomCow -> mushroomCow.getVariant() == variant;
-        head.predicate(mushroomCowPredicate);
+        head.variant(MOOSHROOM_VARIANT, variant);
     }
 
     private static void villager(final MobHead head) {
@@ -323,8 +344,7 @@ final class MobHeadCustomizations {
             case "Weaponsmith Villager" -> Villager.Profession.WEAPONSMITH;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid villager name");
         };
-        final Predicate<Villager> villagerPredicate = villager -> villager.getProfession() == profession;
-        head.predicate(villagerPredicate);
+        head.variant(VILLAGER_PROFESSION, profession);
     }
 
     private static void sheep(final MobHead head) {
@@ -352,8 +372,7 @@ final class MobHeadCustomizations {
             case "Gray Sheep" -> DyeColor.GRAY;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid sheep name");
         };
-        final Predicate<Sheep> sheepPredicate = sheep -> sheep.getColor() == dyeColor;
-        head.predicate(sheepPredicate);
+        head.variant(SHEEP_COLOR, dyeColor);
     }
 
     private static void frog(final MobHead head) {
@@ -363,19 +382,14 @@ final class MobHeadCustomizations {
             case "Warm Frog" -> Frog.Variant.WARM;
             default -> throw new IllegalArgumentException(head.name() + " isn't a valid frog name");
         };
-        final Predicate<Frog> frogPredicate = frog -> frog.getVariant() == variant;
-        head.predicate(frogPredicate);
+        head.variant(FROG_VARIANT, variant);
     }
 
     private static void wolf(final MobHead head) {
-        final Predicate<Wolf> wolfPredicate = wolf -> {
-            if (head.name().equals("Angry Wolf")) {
-                return wolf.isAngry();
-            } else {
-                return true;
-            }
-        };
-        head.predicate(wolfPredicate);
+        if (head.name().equals("Angry Wolf")) {
+            final Predicate<Wolf> wolfPredicate = Wolf::isAngry;
+            head.predicate(wolfPredicate);
+        }
     }
 
 }
@@ -0,0 +1,162 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.mobs.moremobheads;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Finds the head a killed mob drops without testing every head of its type.
+ * <p>
+ * The heads of a type are either keyed by the value of one variant property
+ * (colour, profession and so on), guarded by another predicate, or
+ * unconditional. A lookup reads the variant property once and only tests
+ * the guarded heads declared before that candidate, so the first matching
+ * head in declaration order still wins.
+ *
+ * @param <K> the mob type
+ * @param <E> the mob
+ * @param <H> the head
+ */
+final class MobHeadDispatch<K, E, H> {
+
+    private final Map<K, Table<E, H>> tables;
+
+    private MobHeadDispatch(final Map<K, Table<E, H>> tables) {
+        this.tables = tables;
+    }
+
+    static <K, E, H> Builder<K, E, H> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Finds the first head matching a mob.
+     *
+     * @param type the type of the mob
+     * @param entity the mob
+     * @return the head or null if none match
+     */
+    @Nullable H find(final K type, final E entity) {
+        final @Nullable Table<E, H> table = this.tables.get(type);
+        return table == null ? null : table.find(entity);
+    }
+
+    private record Keyed<H>(int index, H head) {
+    }
+
+    private static final class Table<E, H> {
+
+        private @Nullable Function<? super E, ?> property;
+        private final Map<@Nullable Object, Keyed<H>> byValue = new HashMap<>();
+        private final List<Predicate<? super E>> guards = new ArrayList<>();
+        private final List<Keyed<H>> guarded = new ArrayList<>();
+        private int fallbackIndex = Integer.MAX_VALUE;
+        private @Nullable H fallback;
+        private int size;
+
+        void keyed(final H head, final Function<? super E, ?> property, final @Nullable Object value) {
+            if (this.property == null) {
+                this.property = property;
+            } else if (this.property != property) { // only one property is looked up, test the others
+                this.guarded(head, entity -> Objects.equals(property.apply(entity), value));
+                return;
+            }
+            this.byValue.putIfAbsent(value, new Keyed<>(this.size++, head));
+        }
+
+        void guarded(final H head, final Predicate<? super E> guard) {
+            this.guards.add(guard);
+            this.guarded.add(new Keyed<>(this.size++, head));
+        }
+
+        void always(final H head) {
+            if (this.fallback == null) {
+                this.fallbackIndex = this.size;
+                this.fallback = head;
+            }
+            this.size++;
+        }
+
+        @Nullable H find(final E entity) {
+            int bestIndex = this.fallbackIndex;
+            @Nullable H best = this.fallback;
+            if (this.property != null) {
+                final @Nullable Keyed<H> keyed = this.byValue.get(this.property.apply(entity));
+                if (keyed != null && keyed.index() < bestIndex) {
+                    bestIndex = keyed.index();
+                    best = keyed.head();
+                }
+            }
+            for (int i = 0; i < this.guards.size(); i++) {
+                final Keyed<H> guarded = this.guarded.get(i);
+                if (guarded.index() >= bestIndex) {
+                    break;
+                }
+                if (this.guards.get(i).test(entity)) {
+                    return guarded.head();
+                }
+            }
+            return best;
+        }
+    }
+
+    static final class Builder<K, E, H> {
+
+        private final Map<K, Table<E, H>> tables = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a head for mobs whose variant property has a value. Heads of
+         * the same type should share one property function instance.
+         */
+        Builder<K, E, H> keyed(final K type, final H head, final Function<? super E, ?> property, final @Nullable Object value) {
+            this.table(type).keyed(head, property, value);
+            return this;
+        }
+
+        Builder<K, E, H> guarded(final K type, final H head, final Predicate<? super E> guard) {
+            this.table(type).guarded(head, guard);
+            return this;
+        }
+
+        Builder<K, E, H> always(final K type, final H head) {
+            this.table(type).always(head);
+            return this;
+        }
+
+        MobHeadDispatch<K, E, H> build() {
+            return new MobHeadDispatch<>(Map.copyOf(this.tables));
+        }
+
+        private Table<E, H> table(final K type) {
+            return this.tables.computeIfAbsent(type, ignored -> new Table<>());
+        }
+    }
+}
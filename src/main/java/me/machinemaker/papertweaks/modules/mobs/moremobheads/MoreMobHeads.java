@@ -32,6 +32,8 @@ import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 
 @ModuleInfo(name = "MoreMobHeads", configPath = "mobs.more-mob-heads", description = "Adds heads for a lot more mobs")
@@ -40,16 +42,24 @@ public class MoreMobHeads extends ModuleBase {
     static final Logger LOGGER = LoggerFactory.getModuleLogger(MoreMobHeads.class);
 
     private final Multimap<EntityType, MobHead> heads;
+    private final MobHeadDispatch<EntityType, LivingEntity, MobHead> dispatch;
 
     @Inject
     MoreMobHeads(@Named("plugin") final ClassLoader loader) {
         this.heads = MobHead.createMobHeadMap(loader);
+        final MobHeadDispatch.Builder<EntityType, LivingEntity, MobHead> builder = MobHeadDispatch.builder();
+        this.heads.forEach((type, head) -> head.register(builder, type));
+        this.dispatch = builder.build();
     }
 
     Collection<MobHead> getMobHeads(final EntityType entityType) {
         return this.heads.get(entityType);
     }
 
+    @Nullable MobHead findHead(final LivingEntity entity) {
+        return this.dispatch.find(entity.getType(), entity);
+    }
+
     @Override
     protected Class<? extends ModuleLifecycle> lifecycle() {
         return Lifecycle.class;
@@ -23,7 +23,6 @@ import java.util.Collection;
 import java.util.Set;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
 import me.machinemaker.papertweaks.modules.ModuleBase;
-import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.pdc.PDCKey;
@@ -43,9 +42,4 @@ public class AFKDisplay extends ModuleBase {
     protected Collection<Class<? extends ModuleListener>> listeners() {
         return Set.of(PlayerListener.class);
     }
-
-    @Override
-    protected Collection<Class<? extends ModuleConfig>> configs() {
-        return Set.of(Config.class);
-    }
 }
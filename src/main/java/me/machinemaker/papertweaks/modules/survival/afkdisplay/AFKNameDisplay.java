@@ -0,0 +1,58 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.afkdisplay;
+
+import com.google.inject.Singleton;
+import me.machinemaker.papertweaks.afk.AFKService;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import static net.kyori.adventure.text.format.NamedTextColor.GRAY;
+
+@Singleton
+class AFKNameDisplay implements AFKService.ChangeListener {
+
+    @Override
+    public void onChange(final Player player, final boolean afk) {
+        if (afk) {
+            this.show(player);
+        } else {
+            this.hide(player);
+        }
+    }
+
+    void show(final Player player) {
+        if (!player.hasPermission("vanillatweaks.afkdisplay") || AFKDisplay.AFK_DISPLAY.has(player)) {
+            return;
+        }
+        final Component newName = player.displayName().color(GRAY);
+        player.displayName(newName);
+        player.playerListName(newName);
+        AFKDisplay.AFK_DISPLAY.setTo(player, true);
+    }
+
+    void hide(final Player player) {
+        if (AFKDisplay.AFK_DISPLAY.has(player)) {
+            player.displayName(null);
+            player.playerListName(null);
+            AFKDisplay.AFK_DISPLAY.remove(player);
+        }
+    }
+}
@@ -21,32 +21,43 @@ package me.machinemaker.papertweaks.modules.survival.afkdisplay;
 
 import com.google.inject.Inject;
 import java.util.Set;
+import me.machinemaker.papertweaks.afk.AFKService;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.modules.ModuleRecipe;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
 class Lifecycle extends ModuleLifecycle {
 
-    private final AFKRunnable afkRunnable;
+    private final AFKService afkService;
+    private final AFKNameDisplay display;
 
     @Inject
-    protected Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final AFKRunnable afkRunnable, final Set<ModuleRecipe<?>> moduleRecipes) {
+    protected Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final AFKService afkService, final AFKNameDisplay display, final Set<ModuleRecipe<?>> moduleRecipes) {
         super(plugin, commands, listeners, configs, moduleRecipes);
-        this.afkRunnable = afkRunnable;
+        this.afkService = afkService;
+        this.display = display;
     }
 
     @Override
     public void onEnable() {
-        Bukkit.getOnlinePlayers().forEach(this.afkRunnable::addPlayer);
-        this.afkRunnable.runTaskTimer(1L, 20L);
+        this.afkService.addListener(this.display);
+        Bukkit.getOnlinePlayers().forEach(player -> SchedulerUtil.runEntityTask(this.getPlugin(), player, () -> {
+            if (this.afkService.isAFK(player)) {
+                this.display.show(player);
+            }
+        }, null));
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        this.afkRunnable.cancel();
+        this.afkService.removeListener(this.display);
+        if (!isShutdown) {
+            Bukkit.getOnlinePlayers().forEach(player -> SchedulerUtil.runEntityTask(this.getPlugin(), player, () -> this.display.hide(player), null));
+        }
     }
 }
@@ -19,34 +19,15 @@
  */
 package me.machinemaker.papertweaks.modules.survival.afkdisplay;
 
-import com.google.inject.Inject;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 class PlayerListener implements ModuleListener {
 
-    private final AFKRunnable afkRunnable;
-
-    @Inject
-    PlayerListener(final AFKRunnable afkRunnable) {
-        this.afkRunnable = afkRunnable;
-    }
-
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-        if (AFKDisplay.AFK_DISPLAY.has(event.getPlayer())) {
-            event.getPlayer().displayName(null);
-            event.getPlayer().playerListName(null);
-            AFKDisplay.AFK_DISPLAY.remove(event.getPlayer());
-            this.afkRunnable.addPlayer(event.getPlayer());
-        }
-    }
-
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerJoin(final PlayerJoinEvent event) {
-        this.afkRunnable.addPlayer(event.getPlayer());
+        AFKDisplay.AFK_DISPLAY.remove(event.getPlayer()); // left while AFK
     }
 }
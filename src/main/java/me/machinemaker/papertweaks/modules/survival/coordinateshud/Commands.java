@@ -20,6 +20,7 @@
 package me.machinemaker.papertweaks.modules.survival.coordinateshud;
 
 import com.google.inject.Inject;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
@@ -36,24 +37,24 @@ import static net.kyori.adventure.text.format.TextDecoration.ITALIC;
 @ModuleCommand.Info(value = "togglehud", aliases = "thud", descriptionKey = "modules.coordinates-hud.commands", infoOnRoot = false)
 class Commands extends ModuleCommand {
 
-    private final HUDRunnable hudRunnable;
+    private final HUDManager hudManager;
 
     @Inject
-    Commands(final HUDRunnable hudRunnable) {
-        this.hudRunnable = hudRunnable;
+    Commands(final HUDManager hudManager) {
+        this.hudManager = hudManager;
     }
 
     @Override
     protected void registerCommands() {
         this.register(this.player()
             .permission(this.modulePermission("vanillatweaks.coordinateshud.togglehud"))
-            .handler(this.sync((context, player) -> {
-                if (this.hudRunnable.contains(player)) {
-                    this.hudRunnable.setAndRemove(player);
+            .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
+                if (this.hudManager.contains(player)) {
+                    this.hudManager.setAndRemove(player);
                     context.sender().sendMessage(translatable("modules.coordinates-hud.hud-off", GREEN));
                     context.sender().sendActionBar(Component.empty());
                 } else {
-                    this.hudRunnable.setAndAdd(player);
+                    this.hudManager.setAndAdd(player);
                     context.sender().sendMessage(translatable("modules.coordinates-hud.hud-on", GREEN));
                 }
             }))
@@ -66,11 +67,11 @@ class Commands extends ModuleCommand {
             .handler(this.sync(context -> {
                 final MultiplePlayerSelector players = context.get("players");
                 for (final Player player : players.values()) {
-                    if (this.hudRunnable.contains(player)) {
-                        this.hudRunnable.setAndRemove(player);
+                    if (this.hudManager.contains(player)) {
+                        this.hudManager.setAndRemove(player);
                         player.sendActionBar(Component.empty());
                     } else {
-                        this.hudRunnable.setAndAdd(player);
+                        this.hudManager.setAndAdd(player);
                     }
                 }
                 context.sender().sendMessage(translatable("modules.coordinates-hud.hud-toggled-for", style(GRAY, ITALIC), text(players.values().size())));
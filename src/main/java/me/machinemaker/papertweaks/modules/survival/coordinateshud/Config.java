@@ -28,10 +28,18 @@ import me.machinemaker.papertweaks.modules.ModuleConfig;
 class Config extends ModuleConfig {
 
     @Key("hud-update-time-in-ticks")
-    @Description("Time in ticks between updates of the HUD in the player's action bar")
+    @Description("Time in ticks between checks for changes to the HUD in the player's action bar")
     public long ticks = 2L;
 
     @Key("enabled-by-default")
     @Description("Enabling this will set the player's HUD to be on when they join the game for the first time")
     public boolean enabledByDefault = false;
+
+    @Key("pause-while-afk")
+    @Description("Stop updating the HUD for players who are AFK")
+    public boolean pauseWhileAFK = true;
+
+    @Key("template")
+    @Description("Layout of the HUD. Fields: {x}, {y}, {z}, {direction}, {time}, {biome}, {chunk}, {light}, {speed}. Pad a field to a width with {field:width}. Colors: <gold>, <#ff8800>")
+    public String template = HUDTemplate.DEFAULT;
 }
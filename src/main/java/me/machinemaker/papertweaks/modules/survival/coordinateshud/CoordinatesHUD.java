@@ -21,16 +21,20 @@ package me.machinemaker.papertweaks.modules.survival.coordinateshud;
 
 import java.util.Collection;
 import java.util.Set;
+import me.machinemaker.papertweaks.LoggerFactory;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
 import me.machinemaker.papertweaks.modules.ModuleListener;
+import org.slf4j.Logger;
 
 @ModuleInfo(name = "CoordinatesHUD", configPath = "survival.coordinates-hud", description = "A helpful HUD for showing coordinates and direction")
 public class CoordinatesHUD extends ModuleBase {
 
+    static final Logger LOGGER = LoggerFactory.getModuleLogger(CoordinatesHUD.class);
+
     @Override
     protected Class<? extends ModuleLifecycle> lifecycle() {
         return Lifecycle.class;
@@ -0,0 +1,170 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2021-2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.coordinateshud;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import me.machinemaker.papertweaks.afk.AFKService;
+import me.machinemaker.papertweaks.pdc.PDCKey;
+import me.machinemaker.papertweaks.utils.Keys;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Shows the HUD to players, with one timer per player on their entity scheduler.
+ * <p>
+ * Each HUD remembers the values it last showed and only renders and resends the
+ * action bar when one of them changes, or when the action bar is about to fade out.
+ * Values the {@link HUDTemplate} doesn't use aren't computed.
+ */
+@Singleton
+class HUDManager {
+
+    private static final PDCKey<Boolean> COORDINATES_HUD_KEY = PDCKey.bool(Keys.legacyKey("coordinateshud"));
+    private static final long KEEP_ALIVE_TICKS = 40L; // action bars start fading after 40 ticks
+
+    private final JavaPlugin plugin;
+    private final Config config;
+    private final AFKService afkService;
+    private final Map<UUID, HUD> huds = new ConcurrentHashMap<>();
+    private volatile HUDTemplate template = HUDTemplate.parse(HUDTemplate.DEFAULT);
+
+    @Inject
+    HUDManager(final JavaPlugin plugin, final Config config, final AFKService afkService) {
+        this.plugin = plugin;
+        this.config = config;
+        this.afkService = afkService;
+    }
+
+    public void add(final Player player) {
+        if (!COORDINATES_HUD_KEY.has(player)) {
+            COORDINATES_HUD_KEY.setTo(player, this.config.enabledByDefault);
+        }
+        if (Boolean.TRUE.equals(COORDINATES_HUD_KEY.getFrom(player))) {
+            this.start(player);
+        }
+    }
+
+    public void setAndAdd(final Player player) {
+        COORDINATES_HUD_KEY.setTo(player, true);
+        this.start(player);
+    }
+
+    public boolean remove(final Player player) {
+        final HUD hud = this.huds.remove(player.getUniqueId());
+        if (hud != null) {
+            hud.task.cancel();
+            return true;
+        }
+        return false;
+    }
+
+    public void setAndRemove(final Player player) {
+        COORDINATES_HUD_KEY.setTo(player, false);
+        this.remove(player);
+    }
+
+    public boolean contains(final Player player) {
+        return this.huds.containsKey(player.getUniqueId());
+    }
+
+    void startAll() {
+        try {
+            this.template = HUDTemplate.parse(this.config.template);
+        } catch (final IllegalArgumentException e) {
+            CoordinatesHUD.LOGGER.warn("Invalid HUD template \"{}\": {}. Using the default template instead", this.config.template, e.getMessage());
+            this.template = HUDTemplate.parse(HUDTemplate.DEFAULT);
+        }
+        Bukkit.getOnlinePlayers().forEach(this::add);
+    }
+
+    void stopAll() {
+        this.huds.values().forEach(hud -> hud.task.cancel());
+        this.huds.clear();
+    }
+
+    private void start(final Player player) {
+        this.huds.computeIfAbsent(player.getUniqueId(), uuid -> new HUD(player));
+    }
+
+    private final class HUD {
+
+        private final Player player;
+        private final SchedulerUtil.Task task;
+        private final HUDSample sample = new HUDSample();
+        private final HUDSample shown = new HUDSample();
+        private final StringBuilder builder = new StringBuilder(64);
+        private @Nullable Location lastLocation;
+        private long ticksSinceSend = KEEP_ALIVE_TICKS;
+
+        private HUD(final Player player) {
+            this.player = player;
+            this.task = SchedulerUtil.runEntityTaskTimer(HUDManager.this.plugin, player, t -> this.tick(), null, 1L, HUDManager.this.config.ticks);
+        }
+
+        private void tick() {
+            this.ticksSinceSend += HUDManager.this.config.ticks;
+            if (HUDManager.this.config.pauseWhileAFK && HUDManager.this.afkService.isAFK(this.player)) {
+                this.lastLocation = null;
+                return;
+            }
+            final HUDTemplate template = HUDManager.this.template;
+            final Location loc = this.player.getLocation();
+            final int x = loc.getBlockX();
+            final int y = loc.getBlockY();
+            final int z = loc.getBlockZ();
+            if (template.uses(HUDTemplate.Field.X) || template.uses(HUDTemplate.Field.Y) || template.uses(HUDTemplate.Field.Z) || template.uses(HUDTemplate.Field.CHUNK)) {
+                this.sample.x = x;
+                this.sample.y = y;
+                this.sample.z = z;
+            }
+            if (template.uses(HUDTemplate.Field.DIRECTION)) {
+                this.sample.direction = CoordinatesHUD.getDirection(loc.getYaw());
+            }
+            if (template.uses(HUDTemplate.Field.TIME)) {
+                this.sample.minute = ((this.player.getWorld().getTime() + 6000) % 24000) * 60 / 1000;
+            }
+            if (template.uses(HUDTemplate.Field.BIOME)) {
+                this.sample.biome = loc.getWorld().getBiome(x, y, z).getKey().getKey();
+            }
+            if (template.uses(HUDTemplate.Field.LIGHT)) {
+                this.sample.light = loc.getWorld().getBlockAt(x, y, z).getLightLevel();
+            }
+            if (template.uses(HUDTemplate.Field.SPEED)) {
+                final double distance = this.lastLocation != null && this.lastLocation.getWorld() == loc.getWorld() ? this.lastLocation.distance(loc) : 0;
+                this.sample.speedTenths = (int) Math.round(distance * 20 * 10 / HUDManager.this.config.ticks);
+                this.lastLocation = loc;
+            }
+            if (this.sample.sameAs(this.shown) && this.ticksSinceSend < KEEP_ALIVE_TICKS) {
+                return;
+            }
+            this.shown.copyFrom(this.sample);
+            this.ticksSinceSend = 0;
+            this.player.sendActionBar(template.render(this.sample, this.builder));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.coordinateshud;
+
+import java.util.Objects;
+
+/**
+ * The values shown on a player's HUD. Fields the template
+ * doesn't use are left at their defaults.
+ */
+final class HUDSample {
+
+    int x;
+    int y;
+    int z;
+    CoordinatesHUD.Direction direction = CoordinatesHUD.Direction.SOUTH;
+    long minute;
+    String biome = "";
+    int light;
+    int speedTenths;
+
+    void copyFrom(final HUDSample other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.z = other.z;
+        this.direction = other.direction;
+        this.minute = other.minute;
+        this.biome = other.biome;
+        this.light = other.light;
+        this.speedTenths = other.speedTenths;
+    }
+
+    boolean sameAs(final HUDSample other) {
+        return this.x == other.x
+            && this.y == other.y
+            && this.z == other.z
+            && this.direction == other.direction
+            && this.minute == other.minute
+            && Objects.equals(this.biome, other.biome)
+            && this.light == other.light
+            && this.speedTenths == other.speedTenths;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.coordinateshud;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parsed HUD layout. Templates are text with {@code {field}} placeholders and
+ * {@code <color>} tags, where a color is a named color or {@code #rrggbb}. A field
+ * can be padded to a width with {@code {field:width}}.
+ * <p>
+ * The template is parsed once into runs of the same color, each made of literal
+ * segments and field writers. Runs without fields are built into components upfront.
+ */
+final class HUDTemplate {
+
+    static final String DEFAULT = "<gold>XYZ: <white>{x} {y} {z}  <gold>{direction:2}      {time}";
+
+    private final List<Run> runs;
+    private final Set<Field> fields;
+
+    private HUDTemplate(final List<Run> runs, final Set<Field> fields) {
+        this.runs = runs;
+        this.fields = fields;
+    }
+
+    /**
+     * Parses a template.
+     *
+     * @param template the template
+     * @return the parsed template
+     * @throws IllegalArgumentException if the template is invalid
+     */
+    static HUDTemplate parse(final String template) {
+        final List<Run> runs = new ArrayList<>();
+        final Set<Field> fields = EnumSet.noneOf(Field.class);
+        TextColor color = NamedTextColor.WHITE;
+        List<Segment> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            final char c = template.charAt(i);
+            if (c == '{' || c == '<') {
+                final int end = template.indexOf(c == '{' ? '}' : '>', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed " + c + " at " + i);
+                }
+                final String inner = template.substring(i + 1, end);
+                flushLiteral(literal, segments);
+                if (c == '{') {
+                    final Segment field = parseField(inner);
+                    fields.add(((FieldSegment) field).field);
+                    segments.add(field);
+                } else {
+                    final TextColor newColor = parseColor(inner);
+                    if (!newColor.equals(color)) {
+                        addRun(runs, color, segments);
+                        segments = new ArrayList<>();
+                        color = newColor;
+                    }
+                }
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        flushLiteral(literal, segments);
+        addRun(runs, color, segments);
+        return new HUDTemplate(List.copyOf(runs), fields);
+    }
+
+    private static void flushLiteral(final StringBuilder literal, final List<Segment> segments) {
+        if (!literal.isEmpty()) {
+            segments.add(new LiteralSegment(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static void addRun(final List<Run> runs, final TextColor color, final List<Segment> segments) {
+        if (segments.isEmpty()) {
+            return;
+        }
+        if (segments.stream().allMatch(LiteralSegment.class::isInstance)) {
+            final StringBuilder text = new StringBuilder();
+            segments.forEach(segment -> text.append(((LiteralSegment) segment).text));
+            runs.add(new Run(color, List.of(), Component.text(text.toString(), color)));
+        } else {
+            runs.add(new Run(color, List.copyOf(segments), null));
+        }
+    }
+
+    private static Segment parseField(final String inner) {
+        final int colon = inner.indexOf(':');
+        final String name = (colon < 0 ? inner : inner.substring(0, colon)).trim().toUpperCase(Locale.ENGLISH);
+        final Field field;
+        try {
+            field = Field.valueOf(name);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown field {" + inner + "}");
+        }
+        int width = 0;
+        if (colon >= 0) {
+            try {
+                width = Integer.parseInt(inner.substring(colon + 1).trim());
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid width in {" + inner + "}");
+            }
+        }
+        return new FieldSegment(field, width);
+    }
+
+    private static TextColor parseColor(final String inner) {
+        final @Nullable TextColor color = inner.startsWith("#") ? TextColor.fromHexString(inner) : NamedTextColor.NAMES.value(inner.toLowerCase(Locale.ENGLISH));
+        if (color == null) {
+            throw new IllegalArgumentException("Unknown color <" + inner + ">");
+        }
+        return color;
+    }
+
+    boolean uses(final Field field) {
+        return this.fields.contains(field);
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param sample the values to render
+     * @param builder a reusable builder for the text of each run
+     * @return the component
+     */
+    Component render(final HUDSample sample, final StringBuilder builder) {
+        final TextComponent.Builder root = Component.text();
+        for (final Run run : this.runs) {
+            if (run.constant != null) {
+                root.append(run.constant);
+                continue;
+            }
+            builder.setLength(0);
+            for (final Segment segment : run.segments) {
+                segment.write(sample, builder);
+            }
+            root.append(Component.text(builder.toString(), run.color));
+        }
+        return root.build();
+    }
+
+    enum Field {
+        X,
+        Y,
+        Z,
+        DIRECTION,
+        TIME,
+        BIOME,
+        CHUNK,
+        LIGHT,
+        SPEED
+    }
+
+    private record Run(TextColor color, List<Segment> segments, @Nullable Component constant) {
+    }
+
+    private interface Segment {
+
+        void write(HUDSample sample, StringBuilder builder);
+    }
+
+    private record LiteralSegment(String text) implements Segment {
+
+        @Override
+        public void write(final HUDSample sample, final StringBuilder builder) {
+            builder.append(this.text);
+        }
+    }
+
+    private record FieldSegment(Field field, int width) implements Segment {
+
+        @Override
+        public void write(final HUDSample sample, final StringBuilder builder) {
+            final int start = builder.length();
+            switch (this.field) {
+                case X -> builder.append(sample.x);
+                case Y -> builder.append(sample.y);
+                case Z -> builder.append(sample.z);
+                case DIRECTION -> builder.append(sample.direction.c);
+                case TIME -> {
+                    final long hours = sample.minute / 60;
+                    final long minutes = sample.minute % 60;
+                    if (hours < 10) builder.append('0');
+                    builder.append(hours).append(':');
+                    if (minutes < 10) builder.append('0');
+                    builder.append(minutes);
+                }
+                case BIOME -> builder.append(sample.biome);
+                case CHUNK -> builder.append(sample.x >> 4).append(' ').append(sample.z >> 4);
+                case LIGHT -> builder.append(sample.light);
+                case SPEED -> builder.append(sample.speedTenths / 10).append('.').append(sample.speedTenths % 10);
+            }
+            for (int i = builder.length() - start; i < this.width; i++) {
+                builder.insert(start, ' ');
+            }
+        }
+    }
+}
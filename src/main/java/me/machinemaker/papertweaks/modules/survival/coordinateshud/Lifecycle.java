@@ -30,23 +30,28 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 class Lifecycle extends ModuleLifecycle {
 
-    private final Config config;
-    private final HUDRunnable hudRunnable;
+    private final HUDManager hudManager;
 
     @Inject
-    public Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Config config, final HUDRunnable hudRunnable, final Set<ModuleRecipe<?>> moduleRecipes) {
+    public Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final HUDManager hudManager, final Set<ModuleRecipe<?>> moduleRecipes) {
         super(plugin, commands, listeners, configs, moduleRecipes);
-        this.config = config;
-        this.hudRunnable = hudRunnable;
+        this.hudManager = hudManager;
     }
 
     @Override
     public void onEnable() {
-        this.hudRunnable.runTaskTimerAsynchronously( 1L, this.config.ticks);
+        this.hudManager.startAll();
     }
+
+    @Override
+    public void onReload() {
+        this.hudManager.stopAll();
+        this.hudManager.startAll();
+    }
+
     @Override
     public void onDisable(final boolean isShutdown) {
-        this.hudRunnable.cancel();
+        this.hudManager.stopAll();
     }
 
 }
@@ -28,20 +28,20 @@ import org.bukkit.event.player.PlayerQuitEvent;
 
 class PlayerListener implements ModuleListener {
 
-    private final HUDRunnable hudRunnable;
+    private final HUDManager hudManager;
 
     @Inject
-    PlayerListener(final HUDRunnable hudRunnable) {
-        this.hudRunnable = hudRunnable;
+    PlayerListener(final HUDManager hudManager) {
+        this.hudManager = hudManager;
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerJoin(final PlayerJoinEvent event) {
-        this.hudRunnable.add(event.getPlayer());
+        this.hudManager.add(event.getPlayer());
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerLeave(final PlayerQuitEvent event) {
-        this.hudRunnable.remove(event.getPlayer());
+        this.hudManager.remove(event.getPlayer());
     }
 }
@@ -21,8 +21,10 @@ package me.machinemaker.papertweaks.modules.survival.customnetherportals;
 
 import com.google.inject.Inject;
 import me.machinemaker.papertweaks.modules.ModuleListener;
-import org.bukkit.FluidCollisionMode;
-import org.bukkit.Location;
+import me.machinemaker.papertweaks.utils.BlockPositions;
+import me.machinemaker.papertweaks.utils.LongHashSet;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
@@ -31,8 +33,7 @@ import org.bukkit.block.data.Orientable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockIgniteEvent;
-import org.bukkit.util.RayTraceResult;
-import org.bukkit.util.Vector;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 class IgniteListener implements ModuleListener {
@@ -40,9 +41,11 @@ class IgniteListener implements ModuleListener {
     @Inject
     private static Config config;
 
-    static boolean isPortalFrameResult(final @Nullable RayTraceResult result) {
-        if (result == null) return false;
-        return isPortalFrame(result.getHitBlock());
+    private final JavaPlugin plugin;
+
+    @Inject
+    IgniteListener(final JavaPlugin plugin) {
+        this.plugin = plugin;
     }
 
     static boolean isPortalFrame(final @Nullable Block block) {
@@ -59,55 +62,75 @@ class IgniteListener implements ModuleListener {
         final Block block = event.getBlock();
         final World world = block.getWorld();
         if (isInValidDimension(world) && isPortalFrame(block.getRelative(BlockFace.DOWN))) {
-            final @Nullable Axis portalAxis = this.findPortalAxis(world, block);
-            if (portalAxis == null) return;
-
-            event.setCancelled(new PortalShapeFinder(block, portalAxis).start());
+            final int x = block.getX();
+            final int y = block.getY();
+            final int z = block.getZ();
+            final PortalSnapshot snapshot = PortalSnapshot.capture(block, Math.max(config.maxPortalWidth, config.maxPortalHeight) + 1);
+            SchedulerUtil.runTaskAsynchronously(this.plugin, () -> {
+                final @Nullable Axis portalAxis = findPortalAxis(snapshot, x, y, z);
+                if (portalAxis == null) return;
+
+                final @Nullable LongHashSet interior = new PortalShapeFinder(snapshot, x, y, z, portalAxis).find();
+                if (interior != null) {
+                    SchedulerUtil.runAtLocation(this.plugin, block.getLocation(), () -> placePortal(world, interior.toArray(), portalAxis));
+                }
+            });
         }
     }
 
-    @Nullable Axis findPortalAxis(final World world, final Block source) {
+    static @Nullable Axis findPortalAxis(final PortalSnapshot snapshot, final int x, final int y, final int z) {
         for (final Axis axis : Axis.values()) {
-            if (axis.rayTraceBlock(world, source.getLocation())) {
+            if (axis.hasFrame(snapshot, x, y, z, 1) && axis.hasFrame(snapshot, x, y, z, -1)) {
                 return axis;
             }
         }
         return null;
     }
 
+    private static void placePortal(final World world, final long[] interior, final Axis axis) {
+        for (final long pos : interior) { // the world may have changed since the snapshot was taken
+            if (!PortalShapeFinder.isReplaceable(world.getType(BlockPositions.x(pos), BlockPositions.y(pos), BlockPositions.z(pos)))) {
+                return;
+            }
+        }
+        final BlockData portal = axis.portalData();
+        for (final long pos : interior) {
+            world.getBlockAt(BlockPositions.x(pos), BlockPositions.y(pos), BlockPositions.z(pos)).setBlockData(portal);
+        }
+    }
+
     enum Axis {
-        X(org.bukkit.Axis.X, new Vector(1, 0, 0), new Vector(-1, 0, 0), BlockFace.EAST, BlockFace.WEST),
-        Z(org.bukkit.Axis.Z, new Vector(0, 0, 1), new Vector(0, 0, -1), BlockFace.NORTH, BlockFace.SOUTH);
+        X(org.bukkit.Axis.X, 1, 0),
+        Z(org.bukkit.Axis.Z, 0, 1);
 
         final org.bukkit.Axis axis;
-        final Vector pos;
-        final Vector neg;
-        final BlockFace left;
-        final BlockFace right;
+        final int dx;
+        final int dz;
 
-        Axis(final org.bukkit.Axis axis, final Vector pos, final Vector neg, final BlockFace left, final BlockFace right) {
+        Axis(final org.bukkit.Axis axis, final int dx, final int dz) {
             this.axis = axis;
-            this.pos = pos;
-            this.neg = neg;
-            this.left = left;
-            this.right = right;
+            this.dx = dx;
+            this.dz = dz;
         }
 
-        boolean rayTraceBlock(final World world, final Location source) {
-            final @Nullable RayTraceResult positive = world.rayTraceBlocks(source, this.pos, config.maxPortalWidth, FluidCollisionMode.ALWAYS, false);
-            final @Nullable RayTraceResult negative = world.rayTraceBlocks(source, this.neg, config.maxPortalWidth, FluidCollisionMode.ALWAYS, false);
-
-            return isPortalFrameResult(positive) && isPortalFrameResult(negative);
+        /**
+         * Walks from the source in one direction along this axis, checking that
+         * the first non-replaceable block is a portal frame.
+         */
+        boolean hasFrame(final PortalSnapshot snapshot, final int x, final int y, final int z, final int direction) {
+            for (int i = 1; i <= config.maxPortalWidth; i++) {
+                final @Nullable Material type = snapshot.type(x + this.dx * i * direction, y, z + this.dz * i * direction);
+                if (!PortalShapeFinder.isReplaceable(type)) {
+                    return type != null && config.portalFrameMaterials.contains(type);
+                }
+            }
+            return false;
         }
 
-        void setOrientation(final Block block) {
-            final BlockData blockData = block.getBlockData();
-            if (blockData instanceof final Orientable orientation && orientation.getAxis() != this.axis) {
-                orientation.setAxis(this.axis);
-                block.setBlockData(orientation);
-            }
+        BlockData portalData() {
+            final Orientable data = (Orientable) Material.NETHER_PORTAL.createBlockData();
+            data.setAxis(this.axis);
+            return data;
         }
     }
-
-
 }
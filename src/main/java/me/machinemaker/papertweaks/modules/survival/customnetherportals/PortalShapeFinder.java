@@ -19,118 +19,97 @@
  */
 package me.machinemaker.papertweaks.modules.survival.customnetherportals;
 
-import com.google.common.collect.Sets;
 import com.google.inject.Inject;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.Set;
-import java.util.function.ToIntFunction;
-import me.machinemaker.papertweaks.utils.SchedulerUtil;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
+import java.util.Arrays;
+import me.machinemaker.papertweaks.utils.BlockPositions;
+import me.machinemaker.papertweaks.utils.LongHashSet;
 import org.bukkit.Material;
-import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
-import org.bukkit.plugin.java.JavaPlugin;
-
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Flood fills the inside of a portal frame over a {@link PortalSnapshot}.
+ * <p>
+ * Positions are packed longs, kept in a primitive set with an explicit work queue.
+ * The search gives up as soon as the interior leaves the configured bounds or visits
+ * more positions than a portal of the maximum size could hold.
+ */
 class PortalShapeFinder {
 
     @Inject private static Config config;
-    @Inject private static JavaPlugin plugin;
 
-    private final Set<Block> portalInterior;
-    private final Set<Long> checkedLocations;
+    private final PortalSnapshot snapshot;
     private final IgniteListener.Axis axis;
+    private final long first;
 
-    PortalShapeFinder(final Block first, final IgniteListener.Axis axis) {
-        this.portalInterior = Sets.newConcurrentHashSet(Set.of(first));
-        this.checkedLocations = Sets.newConcurrentHashSet();
+    PortalShapeFinder(final PortalSnapshot snapshot, final int x, final int y, final int z, final IgniteListener.Axis axis) {
+        this.snapshot = snapshot;
         this.axis = axis;
+        this.first = BlockPositions.pack(x, y, z);
     }
 
-    static boolean isReplaceable(final Block block) {
-        final Material type = block.getType();
+    static boolean isReplaceable(final @Nullable Material type) {
         return type == Material.AIR || type == Material.CAVE_AIR || type == Material.VOID_AIR || type == Material.FIRE;
     }
 
-    static long toLong(final Block block) {
-        return toLong(block.getLocation());
-    }
-
-    static long toLong(final Location location) {
-        return (((long) location.getBlockX() & 67108863L) << 38) | (((long) location.getBlockY() & 4095L)) | (((long) location.getZ() & 67108863L) << 12);
-    }
-
-    boolean start() {
-        boolean build = true;
-
-        while (this.portalInterior.size() <= config.maxPortalHeight * config.maxPortalWidth && this.checkedLocations.size() < this.portalInterior.size()) {
-            final Iterator<Block> interiorIter = this.portalInterior.iterator();
-
-            finished:
-            {
-                Block currentBlock;
-                do {
-                    do {
-                        if (!interiorIter.hasNext()) {
-                            break finished;
-                        }
-
-                        currentBlock = interiorIter.next();
-                    } while (this.checkedLocations.contains(toLong(currentBlock)));
-
-                    this.checkedLocations.add(toLong(currentBlock));
-                } while (this.checkSurrounding(currentBlock));
-
-                build = false;
-            }
-
-            if (!build) {
-                break;
+    /**
+     * Finds the portal interior.
+     *
+     * @return the interior positions, or null if this isn't a valid portal
+     */
+    @Nullable LongHashSet find() {
+        final int nodeBudget = config.maxPortalWidth * config.maxPortalHeight;
+        final LongHashSet interior = new LongHashSet(64);
+        long[] queue = new long[64];
+        int head = 0;
+        int tail = 0;
+        interior.add(this.first);
+        queue[tail++] = this.first;
+
+        final int flatStart = this.flat(this.first);
+        int minY = BlockPositions.y(this.first);
+        int maxY = minY;
+        int minFlat = flatStart;
+        int maxFlat = flatStart;
+
+        final int flatX = this.axis == IgniteListener.Axis.X ? 1 : 0;
+        final int flatZ = 1 - flatX;
+        while (head < tail) {
+            final long current = queue[head++];
+            for (int i = 0; i < 4; i++) {
+                final int flatOffset = i == 0 ? 1 : i == 1 ? -1 : 0;
+                final int yOffset = i == 2 ? 1 : i == 3 ? -1 : 0;
+                final long next = BlockPositions.offset(current, flatOffset * flatX, yOffset, flatOffset * flatZ);
+                if (interior.contains(next)) {
+                    continue;
+                }
+                final @Nullable Material type = this.snapshot.type(BlockPositions.x(next), BlockPositions.y(next), BlockPositions.z(next));
+                if (!isReplaceable(type)) {
+                    if (type == null || !config.portalFrameMaterials.contains(type)) {
+                        return null; // leaks into a non-frame block or outside the captured area
+                    }
+                    continue;
+                }
+                if (interior.size() >= nodeBudget) {
+                    return null;
+                }
+                minY = Math.min(minY, BlockPositions.y(next));
+                maxY = Math.max(maxY, BlockPositions.y(next));
+                minFlat = Math.min(minFlat, this.flat(next));
+                maxFlat = Math.max(maxFlat, this.flat(next));
+                if (maxY - minY > config.maxPortalHeight || maxFlat - minFlat > config.maxPortalWidth) {
+                    return null;
+                }
+                interior.add(next);
+                if (tail == queue.length) {
+                    queue = Arrays.copyOf(queue, queue.length << 1);
+                }
+                queue[tail++] = next;
             }
         }
-
-        if (build && this.portalInterior.size() >= config.minPortalSize) {
-
-            final int maxY = Collections.max(this.portalInterior, Comparator.comparingInt(Block::getY)).getY();
-            final int minY = Collections.min(this.portalInterior, Comparator.comparingInt(Block::getY)).getY();
-
-            if (maxY - minY > config.maxPortalHeight) {
-                return false;
-            }
-
-            final ToIntFunction<Block> flatFunction = this.axis == IgniteListener.Axis.X ? Block::getX : Block::getZ;
-
-            final Block maxFlatBlock = Collections.max(this.portalInterior, Comparator.comparingInt(flatFunction));
-            final Block minFlatBlock = Collections.min(this.portalInterior, Comparator.comparingInt(flatFunction));
-
-            if (flatFunction.applyAsInt(maxFlatBlock) - flatFunction.applyAsInt(minFlatBlock) > config.maxPortalWidth) {
-                return false;
-            }
-
-            SchedulerUtil.runTaskLater(plugin, () -> this.portalInterior.forEach(block -> {
-                block.setType(Material.NETHER_PORTAL);
-                this.axis.setOrientation(block);
-            }), 1L);
-            return true;
-        }
-        return false;
+        return interior.size() >= config.minPortalSize ? interior : null;
     }
 
-    boolean checkSurrounding(final Block source) {
-        return this.checkValidPortalInterior(source, BlockFace.UP)
-            && this.checkValidPortalInterior(source, BlockFace.DOWN)
-            && this.checkValidPortalInterior(source, this.axis.left)
-            && this.checkValidPortalInterior(source, this.axis.right);
-    }
-
-    boolean checkValidPortalInterior(final Block source, final BlockFace face) {
-        final Block toCheck = source.getRelative(face);
-        if (isReplaceable(toCheck)) {
-            this.portalInterior.add(toCheck);
-            return true;
-        }
-        return IgniteListener.isPortalFrame(toCheck);
+    private int flat(final long packed) {
+        return this.axis == IgniteListener.Axis.X ? BlockPositions.x(packed) : BlockPositions.z(packed);
     }
 }
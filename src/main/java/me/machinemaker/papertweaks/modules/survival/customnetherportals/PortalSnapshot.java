@@ -0,0 +1,82 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.customnetherportals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Read-only copy of the blocks a portal could occupy, safe to read off-thread.
+ * <p>
+ * Portals are flat, so only the loaded chunks along the X and Z axes through the
+ * ignited block are captured.
+ */
+final class PortalSnapshot {
+
+    private final Map<Long, ChunkSnapshot> chunks;
+    private final int minHeight;
+    private final int maxHeight;
+
+    private PortalSnapshot(final Map<Long, ChunkSnapshot> chunks, final int minHeight, final int maxHeight) {
+        this.chunks = chunks;
+        this.minHeight = minHeight;
+        this.maxHeight = maxHeight;
+    }
+
+    static PortalSnapshot capture(final Block source, final int reach) {
+        final World world = source.getWorld();
+        final int chunkX = source.getX() >> 4;
+        final int chunkZ = source.getZ() >> 4;
+        final Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        for (int x = (source.getX() - reach) >> 4; x <= (source.getX() + reach) >> 4; x++) {
+            capture(world, x, chunkZ, chunks);
+        }
+        for (int z = (source.getZ() - reach) >> 4; z <= (source.getZ() + reach) >> 4; z++) {
+            capture(world, chunkX, z, chunks);
+        }
+        return new PortalSnapshot(chunks, world.getMinHeight(), world.getMaxHeight());
+    }
+
+    private static void capture(final World world, final int chunkX, final int chunkZ, final Map<Long, ChunkSnapshot> chunks) {
+        final long key = Chunk.getChunkKey(chunkX, chunkZ);
+        if (!chunks.containsKey(key) && world.isChunkLoaded(chunkX, chunkZ)) {
+            chunks.put(key, world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+        }
+    }
+
+    /**
+     * Gets the block type at a position.
+     *
+     * @return the type, or null if the position wasn't captured
+     */
+    @Nullable Material type(final int x, final int y, final int z) {
+        if (y < this.minHeight || y >= this.maxHeight) {
+            return null;
+        }
+        final @Nullable ChunkSnapshot chunk = this.chunks.get(Chunk.getChunkKey(x >> 4, z >> 4));
+        return chunk == null ? null : chunk.getBlockType(x & 15, y, z & 15);
+    }
+}
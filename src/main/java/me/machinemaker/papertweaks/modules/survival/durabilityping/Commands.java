@@ -21,6 +21,7 @@ package me.machinemaker.papertweaks.modules.survival.durabilityping;
 
 import com.google.inject.Inject;
 import java.util.List;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.MetaKeys;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.cloud.parsers.setting.SettingArgumentFactory;
@@ -93,7 +94,7 @@ class Commands extends ConfiguredModuleCommand {
         this.register(configBuilder
             .apply(MetaKeys.hiddenCommand())
             .required(SettingArgumentFactory.PLAYER_SETTING_CHANGE_KEY, playerSettings(this.settings.index()))
-            .handler(this.sync((context, player) -> {
+            .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                 final SettingArgumentFactory.SettingChange<Player, PlayerSetting<?>> change = context.get(SettingArgumentFactory.PLAYER_SETTING_CHANGE_KEY);
                 change.apply(player);
                 this.listener.settingsCache.invalidate(player.getUniqueId());
@@ -44,6 +44,11 @@ class Config extends SimpleMenuModuleConfig<Config> {
     @Min(0)
     public int notificationCooldown = 10;
 
+    @Key("pause-while-afk")
+    @I18nKey("modules.durability-ping.settings.pause-while-afk")
+    @Description("modules.durability-ping.settings.pause-while-afk.extended")
+    public boolean pauseWhileAFK = false;
+
     @Key("defaults.hand-ping")
     @I18nKey("modules.durability-ping.settings.defaults.hand-ping")
     @Description("modules.durability-ping.settings.defaults.hand-ping.extended")
@@ -23,6 +23,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import me.machinemaker.papertweaks.afk.AFKService;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
@@ -34,17 +35,22 @@ class Lifecycle extends ModuleLifecycle {
 
     private final Config config;
     private final PlayerListener listener;
+    private final AFKService afkService;
+    private final AFKService.ChangeListener afkListener;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Config config, final PlayerListener listener, final Set<ModuleRecipe<?>> moduleRecipes) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Config config, final PlayerListener listener, final AFKService afkService, final Set<ModuleRecipe<?>> moduleRecipes) {
         super(plugin, commands, listeners, configs, moduleRecipes);
         this.config = config;
         this.listener = listener;
+        this.afkService = afkService;
+        this.afkListener = listener::onAFKChange;
     }
 
     @Override
     public void onEnable() {
         this.refreshCaches();
+        this.afkService.addListener(this.afkListener);
     }
 
     @Override
@@ -54,6 +60,7 @@ class Lifecycle extends ModuleLifecycle {
 
     @Override
     public void onDisable(final boolean isShutdown) {
+        this.afkService.removeListener(this.afkListener);
         this.listener.cooldownCache.invalidateAll();
         this.listener.settingsCache.invalidateAll();
     }
@@ -26,6 +26,7 @@ import com.google.inject.Inject;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import me.machinemaker.papertweaks.afk.AFKService;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.settings.ModuleSettings;
 import me.machinemaker.papertweaks.tags.Tags;
@@ -51,13 +52,15 @@ class PlayerListener implements ModuleListener {
     final Cache<UUID, CachedSettings> settingsCache = CacheBuilder.newBuilder().expireAfterAccess(20, TimeUnit.MINUTES).build();
     private final Config config;
     private final Settings settings;
+    private final AFKService afkService;
     @MonotonicNonNull Cache<UUID, Object> cooldownCache;
 
     @Inject
-    PlayerListener(final Config config, final Settings settings) {
+    PlayerListener(final Config config, final Settings settings, final AFKService afkService) {
         this.config = config;
         this.cooldownCache = CacheBuilder.newBuilder().expireAfterWrite(config.notificationCooldown, TimeUnit.SECONDS).build();
         this.settings = settings;
+        this.afkService = afkService;
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -67,6 +70,9 @@ class PlayerListener implements ModuleListener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onDurabilityChange(final PlayerItemDamageEvent event) throws ExecutionException {
+        if (this.config.pauseWhileAFK && this.afkService.isAFK(event.getPlayer())) {
+            return;
+        }
         if (this.cooldownCache.getIfPresent(event.getPlayer().getUniqueId()) == null
             && event.getItem().hasItemMeta()
             && event.getItem().getItemMeta() instanceof final Damageable damageable
@@ -87,6 +93,13 @@ class PlayerListener implements ModuleListener {
         }
     }
 
+    void onAFKChange(final Player player, final boolean afk) {
+        if (afk && this.config.pauseWhileAFK) {
+            this.cooldownCache.invalidate(player.getUniqueId());
+            this.settingsCache.invalidate(player.getUniqueId());
+        }
+    }
+
     Component createNotification(final Material type, final int durability) {
         return translatable(
             "modules.durability-ping.notification.tool",
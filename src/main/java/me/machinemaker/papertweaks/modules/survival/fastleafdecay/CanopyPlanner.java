@@ -0,0 +1,219 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.fastleafdecay;
+
+import java.util.Arrays;
+import me.machinemaker.papertweaks.utils.BlockPositions;
+import me.machinemaker.papertweaks.utils.LongHashSet;
+
+/**
+ * Plans the decay of a whole canopy after a log is removed.
+ * <p>
+ * One bounded breadth-first search collects the leaves connected to the removed log
+ * and the logs touching them. A second search, over that in-memory set only, computes
+ * each leaf's distance to a log like vanilla's {@code distance} property. Every
+ * non-persistent leaf further than {@link #MAX_DISTANCE} from a log is planned to
+ * decay, ordered by how close it is to the removed log. Every block is read at most
+ * once, so the cost is linear in the size of the canopy.
+ */
+final class CanopyPlanner {
+
+    static final int MAX_DISTANCE = 6;
+    static final int DEFAULT_NODE_BUDGET = 4096;
+    static final int DEFAULT_RADIUS = 16;
+
+    private static final int[][] OFFSETS = {{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}};
+
+    private final BlockKinds blocks;
+    private final int nodeBudget;
+    private final int radius;
+
+    CanopyPlanner(final BlockKinds blocks) {
+        this(blocks, DEFAULT_NODE_BUDGET, DEFAULT_RADIUS);
+    }
+
+    CanopyPlanner(final BlockKinds blocks, final int nodeBudget, final int radius) {
+        this.blocks = blocks;
+        this.nodeBudget = nodeBudget;
+        this.radius = radius;
+    }
+
+    /**
+     * Plans the decay after the log at the given position is removed.
+     *
+     * @return the plan
+     */
+    Plan plan(final int originX, final int originY, final int originZ) {
+        final long origin = BlockPositions.pack(originX, originY, originZ);
+        final LongHashSet seen = new LongHashSet(256);
+        final LongHashSet leaves = new LongHashSet(256);
+        final LongHashSet logs = new LongHashSet(16);
+        final LongHashSet frontier = new LongHashSet(16);
+        final LongHashSet persistent = new LongHashSet(16);
+        long[] order = new long[256];
+        int orderSize = 0;
+        int visits = 0;
+
+        seen.add(origin);
+        long[] queue = new long[256];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = origin;
+        while (head < tail) {
+            final long current = queue[head++];
+            for (final int[] offset : OFFSETS) {
+                final long next = BlockPositions.offset(current, offset[0], offset[1], offset[2]);
+                if (!seen.add(next)) {
+                    continue;
+                }
+                final int x = BlockPositions.x(next);
+                final int y = BlockPositions.y(next);
+                final int z = BlockPositions.z(next);
+                visits++;
+                final Kind kind = this.blocks.kind(x, y, z);
+                if (kind == Kind.LOG) {
+                    logs.add(next);
+                } else if (kind == Kind.LEAVES || kind == Kind.PERSISTENT_LEAVES) {
+                    if (orderSize >= this.nodeBudget || Math.abs(x - originX) > this.radius || Math.abs(y - originY) > this.radius || Math.abs(z - originZ) > this.radius) {
+                        // not explored, could be attached to a log further away
+                        frontier.add(next);
+                        continue;
+                    }
+                    leaves.add(next);
+                    if (kind == Kind.PERSISTENT_LEAVES) {
+                        persistent.add(next);
+                    }
+                    if (orderSize == order.length) {
+                        order = Arrays.copyOf(order, orderSize << 1);
+                    }
+                    order[orderSize++] = next;
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail << 1);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        // distances, starting from the logs and the unexplored leaves
+        final LongHashSet supported = new LongHashSet(Math.max(16, orderSize));
+        final long[] distanceQueue = new long[orderSize];
+        final int[] distances = new int[orderSize];
+        head = 0;
+        tail = 0;
+        final long[] sources = new long[logs.size() + frontier.size()];
+        System.arraycopy(logs.toArray(), 0, sources, 0, logs.size());
+        System.arraycopy(frontier.toArray(), 0, sources, logs.size(), frontier.size());
+        for (final long source : sources) {
+            for (final int[] offset : OFFSETS) {
+                final long next = BlockPositions.offset(source, offset[0], offset[1], offset[2]);
+                if (leaves.contains(next) && supported.add(next)) {
+                    distanceQueue[tail] = next;
+                    distances[tail++] = 1;
+                }
+            }
+        }
+        while (head < tail) {
+            final long current = distanceQueue[head];
+            final int distance = distances[head++];
+            if (distance >= MAX_DISTANCE) {
+                continue;
+            }
+            for (final int[] offset : OFFSETS) {
+                final long next = BlockPositions.offset(current, offset[0], offset[1], offset[2]);
+                if (leaves.contains(next) && supported.add(next)) {
+                    distanceQueue[tail] = next;
+                    distances[tail++] = distance + 1;
+                }
+            }
+        }
+
+        final long[] decay = new long[orderSize];
+        int decaySize = 0;
+        for (int i = 0; i < orderSize; i++) {
+            final long pos = order[i];
+            if (!supported.contains(pos) && !persistent.contains(pos)) {
+                decay[decaySize++] = pos;
+            }
+        }
+        return new Plan(Arrays.copyOf(decay, decaySize), orderSize, visits);
+    }
+
+    /**
+     * Checks if a leaf is still within {@link #MAX_DISTANCE} of a log, only searching
+     * through leaves like vanilla's {@code distance} property.
+     *
+     * @return true if the leaf is supported
+     */
+    boolean isSupported(final int x, final int y, final int z) {
+        final LongHashSet seen = new LongHashSet(64);
+        long[] queue = new long[64];
+        int[] distances = new int[64];
+        int head = 0;
+        int tail = 0;
+        final long start = BlockPositions.pack(x, y, z);
+        seen.add(start);
+        queue[tail++] = start;
+        while (head < tail) {
+            final long current = queue[head];
+            final int distance = distances[head++] + 1;
+            for (final int[] offset : OFFSETS) {
+                final long next = BlockPositions.offset(current, offset[0], offset[1], offset[2]);
+                if (!seen.add(next)) {
+                    continue;
+                }
+                final Kind kind = this.blocks.kind(BlockPositions.x(next), BlockPositions.y(next), BlockPositions.z(next));
+                if (kind == Kind.LOG) {
+                    return true;
+                }
+                if ((kind == Kind.LEAVES || kind == Kind.PERSISTENT_LEAVES) && distance < MAX_DISTANCE) {
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail << 1);
+                        distances = Arrays.copyOf(distances, tail << 1);
+                    }
+                    queue[tail] = next;
+                    distances[tail++] = distance;
+                }
+            }
+        }
+        return false;
+    }
+
+    enum Kind {
+        LOG,
+        LEAVES,
+        PERSISTENT_LEAVES,
+        OTHER
+    }
+
+    @FunctionalInterface
+    interface BlockKinds {
+
+        Kind kind(int x, int y, int z);
+    }
+
+    /**
+     * @param decay leaves to decay, closest to the removed log first
+     * @param canopySize number of leaves explored
+     * @param visits number of block reads while exploring
+     */
+    record Plan(long[] decay, int canopySize, int visits) {
+    }
+}
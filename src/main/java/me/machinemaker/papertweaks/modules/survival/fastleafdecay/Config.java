@@ -0,0 +1,40 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.fastleafdecay;
+
+import me.machinemaker.lectern.annotations.Description;
+import me.machinemaker.lectern.annotations.Key;
+import me.machinemaker.lectern.annotations.validations.numbers.Positive;
+import me.machinemaker.papertweaks.config.PTConfig;
+import me.machinemaker.papertweaks.modules.ModuleConfig;
+
+@PTConfig
+class Config extends ModuleConfig {
+
+    @Positive
+    @Key("decay-per-tick")
+    @Description("Max number of leaves decayed per tick in each region of the world")
+    public int decayPerTick = 32;
+
+    @Positive
+    @Key("max-queued-leaves")
+    @Description("Max number of leaves waiting to decay in each region of the world. Leaves past this limit are left to decay normally")
+    public int maxQueuedLeaves = 4096;
+}
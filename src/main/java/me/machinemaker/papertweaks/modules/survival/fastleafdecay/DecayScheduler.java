@@ -0,0 +1,237 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.fastleafdecay;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import me.machinemaker.papertweaks.utils.BlockPositions;
+import me.machinemaker.papertweaks.utils.LongHashSet;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.type.Leaves;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Queues leaves to decay, with one queue per region of the world.
+ * <p>
+ * Regions are aligned to Folia's region sections, so each queue is only ever touched
+ * by the thread owning its region and needs no locking. Each queue is drained by its
+ * own timer, which stops as soon as the queue is empty, and decays at most
+ * {@link Config#decayPerTick} leaves per tick spread over a random delay.
+ */
+@Singleton
+class DecayScheduler {
+
+    private static final int REGION_SHIFT = 8; // 16x16 chunks
+    private static final int MIN_DELAY = 2;
+    private static final int MAX_DELAY = 8;
+    private static final int BUCKETS = 16; // power of 2 larger than MAX_DELAY
+
+    private final JavaPlugin plugin;
+    private final Config config;
+    private final Map<RegionKey, DecayQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicLong logPlacements = new AtomicLong();
+
+    @Inject
+    DecayScheduler(final JavaPlugin plugin, final Config config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    static CanopyPlanner.Kind kindAt(final World world, final int x, final int y, final int z) {
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return CanopyPlanner.Kind.LOG; // can't tell, assume the leaves are supported
+        }
+        final BlockData data = world.getBlockData(x, y, z);
+        if (Tag.LOGS.isTagged(data.getMaterial())) {
+            return CanopyPlanner.Kind.LOG;
+        } else if (data instanceof final Leaves leaves) {
+            return leaves.isPersistent() ? CanopyPlanner.Kind.PERSISTENT_LEAVES : CanopyPlanner.Kind.LEAVES;
+        }
+        return CanopyPlanner.Kind.OTHER;
+    }
+
+    static boolean isDecayable(final Block block) {
+        // https://github.com/MC-Machinations/VanillaTweaks/issues/54, datapacks modify the #minecraft:leaves block tag
+        return block.getBlockData() instanceof final Leaves leaves && !leaves.isPersistent() && leaves.getDistance() >= 7;
+    }
+
+    /**
+     * Queues a leaf block to decay after a short random delay.
+     *
+     * @param block the leaf block
+     * @return false if the block was already queued or the queue is full
+     */
+    boolean schedule(final Block block) {
+        return this.queue(block.getWorld(), block.getX(), block.getZ()).offer(BlockPositions.pack(block), false);
+    }
+
+    /**
+     * Queues leaves from a {@link CanopyPlanner.Plan}, in order. These are not checked
+     * against the leaves' distance property when they decay, as vanilla may not have
+     * updated it yet. If a log was placed since they were planned, their distance to a
+     * log is searched again instead.
+     *
+     * @param world the world
+     * @param positions the packed leaf positions
+     */
+    void scheduleAll(final World world, final long[] positions) {
+        for (final long pos : positions) {
+            this.queue(world, BlockPositions.x(pos), BlockPositions.z(pos)).offer(pos, true);
+        }
+    }
+
+    private DecayQueue queue(final World world, final int blockX, final int blockZ) {
+        final RegionKey key = new RegionKey(world.getUID(), blockX >> REGION_SHIFT, blockZ >> REGION_SHIFT);
+        return this.queues.computeIfAbsent(key, k -> new DecayQueue(world, k));
+    }
+
+    /**
+     * Marks planned leaves as needing their distance checked again, a new log may
+     * support some of them.
+     */
+    void logPlaced() {
+        this.logPlacements.incrementAndGet();
+    }
+
+    void clear() {
+        this.queues.values().forEach(DecayQueue::cancel);
+        this.queues.clear();
+    }
+
+    record RegionKey(UUID world, int x, int z) {
+    }
+
+    /**
+     * Decay event fired for leaves decayed by this module.
+     */
+    static final class ScheduledDecayEvent extends LeavesDecayEvent {
+
+        final boolean planned;
+
+        private ScheduledDecayEvent(final Block block, final boolean planned) {
+            super(block);
+            this.planned = planned;
+        }
+    }
+
+    private final class DecayQueue {
+
+        private final World world;
+        private final RegionKey key;
+        private final LongHashSet queued = new LongHashSet(64);
+        private final LongHashSet planned = new LongHashSet(64);
+        private final long[][] buckets = new long[BUCKETS][8];
+        private final int[] bucketSizes = new int[BUCKETS];
+        private final SchedulerUtil.Task task;
+        private final CanopyPlanner planner;
+        private long plannedAt;
+        private int tick;
+
+        private DecayQueue(final World world, final RegionKey key) {
+            this.world = world;
+            this.key = key;
+            this.planner = new CanopyPlanner((x, y, z) -> kindAt(world, x, y, z));
+            final Location center = new Location(world, (key.x() << REGION_SHIFT) + 128, 0, (key.z() << REGION_SHIFT) + 128);
+            this.task = SchedulerUtil.runAtLocationTimer(DecayScheduler.this.plugin, center, t -> this.drain(), 1L, 1L);
+        }
+
+        boolean offer(final long pos, final boolean planned) {
+            if (this.queued.size() >= DecayScheduler.this.config.maxQueuedLeaves || !this.queued.add(pos)) {
+                return false;
+            }
+            if (planned) {
+                if (this.planned.isEmpty()) {
+                    this.plannedAt = DecayScheduler.this.logPlacements.get();
+                }
+                this.planned.add(pos);
+            }
+            this.push((this.tick + ThreadLocalRandom.current().nextInt(MIN_DELAY, MAX_DELAY + 1)) & (BUCKETS - 1), pos);
+            return true;
+        }
+
+        private void push(final int bucket, final long pos) {
+            final int size = this.bucketSizes[bucket];
+            if (size == this.buckets[bucket].length) {
+                this.buckets[bucket] = Arrays.copyOf(this.buckets[bucket], size << 1);
+            }
+            this.buckets[bucket][size] = pos;
+            this.bucketSizes[bucket] = size + 1;
+        }
+
+        private void drain() {
+            final int bucket = this.tick & (BUCKETS - 1);
+            this.tick++;
+            final long[] positions = this.buckets[bucket];
+            final int size = this.bucketSizes[bucket];
+            final int budget = Math.min(size, DecayScheduler.this.config.decayPerTick);
+            this.bucketSizes[bucket] = 0;
+            for (int i = 0; i < size; i++) {
+                if (i >= budget) {
+                    this.push(this.tick & (BUCKETS - 1), positions[i]); // over budget, carry over to the next tick
+                    continue;
+                }
+                this.queued.remove(positions[i]);
+                this.decay(positions[i], this.planned.remove(positions[i]));
+            }
+            if (this.queued.isEmpty()) {
+                this.cancel();
+                DecayScheduler.this.queues.remove(this.key, this);
+            }
+        }
+
+        private void decay(final long pos, final boolean planned) {
+            final int x = BlockPositions.x(pos);
+            final int z = BlockPositions.z(pos);
+            if (!this.world.isChunkLoaded(x >> 4, z >> 4)) {
+                return; // dropped, vanilla decay takes over once it's loaded again
+            }
+            final Block block = this.world.getBlockAt(x, BlockPositions.y(pos), z);
+            if (planned ? !(block.getBlockData() instanceof final Leaves leaves) || leaves.isPersistent() : !isDecayable(block)) {
+                return;
+            }
+            if (planned && this.plannedAt != DecayScheduler.this.logPlacements.get() && this.planner.isSupported(x, block.getY(), z)) {
+                return; // a log placed since planning keeps this leaf alive
+            }
+            final LeavesDecayEvent decayEvent = new ScheduledDecayEvent(block, planned);
+            Bukkit.getPluginManager().callEvent(decayEvent);
+            if (!decayEvent.isCancelled()) {
+                block.breakNaturally();
+            }
+        }
+
+        private void cancel() {
+            this.task.cancel();
+        }
+    }
+}
@@ -19,70 +19,65 @@
  */
 package me.machinemaker.papertweaks.modules.survival.fastleafdecay;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
 import me.machinemaker.papertweaks.modules.ModuleListener;
-import me.machinemaker.papertweaks.utils.SchedulerUtil;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Tag;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
-import org.bukkit.block.data.type.Leaves;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.block.LeavesDecayEvent;
-import org.bukkit.plugin.java.JavaPlugin;
 
 class LeafListener implements ModuleListener {
 
-    private static final List<BlockFace> FACES = Lists.newArrayList(Arrays.stream(BlockFace.values()).filter(BlockFace::isCartesian).toList()); // mutable list due to Collections#shuffle
-    private static final Set<Block> SCHEDULED = Sets.newHashSet();
-    private final JavaPlugin plugin;
+    private static final List<BlockFace> FACES = Arrays.stream(BlockFace.values()).filter(BlockFace::isCartesian).toList();
+    private final DecayScheduler scheduler;
 
     @Inject
-    LeafListener(final JavaPlugin plugin) {
-        this.plugin = plugin;
+    LeafListener(final DecayScheduler scheduler) {
+        this.scheduler = scheduler;
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(final BlockBreakEvent event) {
-        final Material type = event.getBlock().getType();
-        if (Tag.LOGS.isTagged(type) || Tag.LEAVES.isTagged(type)) {
-            this.doDecay(event.getBlock());
+        final Block block = event.getBlock();
+        final Material type = block.getType();
+        if (Tag.LOGS.isTagged(type)) {
+            final World world = block.getWorld();
+            final CanopyPlanner.Plan plan = new CanopyPlanner((x, y, z) -> DecayScheduler.kindAt(world, x, y, z)).plan(block.getX(), block.getY(), block.getZ());
+            this.scheduler.scheduleAll(world, plan.decay());
+        } else if (Tag.LEAVES.isTagged(type)) {
+            this.doDecay(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(final BlockPlaceEvent event) {
+        if (Tag.LOGS.isTagged(event.getBlockPlaced().getType())) {
+            this.scheduler.logPlaced();
         }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onLeavesDecay(final LeavesDecayEvent event) {
+        if (event instanceof final DecayScheduler.ScheduledDecayEvent scheduled && scheduled.planned) {
+            return; // the rest of the canopy is already planned
+        }
         this.doDecay(event.getBlock());
     }
 
     private void doDecay(final Block block) {
-        Collections.shuffle(FACES);
-
         for (final BlockFace face : FACES) {
             final Block b = block.getRelative(face);
-            if (SCHEDULED.contains(b)) continue;
-            if (!(b.getBlockData() instanceof final Leaves leaves) || leaves.isPersistent() || leaves.getDistance() < 7) {
-                continue; // https://github.com/MC-Machinations/VanillaTweaks/issues/54, datapacks modify the #minecraft:leaves block tag
+            if (DecayScheduler.isDecayable(b)) {
+                this.scheduler.schedule(b);
             }
-            SCHEDULED.add(b);
-            SchedulerUtil.runAtLocationLater(this.plugin, b.getLocation(), () -> {
-                final LeavesDecayEvent decayEvent = new LeavesDecayEvent(b);
-                Bukkit.getPluginManager().callEvent(decayEvent);
-                if (decayEvent.isCancelled()) return;
-                b.breakNaturally();
-                SCHEDULED.remove(b);
-            }, ThreadLocalRandom.current().nextLong(2, 9));
-
         }
     }
 }
@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -85,7 +86,7 @@ class Commands extends ConfiguredModuleCommand {
 
         this.register(
             this.literal(builder, "locate")
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     if (!this.config.graveLocating) {
                         context.sender().sendMessage(translatable("modules.graves.commands.locate.disabled", RED));
                         return;
@@ -100,7 +101,7 @@ class Commands extends ConfiguredModuleCommand {
                     }
                 }))
         );
-        this.register(this.adminLiteral(builder, "grave-key").handler(this.sync((context, player) -> player.getInventory().addItem(GRAVE_KEY))));
+        this.register(this.adminLiteral(builder, "grave-key").handler(this.execute(ExecutionTarget.SENDER, (context, player) -> player.getInventory().addItem(GRAVE_KEY))));
 
         this.register(this.adminLiteral(builder, "locate")
             .required("targets", multiplePlayerSelectorParser(false))
@@ -19,11 +19,12 @@
  */
 package me.machinemaker.papertweaks.modules.survival.multiplayersleep;
 
-import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import me.machinemaker.papertweaks.afk.AFKService;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
@@ -31,26 +32,32 @@ import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.modules.ModuleRecipe;
 import net.kyori.adventure.bossbar.BossBar;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.Component.translatable;
 
 class Lifecycle extends ModuleLifecycle {
 
-    static final Map<UUID, BossBar> BOSS_BARS = Maps.newHashMap();
+    static final Map<UUID, BossBar> BOSS_BARS = new ConcurrentHashMap<>();
 
     private final Config config;
+    private final AFKService afkService;
+    private final AFKService.ChangeListener afkListener = this::onAFKChange;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Config config, final Set<ModuleRecipe<?>> moduleRecipes) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Config config, final AFKService afkService, final Set<ModuleRecipe<?>> moduleRecipes) {
         super(plugin, commands, listeners, configs, moduleRecipes);
         this.config = config;
+        this.afkService = afkService;
     }
 
     @Override
     public void onEnable() {
         this.validateWorldList();
+        this.afkService.addListener(this.afkListener);
     }
 
     @Override
@@ -61,9 +68,19 @@ class Lifecycle extends ModuleLifecycle {
 
     @Override
     public void onDisable(final boolean isShutdown) {
+        this.afkService.removeListener(this.afkListener);
         this.resetSleepContexts(false);
     }
 
+    private void onAFKChange(final Player player, final boolean afk) {
+        if (this.config.ignoreAFKPlayers) {
+            final @Nullable SleepContext context = MultiplayerSleep.SLEEP_CONTEXT_MAP.get(player.getWorld().getUID());
+            if (context != null) {
+                context.recount();
+            }
+        }
+    }
+
     private void validateWorldList() {
         Bukkit.getOnlinePlayers().forEach(player -> {
             BOSS_BARS.values().forEach(player::hideBossBar);
@@ -77,7 +94,7 @@ class Lifecycle extends ModuleLifecycle {
 
     private void resetSleepContexts(final boolean kickOut) {
         MultiplayerSleep.SLEEP_CONTEXT_MAP.forEach((uuid, sleepContext) -> {
-            sleepContext.reset(kickOut);
+            sleepContext.close(kickOut);
         });
         MultiplayerSleep.SLEEP_CONTEXT_MAP.clear();
     }
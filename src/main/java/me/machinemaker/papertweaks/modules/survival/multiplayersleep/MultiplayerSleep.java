@@ -19,11 +19,11 @@
  */
 package me.machinemaker.papertweaks.modules.survival.multiplayersleep;
 
-import com.google.common.collect.Maps;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import me.machinemaker.papertweaks.LoggerFactory;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
 import me.machinemaker.papertweaks.modules.ModuleBase;
@@ -37,7 +37,7 @@ import org.slf4j.Logger;
 public class MultiplayerSleep extends ModuleBase {
 
     static final Logger LOGGER = LoggerFactory.getModuleLogger(MultiplayerSleep.class);
-    static final Map<UUID, SleepContext> SLEEP_CONTEXT_MAP = Maps.newHashMap();
+    static final Map<UUID, SleepContext> SLEEP_CONTEXT_MAP = new ConcurrentHashMap<>();
 
     @Override
     protected void configure() {
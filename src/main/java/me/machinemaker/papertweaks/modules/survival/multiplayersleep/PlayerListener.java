@@ -22,9 +22,9 @@ package me.machinemaker.papertweaks.modules.survival.multiplayersleep;
 import com.google.inject.Inject;
 import io.papermc.paper.block.bed.BedEnterAction;
 import io.papermc.paper.block.bed.BedRuleResult;
-import java.util.UUID;
 import me.machinemaker.papertweaks.modules.ModuleListener;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerBedEnterEvent;
@@ -53,19 +53,21 @@ class PlayerListener implements ModuleListener {
     public void onPlayerBedEnter(final PlayerBedEnterEvent event) {
         final BedEnterAction action = event.enterAction();
         if (action.problem() != null || action.canSleep() != BedRuleResult.ALLOWED) return;
-        this.config.worlds(false).forEach(world -> {
-            final @Nullable SleepContext context = MultiplayerSleep.SLEEP_CONTEXT_MAP.computeIfAbsent(world.getUID(), uuid -> SleepContext.from(Bukkit.getWorld(uuid)));
-            if (context != null) {
-                context.startSleeping(event.getPlayer());
-            }
-        });
+        final World world = event.getPlayer().getWorld();
+        if (!this.config.worlds(false).contains(world)) {
+            return;
+        }
+        final @Nullable SleepContext context = MultiplayerSleep.SLEEP_CONTEXT_MAP.computeIfAbsent(world.getUID(), uuid -> SleepContext.from(Bukkit.getWorld(uuid)));
+        if (context != null) {
+            context.startSleeping(event.getPlayer());
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerBedLeave(final PlayerBedLeaveEvent event) {
-        final UUID uuid = event.getPlayer().getWorld().getUID();
-        if (MultiplayerSleep.SLEEP_CONTEXT_MAP.containsKey(uuid)) {
-            MultiplayerSleep.SLEEP_CONTEXT_MAP.get(uuid).removePlayer(event.getPlayer());
+        final @Nullable SleepContext context = MultiplayerSleep.SLEEP_CONTEXT_MAP.get(event.getPlayer().getWorld().getUID());
+        if (context != null) {
+            context.removePlayer(event.getPlayer());
         }
     }
 }
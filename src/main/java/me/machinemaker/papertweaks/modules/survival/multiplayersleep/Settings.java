@@ -57,6 +57,10 @@ class Settings extends ModuleSettings<Player, PlayerSetting<?>> {
         return translatable("modules.multiplayer-sleep.display.boss-bar.title", text(sleepingCount), text(totalCount));
     }
 
+    static Component actionBarMessage(final long sleepingCount, final long totalCount) {
+        return translatable("modules.multiplayer-sleep.display.action-bar.player-sleeping", YELLOW, text(sleepingCount), text(totalCount));
+    }
+
     enum DisplaySetting implements PreviewableMenuEnum<DisplaySetting> {
 
         HIDDEN("Hidden") {
@@ -75,38 +79,18 @@ class Settings extends ModuleSettings<Player, PlayerSetting<?>> {
         BOSS_BAR("Boss Bar") {
             @Override
             void notify(final Player player, final SleepContext context, final boolean isBedLeave) {
-                BossBar bossBar = Lifecycle.BOSS_BARS.get(player.getWorld().getUID());
                 if (context.sleepingPlayers().isEmpty()) {
-                    if (bossBar != null) {
-                        player.hideBossBar(bossBar);
-                    }
-                    return;
-                } else if (bossBar == null) {
-                    bossBar = BossBar.bossBar(
-                        bossBarName(context.sleepingCount(), context.totalPlayerCount()),
-                        context.sleepingCount() / (float) context.totalPlayerCount(),
-                        config.bossBarColor,
-                        BossBar.Overlay.PROGRESS
-                    );
-                    Lifecycle.BOSS_BARS.put(player.getWorld().getUID(), bossBar);
+                    player.hideBossBar(context.bossBar());
                 } else {
-                    bossBar.name(bossBarName(context.sleepingCount(), context.totalPlayerCount()));
-                    bossBar.progress(context.sleepingCount() / (float) context.totalPlayerCount());
-                    bossBar.color(config.bossBarColor);
+                    player.showBossBar(context.bossBar());
                 }
-                player.showBossBar(bossBar);
             }
 
             @Override
             void notifyFinal(final Player player, final SleepContext context) {
-                final BossBar bossBar = Lifecycle.BOSS_BARS.get(player.getWorld().getUID());
-                if (bossBar != null) {
-                    bossBar.name(bossBarName(context.totalPlayerCount(), context.totalPlayerCount()));
-                    bossBar.color(config.bossBarColor);
-                    bossBar.progress(1f);
-                    player.showBossBar(bossBar);
-                    SchedulerUtil.runEntityTaskLater(plugin, player, () -> player.hideBossBar(bossBar), null, 60L);
-                }
+                final BossBar bossBar = context.bossBar();
+                player.showBossBar(bossBar);
+                SchedulerUtil.runEntityTaskLater(plugin, player, () -> player.hideBossBar(bossBar), null, 60L);
             }
 
             @Override
@@ -119,28 +103,17 @@ class Settings extends ModuleSettings<Player, PlayerSetting<?>> {
         ACTION_BAR("Action Bar") {
             @Override
             void notify(final Player player, final SleepContext context, final boolean isBedLeave) {
-                if (isBedLeave) return; // skip because runnable handles the task
-                SchedulerUtil.runTaskTimerAsynchronously(plugin, task -> {
-                    if (context.shouldSkip() || context.sleepingPlayers().isEmpty()) {
-                        task.cancel();
-                        return;
-                    }
-                    sendNotification(player, context.sleepingCount(), context.totalPlayerCount());
-                }, 50L, 500L); // delay and period in milliseconds (50ms, 500ms = ~10 ticks)
+                // sent by the sleep context's notification ticker
             }
 
             @Override
             void notifyFinal(final Player player, final SleepContext context) {
-                this.sendNotification(player, context.sleepingCount(), context.totalPlayerCount());
+                player.sendActionBar(actionBarMessage(context.sleepingCount(), context.totalPlayerCount()));
             }
 
             @Override
             public void preview(final Player player) {
-                this.sendNotification(player, 10, 15);
-            }
-
-            private void sendNotification(final Player player, final long sleepingCount, final long totalCount) {
-                player.sendActionBar(translatable("modules.multiplayer-sleep.display.action-bar.player-sleeping", YELLOW, text(sleepingCount), text(totalCount)));
+                player.sendActionBar(actionBarMessage(10, 15));
             }
         },
         CHAT("Chat") {
@@ -19,14 +19,13 @@
  */
 package me.machinemaker.papertweaks.modules.survival.multiplayersleep;
 
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import me.machinemaker.papertweaks.afk.AFKService;
 import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.GameRule;
 import org.bukkit.World;
@@ -37,18 +36,34 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import static java.util.Objects.requireNonNull;
 import static net.kyori.adventure.text.Component.translatable;
 
+/**
+ * Sleep state of a world. Bed events from any thread only update the
+ * {@link SleepTracker}. Each player's sleep ticks are checked on their own
+ * thread, and a single task on the global thread, which owns time
+ * progression, decides whether to skip the night and sends notifications.
+ * It runs while anyone is in a bed.
+ */
 final class SleepContext {
 
+    static final long NOTIFICATION_PERIOD = 10L;
+    static final int DEEP_SLEEP_TICKS = 100;
+
     @Inject
     private static Config config;
     @Inject
     private static JavaPlugin plugin;
     @Inject
     private static Settings settings;
+    @Inject
+    private static AFKService afkService;
 
     private final World world;
-    private final List<Player> sleepingPlayers = Lists.newArrayList();
-    private final Map<Player, SchedulerUtil.Task> sleepingTasks = Maps.newHashMap();
+    private final SleepTracker<Player> tracker = new SleepTracker<>();
+    private final Object tickLock = new Object();
+    private SchedulerUtil.@Nullable Task tickTask; // guarded by tickLock
+    private volatile SleepTracker.Snapshot<Player> decided = SleepTracker.Snapshot.empty();
+    private volatile boolean closed;
+    private long ticks;
 
     private SleepContext(final World world) {
         this.world = world;
@@ -66,94 +81,174 @@ final class SleepContext {
     }
 
     public long sleepingCount() {
-        return this.sleepingPlayers.size() + this.world.getPlayers().stream().filter(Player::isSleepingIgnored).count();
+        return this.decided.sleeping().size() + this.world.getPlayers().stream().filter(player -> player.isSleepingIgnored() && this.counts(player)).count();
     }
 
     public double requiredPercent() {
         return getSleepingPercentage(this.world);
     }
 
+    /**
+     * Gets the deeply sleeping players the last decision was made with.
+     */
     public List<Player> sleepingPlayers() {
-        return this.sleepingPlayers;
+        return this.decided.sleeping();
     }
 
     public Set<Player> almostSleepingPlayers() {
-        return this.sleepingTasks.keySet();
+        return this.tracker.snapshot().almostSleeping();
+    }
+
+    /**
+     * Gets the boss bar of this context's world, shared by all its players.
+     */
+    public BossBar bossBar() {
+        return Lifecycle.BOSS_BARS.computeIfAbsent(this.world.getUID(), uuid -> BossBar.bossBar(Settings.bossBarName(0, 0), 0f, config.bossBarColor, BossBar.Overlay.PROGRESS));
     }
 
     public void startSleeping(final Player player) {
         if (player.isSleepingIgnored()) {
             return;
         }
-        if (this.sleepingPlayers.remove(player)) {
-            plugin.getComponentLogger().warn("{} was already recorded as fully asleep", player.displayName());
-        }
-        if (this.sleepingTasks.containsKey(player)) {
-            this.sleepingTasks.remove(player).cancel();
-            plugin.getComponentLogger().warn("{} already had a scheduled sleep task", player.displayName());
+        if (!this.tracker.enterBed(player)) {
+            plugin.getComponentLogger().warn("{} was already recorded as getting into bed", player.displayName());
         }
-        this.sleepingTasks.put(player, new PlayerBedCheckRunnable(player, this::addSleepingPlayer).runTaskTimer(plugin, 99L, 1L));
+        SchedulerUtil.runEntityTaskLater(plugin, player, () -> this.checkBed(player), null, DEEP_SLEEP_TICKS);
+        this.ensureTicking();
     }
 
-    public void addSleepingPlayer(final Player player) {
-        Preconditions.checkArgument(player.getSleepTicks() >= 100, player.getName() + " is not deeply sleeping");
-        if (player.isSleepingIgnored()) {
-            this.sleepingPlayers.remove(player);
+    /**
+     * Promotes a player once they are deeply asleep. Runs on the player's
+     * thread, so their sleep ticks are read by the region owning them.
+     */
+    private void checkBed(final Player player) {
+        if (this.closed || !this.tracker.snapshot().almostSleeping().contains(player) || !player.isSleeping()) {
             return;
         }
-        if (this.sleepingPlayers.remove(player)) {
-            plugin.getComponentLogger().warn("{} already is in the list of sleeping players", player.displayName());
+        if (player.getSleepTicks() >= DEEP_SLEEP_TICKS) {
+            this.tracker.promote(player::equals);
+            this.ensureTicking();
+        } else {
+            SchedulerUtil.runEntityTaskLater(plugin, player, () -> this.checkBed(player), null, 1L);
         }
-        this.sleepingTasks.remove(player).cancel();
-        this.sleepingPlayers.add(player);
-        this.recalculate(false);
     }
 
     public void removePlayer(final Player player) {
-        this.sleepingPlayers.remove(player);
-        if (this.sleepingTasks.containsKey(player)) {
-            final SchedulerUtil.Task task = this.sleepingTasks.remove(player);
-            if (!task.isCancelled()) {
-                task.cancel();
-            }
+        if (this.tracker.leaveBed(player)) {
+            this.ensureTicking();
+        } else {
+            this.recount();
+        }
+    }
+
+    /**
+     * Recalculates after the player count changed without anyone entering or leaving a bed.
+     */
+    public void recount() {
+        if (!this.tracker.snapshot().sleeping().isEmpty()) {
+            this.tracker.touch();
+            this.ensureTicking();
         }
-        this.recalculate(true);
     }
 
     public long totalPlayerCount() {
-        return this.world.getPlayers().size();
+        if (!config.ignoreAFKPlayers) {
+            return this.world.getPlayers().size();
+        }
+        return this.world.getPlayers().stream().filter(this::counts).count();
+    }
+
+    private boolean counts(final Player player) {
+        return !config.ignoreAFKPlayers || !afkService.isAFK(player) || this.decided.sleeping().contains(player);
     }
 
     public void reset(final boolean kickOut) {
-        this.sleepingPlayers.forEach(player -> {
-            if (kickOut) {
-                SchedulerUtil.runEntityTaskLater(plugin, player, () -> player.wakeup(false), null, 1L);
-                player.sendMessage(translatable("modules.multiplayer-sleep.reload.kick-out-of-bed", NamedTextColor.RED));
-            }
-        });
-        this.sleepingPlayers.clear();
-        this.sleepingTasks.forEach((player, task) -> {
-            if (kickOut) {
-                SchedulerUtil.runEntityTaskLater(plugin, player, () -> player.wakeup(false), null, 1L);
-                player.sendMessage(translatable("modules.multiplayer-sleep.reload.kick-out-of-bed", NamedTextColor.RED));
-            }
-            if (!task.isCancelled()) {
-                task.cancel();
-            }
-        });
-        this.sleepingTasks.clear();
-        this.recalculate(true);
+        final SleepTracker.Snapshot<Player> previous = this.tracker.clear();
+        if (kickOut) {
+            previous.sleeping().forEach(this::kickOut);
+            previous.almostSleeping().forEach(this::kickOut);
+        }
+        this.ensureTicking();
+    }
+
+    /**
+     * Resets and stops this context, it is no longer used afterward.
+     *
+     * @param kickOut true to kick the sleeping players out of bed
+     */
+    public void close(final boolean kickOut) {
+        this.closed = true;
+        this.reset(kickOut);
+        this.stopTicking();
+        final BossBar bossBar = this.bossBar();
+        this.world.getPlayers().forEach(player -> player.hideBossBar(bossBar));
     }
 
     public boolean shouldSkip() {
-        if (this.sleepingPlayers.isEmpty() || this.totalPlayerCount() == 0) {
+        return this.shouldSkip(this.decided);
+    }
+
+    private boolean shouldSkip(final SleepTracker.Snapshot<Player> snapshot) {
+        if (snapshot.sleeping().isEmpty() || this.totalPlayerCount() == 0) {
             return false;
         }
-        return (double) this.sleepingPlayers.size() / (double) this.totalPlayerCount() >= this.requiredPercent();
+        return (double) snapshot.sleeping().size() / (double) this.totalPlayerCount() >= this.requiredPercent();
+    }
+
+    private void kickOut(final Player player) {
+        SchedulerUtil.runEntityTaskLater(plugin, player, () -> player.wakeup(false), null, 1L);
+        player.sendMessage(translatable("modules.multiplayer-sleep.reload.kick-out-of-bed", NamedTextColor.RED));
+    }
+
+    private void ensureTicking() {
+        synchronized (this.tickLock) {
+            if (!this.closed && this.tickTask == null) {
+                this.tickTask = SchedulerUtil.runTaskTimer(plugin, task -> this.tick(), 1L, 1L);
+            }
+        }
     }
 
-    private void recalculate(final boolean isRemoval) {
-        if (this.shouldSkip()) {
+    private void stopTicking() {
+        synchronized (this.tickLock) {
+            if (this.tickTask != null) {
+                this.tickTask.cancel();
+                this.tickTask = null;
+            }
+        }
+    }
+
+    private void tick() {
+        if (this.closed) {
+            this.stopTicking();
+            return;
+        }
+        final SleepTracker.Snapshot<Player> snapshot = this.tracker.snapshot();
+        final SleepTracker.Snapshot<Player> previous = this.decided;
+        if (snapshot.version() != previous.version()) {
+            this.decided = snapshot;
+            this.recalculate(previous, snapshot);
+        }
+        if (!this.decided.sleeping().isEmpty() && ++this.ticks % NOTIFICATION_PERIOD == 0) {
+            this.sendActionBars();
+        }
+        // a change made after this check restarts the timer once the lock is released
+        synchronized (this.tickLock) {
+            if (this.isSettled()) {
+                this.stopTicking();
+            }
+        }
+    }
+
+    private boolean isSettled() {
+        final SleepTracker.Snapshot<Player> snapshot = this.tracker.snapshot();
+        return snapshot.isEmpty() && snapshot.version() == this.decided.version();
+    }
+
+    private void recalculate(final SleepTracker.Snapshot<Player> previous, final SleepTracker.Snapshot<Player> snapshot) {
+        final boolean isRemoval = previous.sleeping().containsAll(snapshot.sleeping());
+        final long totalCount = this.totalPlayerCount();
+        if (this.shouldSkip(snapshot)) {
+            this.updateBossBar(totalCount, totalCount);
             this.world.getPlayers().forEach(player -> {
                 settings.getSetting(Settings.DISPLAY).getOrDefault(player).notifyFinal(player, this);
             });
@@ -165,9 +260,30 @@ final class SleepContext {
             }
             this.reset(false);
         } else {
+            this.updateBossBar(this.sleepingCount(), totalCount);
             this.world.getPlayers().forEach(player -> {
                 settings.getSetting(Settings.DISPLAY).getOrDefault(player).notify(player, this, isRemoval);
             });
         }
     }
+
+    private void updateBossBar(final long sleepingCount, final long totalCount) {
+        final BossBar bossBar = this.bossBar();
+        bossBar.name(Settings.bossBarName(sleepingCount, totalCount));
+        bossBar.progress(totalCount == 0 ? 0f : Math.min(1f, sleepingCount / (float) totalCount));
+        bossBar.color(config.bossBarColor);
+    }
+
+    /**
+     * Renders the action bar status once and sends it to every player
+     * in the world that uses the action bar display.
+     */
+    private void sendActionBars() {
+        final Component message = Settings.actionBarMessage(this.sleepingCount(), this.totalPlayerCount());
+        for (final Player player : this.world.getPlayers()) {
+            if (settings.getSetting(Settings.DISPLAY).getOrDefault(player) == Settings.DisplaySetting.ACTION_BAR) {
+                player.sendActionBar(message);
+            }
+        }
+    }
 }
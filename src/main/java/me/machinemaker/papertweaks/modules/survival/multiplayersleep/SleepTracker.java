@@ -0,0 +1,163 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.multiplayersleep;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lock-free sleep state of a world. Bed events from any thread swap in a new
+ * immutable {@link Snapshot}, and readers always see a consistent one.
+ *
+ * @param <P> the player type
+ */
+final class SleepTracker<P> {
+
+    private final AtomicReference<Snapshot<P>> state = new AtomicReference<>(Snapshot.empty());
+
+    Snapshot<P> snapshot() {
+        return this.state.get();
+    }
+
+    /**
+     * Records a player getting into bed, they aren't counted until promoted.
+     *
+     * @param player the player
+     * @return true if the player wasn't already getting into bed
+     */
+    boolean enterBed(final P player) {
+        return this.update(snapshot -> {
+            if (snapshot.almostSleeping().contains(player)) {
+                return snapshot;
+            }
+            final List<P> sleeping = new ArrayList<>(snapshot.sleeping());
+            sleeping.remove(player);
+            final Set<P> almostSleeping = new HashSet<>(snapshot.almostSleeping());
+            almostSleeping.add(player);
+            return snapshot.next(sleeping, almostSleeping);
+        });
+    }
+
+    /**
+     * Removes a player from the sleep state.
+     *
+     * @param player the player
+     * @return true if the player was sleeping or getting into bed
+     */
+    boolean leaveBed(final P player) {
+        return this.update(snapshot -> {
+            if (!snapshot.contains(player)) {
+                return snapshot;
+            }
+            final List<P> sleeping = new ArrayList<>(snapshot.sleeping());
+            sleeping.remove(player);
+            final Set<P> almostSleeping = new HashSet<>(snapshot.almostSleeping());
+            almostSleeping.remove(player);
+            return snapshot.next(sleeping, almostSleeping);
+        });
+    }
+
+    /**
+     * Moves the players getting into bed that are now deeply asleep to the sleeping players.
+     *
+     * @param deeplyAsleep tests if a player is deeply asleep
+     * @return true if any player was promoted
+     */
+    boolean promote(final Predicate<? super P> deeplyAsleep) {
+        return this.update(snapshot -> {
+            final List<P> promoted = new ArrayList<>();
+            for (final P player : snapshot.almostSleeping()) {
+                if (deeplyAsleep.test(player)) {
+                    promoted.add(player);
+                }
+            }
+            if (promoted.isEmpty()) {
+                return snapshot;
+            }
+            final List<P> sleeping = new ArrayList<>(snapshot.sleeping());
+            sleeping.addAll(promoted);
+            final Set<P> almostSleeping = new HashSet<>(snapshot.almostSleeping());
+            promoted.forEach(almostSleeping::remove);
+            return snapshot.next(sleeping, almostSleeping);
+        });
+    }
+
+    /**
+     * Publishes a new version without changing who is sleeping, so the
+     * owner recalculates after something else affecting the counts changed.
+     */
+    void touch() {
+        this.update(snapshot -> snapshot.next(snapshot.sleeping(), snapshot.almostSleeping()));
+    }
+
+    /**
+     * Clears the sleep state.
+     *
+     * @return the state before clearing
+     */
+    Snapshot<P> clear() {
+        return this.state.getAndUpdate(snapshot -> snapshot.next(List.of(), Set.of()));
+    }
+
+    private boolean update(final UnaryOperator<Snapshot<P>> function) {
+        while (true) {
+            final Snapshot<P> current = this.state.get();
+            final Snapshot<P> next = function.apply(current);
+            if (next == current) {
+                return false;
+            }
+            if (this.state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * An immutable view of who is sleeping.
+     *
+     * @param sleeping the deeply sleeping players, in the order they fell asleep
+     * @param almostSleeping the players getting into bed
+     * @param version increases with every change
+     * @param <P> the player type
+     */
+    record Snapshot<P>(List<P> sleeping, Set<P> almostSleeping, long version) {
+
+        static <P> Snapshot<P> empty() {
+            return new Snapshot<>(List.of(), Set.of(), 0);
+        }
+
+        boolean contains(final P player) {
+            return this.almostSleeping.contains(player) || this.sleeping.contains(player);
+        }
+
+        boolean isEmpty() {
+            return this.sleeping.isEmpty() && this.almostSleeping.isEmpty();
+        }
+
+        private Snapshot<P> next(final List<P> sleeping, final Set<P> almostSleeping) {
+            return new Snapshot<>(List.copyOf(sleeping), Set.copyOf(almostSleeping), this.version + 1);
+        }
+    }
+}
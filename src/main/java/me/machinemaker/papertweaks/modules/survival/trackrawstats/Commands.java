@@ -19,6 +19,7 @@
  */
 package me.machinemaker.papertweaks.modules.survival.trackrawstats;
 
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -44,7 +45,7 @@ class Commands extends ConfiguredModuleCommand {
         this.register(
             this.literal(builder, "display")
                 .required("objective", parserDescriptor(new ObjectiveParser<>(), Tracked.class), RichDescription.translatable("modules.track-raw-stats.commands.arguments.objective"))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     player.setScoreboard(Scoreboards.main());
                     final Tracked tracked = context.get("objective");
                     if (tracked.objective().getDisplaySlot() == DisplaySlot.SIDEBAR) {
@@ -28,9 +28,12 @@ import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.modules.ModuleRecipe;
 import me.machinemaker.papertweaks.utils.boards.Scoreboards;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 class Lifecycle extends ModuleLifecycle {
 
+    private @Nullable StatBackfill backfill;
+
     @Inject
     Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes) {
         super(plugin, commands, listeners, configs, moduleRecipes);
@@ -38,6 +41,14 @@ class Lifecycle extends ModuleLifecycle {
 
     @Override
     public void onEnable() {
-        RawStats.registerStats(Scoreboards.main());
+        this.backfill = RawStats.registerStats(this.getPlugin(), Scoreboards.main());
+    }
+
+    @Override
+    public void onDisable(final boolean isShutdown) {
+        if (this.backfill != null) {
+            this.backfill.cancel();
+            this.backfill = null;
+        }
     }
 }
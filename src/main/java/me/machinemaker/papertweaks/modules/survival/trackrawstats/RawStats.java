@@ -19,45 +19,36 @@
  */
 package me.machinemaker.papertweaks.modules.survival.trackrawstats;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSyntaxException;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.bukkit.Bukkit;
-import org.bukkit.OfflinePlayer;
-import org.bukkit.scoreboard.Objective;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scoreboard.Scoreboard;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class RawStats {
 
-    static final Gson GSON = new Gson();
     static final Map<String, Tracked> OBJECTIVE_DATA = Stream.of(
         new Tracked.StatisticType("ts_Deaths", "minecraft.custom:minecraft.deaths", "Deaths"),
         new Tracked.StatisticType("ts_KillCount", "minecraft.custom:minecraft.player_kills", "Kill Count"),
         new Tracked.CriteriaType("ts_TotalKills", "totalKillCount", "Total Kills", "modules.track-raw-stats.stat.total-kill-count") {
             @Override
-            int constructValue(final JsonObject object) {
-                int playerKills = 0;
-                int mobKills = 0;
-                if (object.has("minecraft:custom")) {
-                    final JsonObject mcCustom = object.getAsJsonObject("minecraft:custom");
-                    if (mcCustom.has("minecraft:player_kills")) {
-                        playerKills = mcCustom.getAsJsonPrimitive("minecraft:player_kills").getAsInt();
-                    }
-                    if (mcCustom.has("minecraft:mob_kills")) {
-                        mobKills = mcCustom.getAsJsonPrimitive("minecraft:mob_kills").getAsInt();
-                    }
-                }
+            void requiredStats(final BiConsumer<String, String> required) {
+                required.accept("minecraft:custom", "minecraft:player_kills");
+                required.accept("minecraft:custom", "minecraft:mob_kills");
+            }
+
+            @Override
+            int constructValue(final StatValues values) {
+                final int playerKills = Math.max(0, values.get("minecraft:custom", "minecraft:player_kills"));
+                final int mobKills = Math.max(0, values.get("minecraft:custom", "minecraft:mob_kills"));
                 return playerKills + mobKills == 0 ? -1 : playerKills + mobKills;
             }
         },
@@ -281,61 +272,26 @@ final class RawStats {
     private RawStats() {
     }
 
-    static void registerStats(final Scoreboard board) {
-        final Set<Tracked> toBeUpdated = OBJECTIVE_DATA.values().stream().filter(tracked -> tracked.register(board)).collect(Collectors.toUnmodifiableSet());
-
-        if (!toBeUpdated.isEmpty()) {
-            TrackRawStats.LOGGER.info("Detected {} missing stats that need their initial values set from player statistics", toBeUpdated.size());
-            try {
-                final Path statsFolder = Bukkit.getWorlds().get(0).getWorldFolder().toPath().resolve("stats");
-                if (Files.notExists(statsFolder)) {
-                    TrackRawStats.LOGGER.info("Could not find the stats folder in {}, skipping", statsFolder.getParent());
-                    return;
-                }
-                TrackRawStats.LOGGER.info("Starting the stat transfer, depending on how many players have played on the server, this could take a while");
-                try (final Stream<Path> statFiles = Files.list(statsFolder)) {
-                    int playerCount = 0;
-                    int statCount = 0;
-                    for (final Path path : statFiles.toList()) {
-                        if (!path.getFileName().toString().endsWith(".json")) {
-                            return;
-                        }
-                        try {
-                            boolean updatedPlayer = false;
-                            final UUID uuid = UUID.fromString(path.getFileName().toString().split("\\.json")[0]);
-                            final JsonObject stats = GSON.fromJson(Files.readString(path), JsonObject.class).getAsJsonObject("stats");
-                            for (final Tracked obj : toBeUpdated) {
-                                final @Nullable Objective objective = board.getObjective(obj.name()); // this should always exist, but check anyway
-                                if (objective == null) {
-                                    throw new IllegalStateException("This shouldn't happen, the objective for " + obj.name() + " could not be found");
-                                }
-                                final OfflinePlayer player = Bukkit.getOfflinePlayer(uuid);
-                                if (player.hasPlayedBefore() && player.getName() != null) {
-                                    final int score = obj.constructValue(stats);
-                                    if (score > -1) {
-                                        objective.getScore(player.getName()).setScore(score);
-                                        updatedPlayer = true;
-                                        statCount++;
-                                    }
-                                }
-                            }
-                            if (updatedPlayer) {
-                                playerCount++;
-                            }
-                        } catch (final IllegalArgumentException ignored) {
-                        } catch (final IOException | JsonSyntaxException e) {
-                            TrackRawStats.LOGGER.warn("Could not read stats from {}, skipping", path, e);
-                        }
-                    }
-                    TrackRawStats.LOGGER.info("Updated {} stats for {} players. Saving...", statCount, playerCount);
-                    Bukkit.getWorlds().get(0).save();
-                } catch (final IOException e) {
-                    TrackRawStats.LOGGER.error("Something went wrong loading the initial values for stats", e);
-                }
-            } catch (final Exception e) {
-                TrackRawStats.LOGGER.error("Something went wrong loading the initial values for stats", e);
-            }
+    /**
+     * Registers missing objectives and starts backfilling their initial values
+     * from the player stat files.
+     *
+     * @return the running backfill, or null if there is nothing to backfill
+     */
+    static @Nullable StatBackfill registerStats(final JavaPlugin plugin, final Scoreboard board) {
+        // objectives whose backfill was stopped before it finished are backfilled again
+        final List<Tracked> toBeUpdated = OBJECTIVE_DATA.values().stream().filter(tracked -> tracked.register(board) || StatBackfill.isPending(tracked)).toList();
+        if (toBeUpdated.isEmpty()) {
+            return null;
+        }
+        TrackRawStats.LOGGER.info("Detected {} missing stats that need their initial values set from player statistics", toBeUpdated.size());
+        final Path statsFolder = Bukkit.getWorlds().get(0).getWorldFolder().toPath().resolve("stats");
+        if (Files.notExists(statsFolder)) {
+            TrackRawStats.LOGGER.info("Could not find the stats folder in {}, skipping", statsFolder.getParent());
+            return null;
         }
+        final StatBackfill backfill = new StatBackfill(plugin, toBeUpdated, statsFolder);
+        backfill.start();
+        return backfill;
     }
-
 }
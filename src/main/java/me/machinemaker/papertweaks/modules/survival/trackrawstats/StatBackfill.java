@@ -0,0 +1,241 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackrawstats;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Sets the initial values of newly registered objectives from the player stat files.
+ * <p>
+ * Files are read by a small pool of workers with a streaming JSON reader, keeping only the
+ * statistics the objectives need. Each file's player is resolved once, and the scores are
+ * applied on the global thread in batches, so the module is usable while this runs.
+ * <p>
+ * Objectives being backfilled hold a score for {@link #PENDING_ENTRY} until it finishes,
+ * which is saved with the scoreboard, so a backfill that was stopped is run again the
+ * next time the module is enabled.
+ */
+final class StatBackfill {
+
+    static final String PENDING_ENTRY = "#papertweaks.backfill"; // '#' hides it from the sidebar
+    private static final int BATCH_SIZE = 256;
+    private static final int MAX_WORKERS = 4;
+
+    private final JavaPlugin plugin;
+    private final List<Tracked> tracked;
+    private final Path statsFolder;
+    private final Map<String, Set<String>> required = new HashMap<>();
+    private final AtomicInteger nextFile = new AtomicInteger();
+    private final AtomicInteger filesRead = new AtomicInteger();
+    private final AtomicInteger playerCount = new AtomicInteger();
+    private final AtomicInteger statCount = new AtomicInteger();
+    private final AtomicInteger runningWorkers = new AtomicInteger();
+    private volatile boolean cancelled;
+    private @Nullable ExecutorService executor;
+
+    StatBackfill(final JavaPlugin plugin, final List<Tracked> tracked, final Path statsFolder) {
+        this.plugin = plugin;
+        this.tracked = List.copyOf(tracked);
+        this.statsFolder = statsFolder;
+        for (final Tracked obj : this.tracked) {
+            obj.requiredStats((type, key) -> this.required.computeIfAbsent(type, t -> new HashSet<>()).add(key));
+        }
+    }
+
+    static boolean isPending(final Tracked tracked) {
+        return tracked.objective().getScore(PENDING_ENTRY).isScoreSet();
+    }
+
+    void start() {
+        this.tracked.forEach(obj -> obj.objective().getScore(PENDING_ENTRY).setScore(1));
+        final int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        final AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            final Thread thread = new Thread(runnable, "PaperTweaks-RawStats-Backfill-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.execute(() -> {
+            final List<Path> files;
+            try (final Stream<Path> stream = Files.list(this.statsFolder)) {
+                files = stream.filter(path -> path.getFileName().toString().endsWith(".json")).toList();
+            } catch (final IOException e) {
+                TrackRawStats.LOGGER.error("Something went wrong loading the initial values for stats", e);
+                this.executor.shutdown();
+                return;
+            }
+            TrackRawStats.LOGGER.info("Starting the stat transfer for {} players in the background", files.size());
+            this.runningWorkers.set(workers);
+            for (int i = 0; i < workers; i++) {
+                this.executor.execute(() -> this.work(files));
+            }
+        });
+    }
+
+    void cancel() {
+        this.cancelled = true;
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    private void work(final List<Path> files) {
+        final List<Update> batch = new ArrayList<>(BATCH_SIZE);
+        int index;
+        while (!this.cancelled && (index = this.nextFile.getAndIncrement()) < files.size()) {
+            final @Nullable Update update = this.read(files.get(index));
+            if (update != null) {
+                batch.add(update);
+                if (batch.size() >= BATCH_SIZE) {
+                    this.apply(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+            final int read = this.filesRead.incrementAndGet();
+            if (read % 1000 == 0) {
+                TrackRawStats.LOGGER.info("Read {}/{} stat files", read, files.size());
+            }
+        }
+        this.apply(List.copyOf(batch));
+        if (this.runningWorkers.decrementAndGet() == 0 && !this.cancelled) {
+            SchedulerUtil.runTask(this.plugin, () -> {
+                if (this.cancelled) {
+                    return;
+                }
+                this.tracked.forEach(obj -> obj.objective().getScore(PENDING_ENTRY).resetScore());
+                TrackRawStats.LOGGER.info("Updated {} stats for {} players. Saving...", this.statCount.get(), this.playerCount.get());
+                Bukkit.getWorlds().get(0).save();
+            });
+            if (this.executor != null) {
+                this.executor.shutdown();
+            }
+        }
+    }
+
+    private @Nullable Update read(final Path path) {
+        final UUID uuid;
+        try {
+            uuid = UUID.fromString(path.getFileName().toString().split("\\.json")[0]);
+        } catch (final IllegalArgumentException ignored) {
+            return null;
+        }
+        final OfflinePlayer player = Bukkit.getOfflinePlayer(uuid);
+        final @Nullable String name = player.getName();
+        if (!player.hasPlayedBefore() || name == null) {
+            return null;
+        }
+        final Map<String, Map<String, Integer>> values;
+        try (final Reader reader = Files.newBufferedReader(path)) {
+            values = this.readValues(new JsonReader(reader));
+        } catch (final IOException | IllegalStateException | NumberFormatException e) {
+            TrackRawStats.LOGGER.warn("Could not read stats from {}, skipping", path, e);
+            return null;
+        }
+        final StatValues statValues = (type, key) -> {
+            final @Nullable Map<String, Integer> typeValues = values.get(type);
+            final @Nullable Integer value = typeValues == null ? null : typeValues.get(key);
+            return value == null ? -1 : value;
+        };
+        final int[] scores = new int[this.tracked.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = this.tracked.get(i).constructValue(statValues);
+        }
+        return new Update(name, scores);
+    }
+
+    private Map<String, Map<String, Integer>> readValues(final JsonReader reader) throws IOException {
+        final Map<String, Map<String, Integer>> values = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("stats")) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String type = reader.nextName();
+                final @Nullable Set<String> keys = this.required.get(type);
+                if (keys == null || reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    reader.skipValue();
+                    continue;
+                }
+                final Map<String, Integer> typeValues = new HashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String key = reader.nextName();
+                    if (keys.contains(key) && reader.peek() == JsonToken.NUMBER) {
+                        typeValues.put(key, reader.nextInt());
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                values.put(type, typeValues);
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+        return values;
+    }
+
+    private void apply(final List<Update> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        SchedulerUtil.runTask(this.plugin, () -> {
+            if (this.cancelled) {
+                return;
+            }
+            for (final Update update : updates) {
+                for (int i = 0; i < update.scores().length; i++) {
+                    if (update.scores()[i] > -1) { // -1 means the player doesn't have the stat
+                        this.tracked.get(i).objective().getScore(update.name()).setScore(update.scores()[i]);
+                        this.statCount.incrementAndGet();
+                    }
+                }
+            }
+            this.playerCount.addAndGet(updates.size());
+        });
+    }
+
+    private record Update(String name, int[] scores) {
+    }
+}
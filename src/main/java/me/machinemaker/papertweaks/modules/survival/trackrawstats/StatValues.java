@@ -0,0 +1,36 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackrawstats;
+
+/**
+ * Statistic values read from a player's stat file.
+ */
+@FunctionalInterface
+interface StatValues {
+
+    /**
+     * Gets a statistic value.
+     *
+     * @param type the statistic type, like {@code minecraft:custom}
+     * @param key the statistic key, like {@code minecraft:jump}
+     * @return the value, or -1 if missing
+     */
+    int get(String type, String key);
+}
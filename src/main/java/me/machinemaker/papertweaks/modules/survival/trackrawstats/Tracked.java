@@ -20,10 +20,8 @@
 package me.machinemaker.papertweaks.modules.survival.trackrawstats;
 
 import com.google.common.base.Preconditions;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
 import org.bukkit.scoreboard.Criteria;
@@ -80,7 +78,20 @@ abstract class Tracked implements ComponentLike {
         return this.objective;
     }
 
-    abstract int constructValue(JsonObject object);
+    /**
+     * Lists the statistics this needs from a player's stat file.
+     *
+     * @param required accepts the statistic type and key, like {@code minecraft:custom} and {@code minecraft:jump}
+     */
+    abstract void requiredStats(BiConsumer<String, String> required);
+
+    /**
+     * Computes the initial score from a player's stat file.
+     *
+     * @param values the values of the required statistics
+     * @return the score, or -1 if there is no value
+     */
+    abstract int constructValue(StatValues values);
 
     @Override
     public boolean equals(final @Nullable Object o) {
@@ -171,15 +182,13 @@ abstract class Tracked implements ComponentLike {
         }
 
         @Override
-        int constructValue(final JsonObject object) {
-            final JsonElement typeElement = object.get(this.type.replace('.', ':'));
-            if (typeElement instanceof final JsonObject typeObj) {
-                final JsonElement valueElement = typeObj.get(this.value.replace('.', ':'));
-                if (valueElement instanceof final JsonPrimitive valuePrimitive && valuePrimitive.isNumber()) {
-                    return valuePrimitive.getAsInt();
-                }
-            }
-            return -1;
+        void requiredStats(final BiConsumer<String, String> required) {
+            required.accept(this.type.replace('.', ':'), this.value.replace('.', ':'));
+        }
+
+        @Override
+        int constructValue(final StatValues values) {
+            return values.get(this.type.replace('.', ':'), this.value.replace('.', ':'));
         }
 
         @Override
@@ -31,15 +31,24 @@ import static net.kyori.adventure.text.Component.text;
 
 abstract class CalculatedStat implements Translatable {
 
+    private final int index;
     private final String objectiveName;
     private final Component displayName;
 
     protected CalculatedStat(final String objectiveName, final String displayName) {
+        this.index = Stats.REGISTRY.size();
         Stats.REGISTRY.put(objectiveName, this);
         this.objectiveName = objectiveName;
         this.displayName = text(displayName);
     }
 
+    /**
+     * Position of this stat in {@link Stats#REGISTRY}, used to index per-player snapshots.
+     */
+    final int index() {
+        return this.index;
+    }
+
     public final String objectiveName() {
         return this.objectiveName;
     }
@@ -50,6 +59,14 @@ abstract class CalculatedStat implements Translatable {
 
     protected abstract int computeScore(Player player);
 
+    /**
+     * Whether the score only changes on events the module listens to,
+     * instead of having to be polled.
+     */
+    boolean eventDriven() {
+        return false;
+    }
+
     public final Score getScore(final Scoreboard board, final Player player) {
         return this.getObjective(board).getScore(player.getName());
     }
@@ -59,8 +76,12 @@ abstract class CalculatedStat implements Translatable {
     }
 
     public final void updateScore(final Scoreboard board, final Player player) {
+        this.setScore(board, player, this.computeScore(player));
+    }
+
+    final void setScore(final Scoreboard board, final Player player, final int value) {
         final Score score = this.getScore(board, player);
-        score.setScore(this.computeScore(player));
+        score.setScore(value);
     }
 
 }
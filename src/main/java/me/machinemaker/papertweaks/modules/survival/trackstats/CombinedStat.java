@@ -20,7 +20,10 @@
 package me.machinemaker.papertweaks.modules.survival.trackstats;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.ToIntFunction;
 import org.bukkit.Material;
 import org.bukkit.Statistic;
@@ -30,10 +33,26 @@ import org.bukkit.entity.Player;
 final class CombinedStat extends CalculatedStat {
 
     private final List<ToIntFunction<Player>> stats;
+    private final Set<Material> mined;
+    private final boolean onlyMined;
 
-    private CombinedStat(final String objectiveName, final String displayName, final List<ToIntFunction<Player>> stats) {
+    private CombinedStat(final String objectiveName, final String displayName, final List<ToIntFunction<Player>> stats, final Set<Material> mined, final boolean onlyMined) {
         super(objectiveName, displayName);
         this.stats = List.copyOf(stats);
+        this.mined = Collections.unmodifiableSet(EnumSet.copyOf(mined));
+        this.onlyMined = onlyMined;
+    }
+
+    /**
+     * Blocks whose mining changes this stat.
+     */
+    Set<Material> mined() {
+        return this.mined;
+    }
+
+    @Override
+    boolean eventDriven() {
+        return this.onlyMined && !this.mined.isEmpty();
     }
 
     @Override
@@ -55,6 +74,8 @@ final class CombinedStat extends CalculatedStat {
         private final String objectiveName;
         private final String displayName;
         private final List<ToIntFunction<Player>> stats = new ArrayList<>();
+        private final Set<Material> mined = EnumSet.noneOf(Material.class);
+        private boolean onlyMined = true;
 
         Builder(final String objectiveName, final String displayName) {
             this.objectiveName = objectiveName;
@@ -63,11 +84,17 @@ final class CombinedStat extends CalculatedStat {
 
         Builder add(final Statistic stat, final Material material) {
             this.stats.add(player -> player.getStatistic(stat, material));
+            if (stat == Statistic.MINE_BLOCK) {
+                this.mined.add(material);
+            } else {
+                this.onlyMined = false;
+            }
             return this;
         }
 
         Builder add(final Statistic stat, final EntityType entityType) {
             this.stats.add(player -> player.getStatistic(stat, entityType));
+            this.onlyMined = false;
             return this;
         }
 
@@ -79,7 +106,7 @@ final class CombinedStat extends CalculatedStat {
         }
 
         CombinedStat build() {
-            return new CombinedStat(this.objectiveName, this.displayName, this.stats);
+            return new CombinedStat(this.objectiveName, this.displayName, this.stats, this.mined, this.onlyMined);
         }
     }
 }
@@ -20,9 +20,13 @@
 package me.machinemaker.papertweaks.modules.survival.trackstats;
 
 import com.google.inject.Inject;
+import java.util.List;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
 import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
 import org.bukkit.scoreboard.Scoreboard;
@@ -30,20 +34,30 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.minecraft.extras.RichDescription;
 
+import static net.kyori.adventure.text.Component.newline;
+import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.Component.translatable;
 import static net.kyori.adventure.text.format.NamedTextColor.GOLD;
+import static net.kyori.adventure.text.format.NamedTextColor.GRAY;
 import static net.kyori.adventure.text.format.NamedTextColor.GREEN;
+import static net.kyori.adventure.text.format.NamedTextColor.WHITE;
 import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
+import static org.incendo.cloud.component.DefaultValue.constant;
 import static org.incendo.cloud.parser.ParserDescriptor.parserDescriptor;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
 
 @ModuleCommand.Info(value = "trackstats", aliases = {"tstats", "ts"}, i18n = "track-stats", perm = "trackstats")
 class Commands extends ConfiguredModuleCommand {
 
+    private static final int MAX_TOP_COUNT = 50;
+
     private final Scoreboard board;
+    private final Leaderboards leaderboards;
 
     @Inject
-    Commands(final Scoreboard board) {
+    Commands(final Scoreboard board, final Leaderboards leaderboards) {
         this.board = board;
+        this.leaderboards = leaderboards;
     }
 
     @Override
@@ -53,7 +67,7 @@ class Commands extends ConfiguredModuleCommand {
         this.register(
             this.literal(builder, "show")
                 .required("stat", parserDescriptor(new CalculatedStatParser<>(), CalculatedStat.class), RichDescription.translatable("modules.track-stats.commands.arguments.stat"))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     player.setScoreboard(this.board);
                     final CalculatedStat stat = context.get("stat");
                     if (stat.getObjective(this.board).getDisplaySlot() == DisplaySlot.SIDEBAR) {
@@ -66,7 +80,7 @@ class Commands extends ConfiguredModuleCommand {
         );
         this.register(
             this.literal(builder, "clear")
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final @Nullable Objective currentlyDisplayed = this.board.getObjective(DisplaySlot.SIDEBAR);
                     if (currentlyDisplayed == null || !Stats.REGISTRY.containsKey(currentlyDisplayed.getName())) {
                         context.sender().sendMessage(translatable("modules.track-stats.commands.clear.no-display", YELLOW));
@@ -76,5 +90,47 @@ class Commands extends ConfiguredModuleCommand {
                     }
                 }))
         );
+        this.register(
+            this.literal(this.builder(), "top")
+                .required("stat", parserDescriptor(new CalculatedStatParser<>(), CalculatedStat.class), RichDescription.translatable("modules.track-stats.commands.arguments.stat"))
+                .optional("count", integerParser(1, MAX_TOP_COUNT), constant(10))
+                .handler(context -> {
+                    final CalculatedStat stat = context.get("stat");
+                    final List<Leaderboard.Entry> top = this.leaderboards.get(stat).top(context.get("count"));
+                    if (top.isEmpty()) {
+                        context.sender().sendMessage(translatable("modules.track-stats.commands.top.empty", YELLOW, translatable(stat, GOLD)));
+                        return;
+                    }
+                    final TextComponent.Builder message = text().append(translatable("modules.track-stats.commands.top.header", GOLD, translatable(stat, WHITE)));
+                    int rank = 0;
+                    for (int i = 0; i < top.size(); i++) {
+                        final Leaderboard.Entry entry = top.get(i);
+                        if (i == 0 || entry.score() != top.get(i - 1).score()) {
+                            rank = i + 1;
+                        }
+                        message.append(newline()).append(line(rank, entry.name(), entry.score()));
+                    }
+                    context.sender().sendMessage(message);
+                })
+        );
+        this.register(
+            this.literal(builder, "rank")
+                .required("stat", parserDescriptor(new CalculatedStatParser<>(), CalculatedStat.class), RichDescription.translatable("modules.track-stats.commands.arguments.stat"))
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
+                    final CalculatedStat stat = context.get("stat");
+                    final Leaderboard leaderboard = this.leaderboards.get(stat);
+                    final int rank = leaderboard.rank(player.getName());
+                    final @Nullable Integer score = leaderboard.score(player.getName());
+                    if (rank < 0 || score == null) {
+                        context.sender().sendMessage(translatable("modules.track-stats.commands.rank.unranked", YELLOW, translatable(stat, GOLD)));
+                    } else {
+                        context.sender().sendMessage(translatable("modules.track-stats.commands.rank.success", GREEN, translatable(stat, GOLD), text(rank, WHITE), text(leaderboard.size(), WHITE), text(score, WHITE)));
+                    }
+                }))
+        );
+    }
+
+    private static Component line(final int rank, final String name, final int score) {
+        return translatable("modules.track-stats.commands.top.line", GRAY, text(rank, WHITE), text(name, GOLD), text(score, WHITE));
     }
 }
@@ -3,7 +3,7 @@
  *
  * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
  *
- * Copyright (C) 2021-2026 Machine_Maker
+ * Copyright (C) 2026 Machine_Maker
  *
  * This program is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -17,7 +17,7 @@
  * You should have received a copy of the GNU General Public License
  * along with this program. If not, see <https://www.gnu.org/licenses/>.
  */
-package me.machinemaker.papertweaks.modules.survival.afkdisplay;
+package me.machinemaker.papertweaks.modules.survival.trackstats;
 
 import me.machinemaker.lectern.annotations.Description;
 import me.machinemaker.lectern.annotations.Key;
@@ -27,7 +27,7 @@ import me.machinemaker.papertweaks.modules.ModuleConfig;
 @PTConfig
 class Config extends ModuleConfig {
 
-    @Key("afk-time-in-seconds")
-    @Description("The time in seconds without moving before a player is considered AFK")
-    public long secondsBeforeAFK = 60 * 5L;
+    @Key("pause-while-afk")
+    @Description("Stop updating the stats of players who are AFK. Their scores catch up once they are active again")
+    public boolean pauseWhileAFK = false;
 }
@@ -0,0 +1,241 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackstats;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Ranking of entries by score, highest first, kept in an order statistics treap so
+ * updates, rank lookups and top-N queries don't need to sort every score.
+ * <p>
+ * Equal scores are ordered by name, but share the same rank.
+ */
+final class Leaderboard {
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private @Nullable Node root;
+
+    /**
+     * Sets the score of an entry, adding it if missing.
+     *
+     * @param name the entry name
+     * @param score the new score
+     */
+    synchronized void set(final String name, final int score) {
+        final @Nullable Node existing = this.nodes.get(name);
+        if (existing != null) {
+            if (existing.score == score) {
+                return;
+            }
+            this.root = delete(this.root, existing);
+        }
+        final Node node = new Node(name, score, this.random.nextInt());
+        this.nodes.put(name, node);
+        this.root = insert(this.root, node);
+    }
+
+    synchronized boolean remove(final String name) {
+        final @Nullable Node node = this.nodes.remove(name);
+        if (node == null) {
+            return false;
+        }
+        this.root = delete(this.root, node);
+        return true;
+    }
+
+    synchronized void clear() {
+        this.nodes.clear();
+        this.root = null;
+    }
+
+    synchronized int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Gets the score of an entry.
+     *
+     * @param name the entry name
+     * @return the score, or null if not ranked
+     */
+    synchronized @Nullable Integer score(final String name) {
+        final @Nullable Node node = this.nodes.get(name);
+        return node == null ? null : node.score;
+    }
+
+    /**
+     * Gets the rank of an entry, one plus the number of entries
+     * with a strictly higher score.
+     *
+     * @param name the entry name
+     * @return the rank, starting at 1, or -1 if not ranked
+     */
+    synchronized int rank(final String name) {
+        final @Nullable Node node = this.nodes.get(name);
+        if (node == null) {
+            return -1;
+        }
+        int higher = 0;
+        @Nullable Node current = this.root;
+        while (current != null) {
+            if (current.score > node.score) {
+                higher += size(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return higher + 1;
+    }
+
+    /**
+     * Gets the highest scoring entries.
+     *
+     * @param count the max number of entries
+     * @return the entries, highest score first
+     */
+    synchronized List<Entry> top(final int count) {
+        final List<Entry> top = new ArrayList<>(Math.min(count, this.nodes.size()));
+        final Deque<Node> stack = new ArrayDeque<>();
+        @Nullable Node current = this.root;
+        while (top.size() < count && (current != null || !stack.isEmpty())) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            final Node node = stack.pop();
+            top.add(new Entry(node.name, node.score));
+            current = node.right;
+        }
+        return top;
+    }
+
+    private static int compare(final Node first, final Node second) {
+        if (first.score != second.score) {
+            return first.score > second.score ? -1 : 1;
+        }
+        return first.name.compareTo(second.name);
+    }
+
+    private static int size(final @Nullable Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node insert(final @Nullable Node parent, final Node node) {
+        if (parent == null) {
+            return node;
+        }
+        if (compare(node, parent) < 0) {
+            parent.left = insert(parent.left, node);
+            if (parent.left.priority > parent.priority) {
+                return rotateRight(parent);
+            }
+        } else {
+            parent.right = insert(parent.right, node);
+            if (parent.right.priority > parent.priority) {
+                return rotateLeft(parent);
+            }
+        }
+        parent.update();
+        return parent;
+    }
+
+    private static @Nullable Node delete(final @Nullable Node parent, final Node node) {
+        if (parent == null) {
+            return null;
+        }
+        if (parent == node) {
+            return merge(parent.left, parent.right);
+        }
+        if (compare(node, parent) < 0) {
+            parent.left = delete(parent.left, node);
+        } else {
+            parent.right = delete(parent.right, node);
+        }
+        parent.update();
+        return parent;
+    }
+
+    private static @Nullable Node merge(final @Nullable Node first, final @Nullable Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    private static Node rotateRight(final Node node) {
+        final Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(final Node node) {
+        final Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    record Entry(String name, int score) {
+    }
+
+    private static final class Node {
+
+        private final String name;
+        private final int score;
+        private final int priority;
+        private int size = 1;
+        private @Nullable Node left;
+        private @Nullable Node right;
+
+        private Node(final String name, final int score, final int priority) {
+            this.name = name;
+            this.score = score;
+            this.priority = priority;
+        }
+
+        private void update() {
+            this.size = 1 + size(this.left) + size(this.right);
+        }
+    }
+}
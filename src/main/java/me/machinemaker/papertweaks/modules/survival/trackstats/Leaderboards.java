@@ -0,0 +1,70 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackstats;
+
+import com.google.inject.Singleton;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+
+/**
+ * A {@link Leaderboard} for each stat. The objectives are the persisted
+ * state, the leaderboards are rebuilt from them once on enable and then
+ * updated on each score write.
+ */
+@Singleton
+class Leaderboards {
+
+    private final Leaderboard[] leaderboards = new Leaderboard[Stats.REGISTRY.size()];
+
+    Leaderboards() {
+        for (int i = 0; i < this.leaderboards.length; i++) {
+            this.leaderboards[i] = new Leaderboard();
+        }
+    }
+
+    Leaderboard get(final CalculatedStat stat) {
+        return this.leaderboards[stat.index()];
+    }
+
+    void update(final CalculatedStat stat, final String name, final int score) {
+        this.get(stat).set(name, score);
+    }
+
+    void load(final Scoreboard board) {
+        for (final CalculatedStat stat : Stats.REGISTRY.values()) {
+            final Leaderboard leaderboard = this.get(stat);
+            leaderboard.clear();
+            final Objective objective = stat.getObjective(board);
+            for (final String entry : board.getEntries()) {
+                final Score score = objective.getScore(entry);
+                if (score.isScoreSet()) {
+                    leaderboard.set(entry, score.getScore());
+                }
+            }
+        }
+    }
+
+    void clear() {
+        for (final Leaderboard leaderboard : this.leaderboards) {
+            leaderboard.clear();
+        }
+    }
+}
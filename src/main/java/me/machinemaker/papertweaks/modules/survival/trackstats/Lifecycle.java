@@ -31,24 +31,28 @@ import org.bukkit.scoreboard.Scoreboard;
 
 class Lifecycle extends ModuleLifecycle {
 
-    private final StatsRunnable runnable;
+    private final StatsTracker tracker;
     private final Scoreboard board;
+    private final Leaderboards leaderboards;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final StatsRunnable runnable, final Scoreboard board) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final StatsTracker tracker, final Scoreboard board, final Leaderboards leaderboards) {
         super(plugin, commands, listeners, configs, moduleRecipes);
-        this.runnable = runnable;
+        this.tracker = tracker;
         this.board = board;
+        this.leaderboards = leaderboards;
     }
 
     @Override
     public void onEnable() {
         Stats.registerStats(this.board);
-        this.runnable.runTaskTimer(1L, 5L);
+        this.leaderboards.load(this.board);
+        this.tracker.startAll();
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        this.runnable.cancel();
+        this.tracker.stopAll();
+        this.leaderboards.clear();
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackstats;
+
+import com.google.inject.Inject;
+import java.util.List;
+import me.machinemaker.papertweaks.modules.ModuleListener;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+class PlayerListener implements ModuleListener {
+
+    private static final List<ScaledStat> DAMAGE_DEALT = List.of(Stats.DAMAGE_DEALT);
+    private static final List<ScaledStat> DAMAGE_TAKEN = List.of(Stats.DAMAGE_TAKEN);
+
+    private final StatsTracker tracker;
+
+    @Inject
+    PlayerListener(final StatsTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        this.tracker.track(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.tracker.untrack(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(final BlockBreakEvent event) {
+        this.tracker.updateLater(event.getPlayer(), Stats.minedBy(event.getBlock().getType()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDamage(final EntityDamageEvent event) {
+        if (event.getEntity() instanceof final Player player) {
+            this.tracker.updateLater(player, DAMAGE_TAKEN);
+        }
+        if (event instanceof final EntityDamageByEntityEvent byEntity && byEntity.getDamager() instanceof final Player damager) {
+            this.tracker.updateLater(damager, DAMAGE_DEALT);
+        }
+    }
+}
@@ -41,6 +41,11 @@ final class ScaledStat extends CalculatedStat {
         return this.scaleFunction.applyAsInt(player.getStatistic(this.stat));
     }
 
+    @Override
+    boolean eventDriven() {
+        return this.stat == Statistic.DAMAGE_DEALT || this.stat == Statistic.DAMAGE_TAKEN;
+    }
+
     @Override
     public String translationKey() {
         if (this.translationKey == null) {
@@ -19,7 +19,10 @@
  */
 package me.machinemaker.papertweaks.modules.survival.trackstats;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.IntUnaryOperator;
 import org.bukkit.Material;
@@ -63,9 +66,23 @@ final class Stats {
     public static final ScaledStat TIME_SINCE_REST_MINS = createScaled(Statistic.TIME_SINCE_REST, IntOps.TICKS_TO_MINUTES, "Time since sleep (mins)", "tas_SinceRstMins");
     public static final ScaledStat CROUCH_TIME_MINS = createScaled(Statistic.SNEAK_TIME, IntOps.TICKS_TO_MINUTES, "Crouch time (mins)", "tas_CrouchMins");
 
+    private static final Map<Material, List<CombinedStat>> MINED_BY = new EnumMap<>(Material.class);
+
+    static {
+        for (final CalculatedStat stat : REGISTRY.values()) {
+            if (stat instanceof final CombinedStat combined && combined.eventDriven()) {
+                combined.mined().forEach(material -> MINED_BY.computeIfAbsent(material, m -> new ArrayList<>()).add(combined));
+            }
+        }
+    }
+
     private Stats() {
     }
 
+    static List<CombinedStat> minedBy(final Material material) {
+        return MINED_BY.getOrDefault(material, List.of());
+    }
+
     private static ScaledStat createScaled(final Statistic stat, final IntUnaryOperator scaleFunction, final String displayName, final String objectiveName) {
         return new ScaledStat(stat, scaleFunction, displayName, objectiveName);
     }
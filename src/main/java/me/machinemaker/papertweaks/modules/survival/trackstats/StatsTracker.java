@@ -0,0 +1,156 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackstats;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import me.machinemaker.papertweaks.afk.AFKService;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scoreboard.Scoreboard;
+
+/**
+ * Keeps the stat objectives up to date.
+ * <p>
+ * Each player has a snapshot of the scores last written for them, and a score is only
+ * written when the computed value differs. Polled stats are updated by a timer per
+ * player, offset by a hash of their UUID so players are spread across ticks. Stats
+ * that only change on events, like mining or damage, are updated after those events.
+ */
+@Singleton
+class StatsTracker {
+
+    static final long PERIOD = 15L;
+    private static final List<CalculatedStat> POLLED = Stats.REGISTRY.values().stream().filter(stat -> !stat.eventDriven()).toList();
+
+    private final JavaPlugin plugin;
+    private final Scoreboard board;
+    private final Config config;
+    private final AFKService afkService;
+    private final Leaderboards leaderboards;
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Inject
+    StatsTracker(final JavaPlugin plugin, final Scoreboard board, final Config config, final AFKService afkService, final Leaderboards leaderboards) {
+        this.plugin = plugin;
+        this.board = board;
+        this.config = config;
+        this.afkService = afkService;
+        this.leaderboards = leaderboards;
+    }
+
+    void startAll() {
+        Bukkit.getOnlinePlayers().forEach(this::track);
+    }
+
+    void stopAll() {
+        this.snapshots.values().forEach(snapshot -> snapshot.task.cancel());
+        this.snapshots.clear();
+    }
+
+    void track(final Player player) {
+        this.snapshots.computeIfAbsent(player.getUniqueId(), uuid -> new Snapshot(player));
+    }
+
+    void untrack(final Player player) {
+        final Snapshot snapshot = this.snapshots.remove(player.getUniqueId());
+        if (snapshot != null) {
+            snapshot.task.cancel();
+        }
+    }
+
+    /**
+     * Updates event driven stats after an event. The update runs a tick
+     * later, as the statistic is incremented after the event. Events before
+     * that update only add their stats to it.
+     *
+     * @param player the player
+     * @param stats the stats that might have changed
+     */
+    void updateLater(final Player player, final List<? extends CalculatedStat> stats) {
+        final Snapshot snapshot = this.snapshots.get(player.getUniqueId());
+        if (snapshot != null && !stats.isEmpty()) {
+            snapshot.updateLater(stats);
+        }
+    }
+
+    private final class Snapshot {
+
+        private final Player player;
+        private final int[] scores = new int[Stats.REGISTRY.size()];
+        private final SchedulerUtil.Task task;
+        private final Set<CalculatedStat> pending = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        private Snapshot(final Player player) {
+            this.player = player;
+            Arrays.fill(this.scores, Integer.MIN_VALUE);
+            final long offset = Math.floorMod(player.getUniqueId().hashCode(), PERIOD);
+            this.task = SchedulerUtil.runEntityTaskTimer(StatsTracker.this.plugin, player, t -> this.poll(), null, 1L + offset, PERIOD);
+            // event driven stats still need their initial value
+            SchedulerUtil.runEntityTask(StatsTracker.this.plugin, player, () -> Stats.REGISTRY.values().stream().filter(CalculatedStat::eventDriven).forEach(this::update), null);
+        }
+
+        private void updateLater(final List<? extends CalculatedStat> stats) {
+            this.pending.addAll(stats);
+            if (this.flushScheduled.compareAndSet(false, true)) {
+                SchedulerUtil.runEntityTaskLater(StatsTracker.this.plugin, this.player, this::flush, () -> this.flushScheduled.set(false), 1L);
+            }
+        }
+
+        private void flush() {
+            this.flushScheduled.set(false); // stats added while flushing schedule the next one
+            final Iterator<CalculatedStat> iterator = this.pending.iterator();
+            while (iterator.hasNext()) {
+                final CalculatedStat stat = iterator.next();
+                iterator.remove();
+                this.update(stat);
+            }
+        }
+
+        private void poll() {
+            if (StatsTracker.this.config.pauseWhileAFK && StatsTracker.this.afkService.isAFK(this.player)) {
+                return;
+            }
+            for (final CalculatedStat stat : POLLED) {
+                this.update(stat);
+            }
+        }
+
+        private void update(final CalculatedStat stat) {
+            final int value = stat.computeScore(this.player);
+            if (this.scores[stat.index()] != value) {
+                this.scores[stat.index()] = value;
+                stat.setScore(StatsTracker.this.board, this.player, value);
+                StatsTracker.this.leaderboards.update(stat, this.player.getName(), value);
+            }
+        }
+    }
+}
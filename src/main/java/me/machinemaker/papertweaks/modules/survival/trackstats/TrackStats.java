@@ -24,7 +24,9 @@ import java.util.Set;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
+import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
+import me.machinemaker.papertweaks.modules.ModuleListener;
 import me.machinemaker.papertweaks.utils.boards.Scoreboards;
 import org.bukkit.scoreboard.Scoreboard;
 
@@ -42,6 +44,16 @@ public class TrackStats extends ModuleBase {
         return Lifecycle.class;
     }
 
+    @Override
+    protected Collection<Class<? extends ModuleListener>> listeners() {
+        return Set.of(PlayerListener.class);
+    }
+
+    @Override
+    protected Collection<Class<? extends ModuleConfig>> configs() {
+        return Set.of(Config.class);
+    }
+
     @Override
     protected Collection<Class<? extends ModuleCommand>> commands() {
         return Set.of(Commands.class);
@@ -21,6 +21,7 @@ package me.machinemaker.papertweaks.modules.survival.workstationhighlights;
 
 import org.incendo.cloud.Command;
 import com.google.inject.Inject;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.utils.Entities;
@@ -50,7 +51,7 @@ class Commands extends ModuleCommand {
         this.register(
             builder
                 .permission(this.modulePermission("vanillatweaks.workstationhighlights.findworkstation"))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final @Nullable Villager villager = Entities.getSingleNearbyEntityOfType(Villager.class, player.getLocation(), 3, 3, 3);
                     if (villager == null) {
                         this.messageService.noVillagerNearby(context.sender());
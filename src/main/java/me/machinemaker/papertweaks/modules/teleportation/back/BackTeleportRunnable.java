@@ -19,14 +19,13 @@
  */
 package me.machinemaker.papertweaks.modules.teleportation.back;
 
-import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldownManager;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.utils.runnables.TeleportRunnable;
-import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import net.kyori.adventure.audience.Audience;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -37,7 +36,7 @@ import static net.kyori.adventure.text.format.NamedTextColor.RED;
 
 public class BackTeleportRunnable extends TeleportRunnable {
 
-    static final Map<UUID, SchedulerUtil.Task> AWAITING_TELEPORT = Maps.newHashMap();
+    static final Map<UUID, BackTeleportRunnable> AWAITING_TELEPORT = new ConcurrentHashMap<>();
     @Inject
     private static CommandCooldownManager<CommandDispatcher, UUID> cooldownManager;
     @Inject
@@ -50,7 +49,8 @@ public class BackTeleportRunnable extends TeleportRunnable {
     }
 
     public void start() {
-        AWAITING_TELEPORT.put(this.player.getUniqueId(), this.runTaskTimer(plugin, 1L, 1L));
+        this.runTaskTimer(plugin, 1L, 1L);
+        AWAITING_TELEPORT.put(this.player.getUniqueId(), this);
     }
 
     @Override
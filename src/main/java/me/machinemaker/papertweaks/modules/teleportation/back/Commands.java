@@ -21,6 +21,7 @@ package me.machinemaker.papertweaks.modules.teleportation.back;
 
 import com.google.inject.Inject;
 import java.time.Duration;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldown;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
@@ -61,7 +62,7 @@ class Commands extends ConfiguredModuleCommand {
         this.register(builder
             .apply(backCooldown)
             .permission(this.modulePermission("vanillatweaks.back"))
-            .handler(this.sync((context, player) -> {
+            .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                 if (BackTeleportRunnable.AWAITING_TELEPORT.containsKey(player.getUniqueId())) {
                     return;
                 }
@@ -76,11 +77,7 @@ class Commands extends ConfiguredModuleCommand {
                     new BackTeleportRunnable(player, loc, this.config.delay * 20L, context.sender()).start();
                 } else {
                     Back.setBackLocation(player, player.getLocation());
-                    if (loc.getChunk().isLoaded()) {
-                        player.teleport(loc);
-                    } else {
-                        player.teleportAsync(loc);
-                    }
+                    player.teleportAsync(loc);
                 }
             }))
         );
@@ -37,11 +37,7 @@ final class Lifecycle extends ModuleLifecycle {
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        BackTeleportRunnable.AWAITING_TELEPORT.forEach((uuid, bukkitTask) -> {
-            if (!bukkitTask.isCancelled()) {
-                bukkitTask.cancel();
-            }
-        });
+        BackTeleportRunnable.AWAITING_TELEPORT.forEach((uuid, runnable) -> runnable.cancel());
         BackTeleportRunnable.AWAITING_TELEPORT.clear();
     }
 }
@@ -23,9 +23,11 @@ import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldown;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.cloud.dispatchers.PlayerCommandDispatcher;
+import me.machinemaker.papertweaks.cloud.parsers.HomeSuggestions;
 import me.machinemaker.papertweaks.db.dao.teleportation.homes.HomesDAO;
 import me.machinemaker.papertweaks.db.model.teleportation.homes.Home;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
@@ -57,11 +59,13 @@ class Commands extends ConfiguredModuleCommand {
     static final CloudKey<Void> HOME_COMMAND_COOLDOWN_KEY = cloudKey("papertweaks:home_cmd_cooldown");
 
     private final HomesDAO homesDAO;
+    private final HomeSuggestions homeSuggestions;
     private final Config config;
 
     @Inject
-    Commands(final HomesDAO homesDAO, final Config config) {
+    Commands(final HomesDAO homesDAO, final HomeSuggestions homeSuggestions, final Config config) {
         this.homesDAO = homesDAO;
+        this.homeSuggestions = homeSuggestions;
         this.config = config;
     }
 
@@ -90,6 +94,7 @@ class Commands extends ConfiguredModuleCommand {
                         return;
                     }
                     this.homesDAO.insertHome(new Home(player.getUniqueId(), homeName, player.getLocation()));
+                    this.homeSuggestions.invalidate(player.getUniqueId());
                     context.sender().sendMessage(translatable("modules.homes.commands.sethome.success", GOLD, text(homeName, YELLOW)));
                 })
         );
@@ -99,6 +104,7 @@ class Commands extends ConfiguredModuleCommand {
                 .handler(context -> {
                     final Home home = context.get("home");
                     this.homesDAO.deleteHome(home);
+                    this.homeSuggestions.invalidate(home.getPlayer());
                     context.sender().sendMessage(translatable("modules.homes.commands.delhome.success", GOLD, text(home.getName(), YELLOW)));
                 })
         );
@@ -118,6 +124,7 @@ class Commands extends ConfiguredModuleCommand {
                     }
                     home.setName(newName);
                     this.homesDAO.updateHome(home);
+                    this.homeSuggestions.invalidate(home.getPlayer());
                     context.sender().sendMessage(translatable("modules.homes.commands.rename.success", GOLD, text(oldName, YELLOW), text(newName, YELLOW)));
                 })
         );
@@ -137,6 +144,7 @@ class Commands extends ConfiguredModuleCommand {
                         final @Nullable Location loc = home.getLocation();
                         if (loc == null) {
                             this.homesDAO.deleteHome(home);
+                            this.homeSuggestions.invalidate(home.getPlayer());
                         } else {
                             if (i != 0) {
                                 component.append(newline());
@@ -151,13 +159,14 @@ class Commands extends ConfiguredModuleCommand {
             this.player("home")
                 .apply(homeCooldown)
                 .optional("home", homeDescriptor(this.argumentFactory), parsed("home"))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     if (HomeTeleportRunnable.AWAITING_TELEPORT.containsKey(player.getUniqueId())) {
                         return;
                     }
                     final Home home = context.get("home");
                     if (home.getLocation() == null) {
                         this.homesDAO.deleteHome(home);
+                        this.homeSuggestions.invalidate(home.getPlayer());
                         context.sender().sendMessage(translatable("modules.homes.commands.arguments.home.invalid", RED));
                         return;
                     }
@@ -170,11 +179,7 @@ class Commands extends ConfiguredModuleCommand {
                         new HomeTeleportRunnable(player, home.getLocation(), this.config.sethomeDelay * 20, context.sender()).start();
                     } else {
                         Back.setBackLocation(player, player.getLocation()); // Store back location
-                        if (home.getLocation().getChunk().isLoaded()) {
-                            player.teleport(home.getLocation());
-                        } else {
-                            player.teleportAsync(home.getLocation());
-                        }
+                        player.teleportAsync(home.getLocation());
                     }
                 }))
         );
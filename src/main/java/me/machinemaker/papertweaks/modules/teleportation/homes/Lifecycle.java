@@ -21,6 +21,7 @@ package me.machinemaker.papertweaks.modules.teleportation.homes;
 
 import com.google.inject.Inject;
 import java.util.Set;
+import me.machinemaker.papertweaks.cloud.parsers.HomeSuggestions;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
@@ -30,18 +31,18 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 class Lifecycle extends ModuleLifecycle {
 
+    private final HomeSuggestions homeSuggestions;
+
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final HomeSuggestions homeSuggestions) {
         super(plugin, commands, listeners, configs, moduleRecipes);
+        this.homeSuggestions = homeSuggestions;
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        HomeTeleportRunnable.AWAITING_TELEPORT.forEach((uuid, bukkitTask) -> {
-            if (!bukkitTask.isCancelled()) {
-                bukkitTask.cancel();
-            }
-        });
+        HomeTeleportRunnable.AWAITING_TELEPORT.forEach((uuid, runnable) -> runnable.cancel());
         HomeTeleportRunnable.AWAITING_TELEPORT.clear();
+        this.homeSuggestions.invalidateAll();
     }
 }
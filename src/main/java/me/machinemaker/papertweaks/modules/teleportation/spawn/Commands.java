@@ -21,6 +21,7 @@ package me.machinemaker.papertweaks.modules.teleportation.spawn;
 
 import com.google.inject.Inject;
 import java.time.Duration;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldown;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -75,7 +76,7 @@ class Commands extends ModuleCommand {
     }
 
     private CommandExecutionHandler<CommandDispatcher> handleSpawnCmd() {
-        return this.sync((context, player) -> {
+        return this.execute(ExecutionTarget.SENDER, (context, player) -> {
             if (SpawnTeleportRunnable.AWAITING_TELEPORT.containsKey(player.getUniqueId())) {
                 return;
             }
@@ -85,11 +86,7 @@ class Commands extends ModuleCommand {
                 new SpawnTeleportRunnable(player, context.sender(), spawnLoc, this.config.delay * 20).start();
             } else {
                 Back.setBackLocation(player, player.getLocation()); // Set back location
-                if (spawnLoc.getChunk().isLoaded()) {
-                    player.teleport(spawnLoc);
-                } else {
-                    player.teleportAsync(spawnLoc);
-                }
+                player.teleportAsync(spawnLoc);
             }
         });
     }
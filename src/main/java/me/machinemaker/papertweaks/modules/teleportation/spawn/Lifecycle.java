@@ -37,11 +37,7 @@ class Lifecycle extends ModuleLifecycle {
 
     @Override
     public void onDisable(final boolean isShutdown) {
-        SpawnTeleportRunnable.AWAITING_TELEPORT.forEach((uuid, bukkitTask) -> {
-            if (!bukkitTask.isCancelled()) {
-                bukkitTask.cancel();
-            }
-        });
+        SpawnTeleportRunnable.AWAITING_TELEPORT.forEach((uuid, runnable) -> runnable.cancel());
         SpawnTeleportRunnable.AWAITING_TELEPORT.clear();
     }
 }
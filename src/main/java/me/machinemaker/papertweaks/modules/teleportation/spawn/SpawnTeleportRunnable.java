@@ -19,15 +19,14 @@
  */
 package me.machinemaker.papertweaks.modules.teleportation.spawn;
 
-import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldownManager;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.teleportation.back.Back;
 import me.machinemaker.papertweaks.utils.runnables.TeleportRunnable;
-import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import net.kyori.adventure.audience.Audience;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -38,7 +37,7 @@ import static net.kyori.adventure.text.format.NamedTextColor.RED;
 
 class SpawnTeleportRunnable extends TeleportRunnable {
 
-    static final Map<UUID, SchedulerUtil.Task> AWAITING_TELEPORT = Maps.newHashMap();
+    static final Map<UUID, SpawnTeleportRunnable> AWAITING_TELEPORT = new ConcurrentHashMap<>();
     @Inject
     private static CommandCooldownManager<CommandDispatcher, UUID> cooldownManager;
     @Inject
@@ -52,7 +51,8 @@ class SpawnTeleportRunnable extends TeleportRunnable {
     }
 
     public void start() {
-        AWAITING_TELEPORT.put(this.player.getUniqueId(), this.runTaskTimer(plugin, 1L, 1L));
+        this.runTaskTimer(plugin, 1L, 1L);
+        AWAITING_TELEPORT.put(this.player.getUniqueId(), this);
     }
 
     @Override
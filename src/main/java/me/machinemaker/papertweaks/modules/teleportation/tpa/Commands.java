@@ -22,8 +22,8 @@ package me.machinemaker.papertweaks.modules.teleportation.tpa;
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldown;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
@@ -55,11 +55,8 @@ class Commands extends ConfiguredModuleCommand {
         this.tpaManager = tpaManager;
         this.config = config;
         this.requestSuggestions = (context, input) -> {
-            if (this.tpaManager.requestsByTarget.containsKey(context.sender().getUUID())) {
-                final Collection<Request> requests = this.tpaManager.requestsByTarget.get(context.sender().getUUID());
-                return requests.stream().map(Request::playerFrom).filter(Optional::isPresent).map(Optional::get).map(Player::getName).toList();
-            }
-            return Collections.emptyList();
+            final Collection<Request> requests = this.tpaManager.requests.toTarget(context.sender().getUUID());
+            return requests.stream().map(Request::playerFrom).filter(Optional::isPresent).map(Optional::get).map(Player::getName).toList();
         };
     }
 
@@ -76,7 +73,7 @@ class Commands extends ConfiguredModuleCommand {
             this.literal(builder, "request")
                 .apply(requestCooldown)
                 .required("target", playerParser(), playersWithoutSelf())
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final Player target = context.get("target");
                     if (player == target) {
                         context.sender().sendMessage(translatable("modules.tpa.commands.request.fail.same-player", RED));
@@ -87,20 +84,20 @@ class Commands extends ConfiguredModuleCommand {
         );
         this.register(
             this.literal(builder, "cancel")
-                .handler(this.sync((context, player) -> this.tpaManager.cancelRequestFrom(player)))
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> this.tpaManager.cancelRequestFrom(player)))
         );
         this.register(
             this.literal(builder, "accept")
                 .optional("from", playerParser(), this.requestSuggestions)
                 .argument(PlayerParser.<CommandDispatcher>playerComponent().name("from").optional().suggestionProvider(this.requestSuggestions))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     this.tpaManager.acceptRequest(player, context.getOrDefault("from", null));
                 }))
         );
         this.register(
             this.literal(builder, "deny")
                 .optional("from", playerParser(), this.requestSuggestions)
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     this.tpaManager.denyRequest(player, context.getOrDefault("from", null));
                 }))
         );
@@ -31,20 +31,23 @@ import org.bukkit.plugin.java.JavaPlugin;
 class Lifecycle extends ModuleLifecycle {
 
     private final TPARunnable tpaRunnable;
+    private final TPAManager tpaManager;
 
     @Inject
-    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final TPARunnable tpaRunnable) {
+    Lifecycle(final JavaPlugin plugin, final Set<ModuleCommand> commands, final Set<ModuleListener> listeners, final Set<ModuleConfig> configs, final Set<ModuleRecipe<?>> moduleRecipes, final TPARunnable tpaRunnable, final TPAManager tpaManager) {
         super(plugin, commands, listeners, configs, moduleRecipes);
         this.tpaRunnable = tpaRunnable;
+        this.tpaManager = tpaManager;
     }
 
     @Override
     public void onEnable() {
-        this.tpaRunnable.runTaskTimerAsynchronously(1L, 1L);
+        this.tpaRunnable.start();
     }
 
     @Override
     public void onDisable(final boolean isShutdown) {
         this.tpaRunnable.cancel();
+        this.tpaManager.requests.clear();
     }
 }
@@ -22,8 +22,11 @@ package me.machinemaker.papertweaks.modules.teleportation.tpa;
 import java.util.Optional;
 import java.util.UUID;
 import me.machinemaker.papertweaks.modules.teleportation.back.Back;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static net.kyori.adventure.text.Component.text;
@@ -32,12 +35,16 @@ import static net.kyori.adventure.text.format.NamedTextColor.GOLD;
 import static net.kyori.adventure.text.format.NamedTextColor.RED;
 import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
 
-record Request(UUID from, UUID to, long cancelAfter) {
+record Request(UUID from, UUID to, long cancelAfter) implements RequestBook.Entry {
 
-    boolean complete() {
-        if (!Bukkit.isPrimaryThread()) {
-            throw new IllegalStateException("Must be accessed from main thread");
-        }
+    /**
+     * Teleports the sender of this request to its target. Must be called
+     * from the target's thread, the sender is teleported on their own thread.
+     *
+     * @param plugin the plugin to schedule the teleport with
+     * @return true if both players were online
+     */
+    boolean complete(final Plugin plugin) {
         final @Nullable Player from = Bukkit.getPlayer(this.from);
         final @Nullable Player to = Bukkit.getPlayer(this.to);
         if (from == null || to == null) {
@@ -50,12 +57,11 @@ record Request(UUID from, UUID to, long cancelAfter) {
         }
         from.sendMessage(translatable("modules.tpa.teleport.success.sender", GOLD, text(to.getName(), YELLOW)));
         to.sendMessage(translatable("modules.tpa.teleport.success.target", GOLD, text(from.getName(), YELLOW)));
-        Back.setBackLocation(from, from.getLocation());
-        if (to.getLocation().getChunk().isLoaded()) {
-            from.teleport(to);
-        } else {
-            from.teleportAsync(to.getLocation());
-        }
+        final Location destination = to.getLocation();
+        SchedulerUtil.runEntityTask(plugin, from, () -> {
+            Back.setBackLocation(from, from.getLocation());
+            from.teleportAsync(destination);
+        }, null);
         return true;
     }
 
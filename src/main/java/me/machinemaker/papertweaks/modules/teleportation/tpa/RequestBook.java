@@ -0,0 +1,198 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.teleportation.tpa;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Pending requests indexed by sender and by target, with a delay queue that
+ * hands out each request once it expires.
+ * <p>
+ * A request is resolved by whoever {@link #claim(Entry) claims} it first, so
+ * accepting a request at the moment it expires either accepts or expires it,
+ * never both. Claimed requests are left in the delay queue and skipped once
+ * they come due.
+ *
+ * @param <R> the request type
+ */
+final class RequestBook<R extends RequestBook.Entry> {
+
+    private final Map<UUID, R> bySender = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, R>> byTarget = new ConcurrentHashMap<>();
+    private final DelayQueue<Expiry<R>> expiries = new DelayQueue<>();
+
+    /**
+     * Adds a request, replacing any pending request from the same sender.
+     *
+     * @param request the request
+     * @return the replaced request, already claimed, or null
+     */
+    @Nullable R add(final R request) {
+        // indexed by target first, so it can't be claimed before it is fully indexed
+        this.byTarget.compute(request.to(), (uuid, requests) -> {
+            final Map<UUID, R> map = requests == null ? new ConcurrentHashMap<>() : requests;
+            map.put(request.from(), request);
+            return map;
+        });
+        final @Nullable R previous = this.bySender.put(request.from(), request);
+        if (previous != null && !previous.equals(request)) {
+            this.unindex(previous);
+        }
+        this.expiries.add(new Expiry<>(request));
+        return previous;
+    }
+
+    @Nullable R fromSender(final UUID from) {
+        return this.bySender.get(from);
+    }
+
+    @Nullable R get(final UUID to, final UUID from) {
+        final @Nullable Map<UUID, R> requests = this.byTarget.get(to);
+        return requests == null ? null : requests.get(from);
+    }
+
+    Collection<R> toTarget(final UUID to) {
+        final @Nullable Map<UUID, R> requests = this.byTarget.get(to);
+        return requests == null ? List.of() : List.copyOf(requests.values());
+    }
+
+    boolean hasRequestsTo(final UUID to) {
+        return this.byTarget.containsKey(to);
+    }
+
+    int size() {
+        return this.bySender.size();
+    }
+
+    /**
+     * Claims a request so the caller is the only one resolving it.
+     *
+     * @param request the request
+     * @return true if the request was pending and is now removed
+     */
+    boolean claim(final R request) {
+        if (!this.bySender.remove(request.from(), request)) {
+            return false;
+        }
+        this.unindex(request);
+        return true;
+    }
+
+    /**
+     * Claims the next expired request, if any.
+     *
+     * @return the expired request or null
+     */
+    @Nullable R pollExpired() {
+        @Nullable Expiry<R> expiry;
+        while ((expiry = this.expiries.poll()) != null) {
+            if (this.claim(expiry.request())) {
+                return expiry.request();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits for and claims the next expired request.
+     *
+     * @return the expired request
+     * @throws InterruptedException if interrupted while waiting
+     */
+    R takeExpired() throws InterruptedException {
+        while (true) {
+            final R request = this.expiries.take().request();
+            if (this.claim(request)) {
+                return request;
+            }
+        }
+    }
+
+    /**
+     * Claims every request sent by or to a player.
+     *
+     * @param player the player
+     * @return the claimed requests
+     */
+    List<R> removePlayer(final UUID player) {
+        final List<R> removed = new ArrayList<>();
+        final @Nullable R sent = this.bySender.get(player);
+        if (sent != null && this.claim(sent)) {
+            removed.add(sent);
+        }
+        for (final R received : this.toTarget(player)) {
+            if (this.claim(received)) {
+                removed.add(received);
+            }
+        }
+        return removed;
+    }
+
+    void clear() {
+        this.bySender.values().forEach(this::claim);
+        this.expiries.clear();
+    }
+
+    private void unindex(final R request) {
+        this.byTarget.computeIfPresent(request.to(), (uuid, requests) -> {
+            requests.remove(request.from(), request);
+            return requests.isEmpty() ? null : requests;
+        });
+    }
+
+    interface Entry {
+
+        UUID from();
+
+        UUID to();
+
+        /**
+         * Gets when this request expires.
+         *
+         * @return the epoch millis
+         */
+        long cancelAfter();
+    }
+
+    private record Expiry<R extends Entry>(R request) implements Delayed {
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(this.request.cancelAfter() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            if (other instanceof final Expiry<?> expiry) {
+                return Long.compare(this.request.cancelAfter(), expiry.request().cancelAfter());
+            }
+            return Long.compare(this.getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -26,6 +26,7 @@ import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
+import me.machinemaker.papertweaks.modules.ModuleListener;
 
 @ModuleInfo(name = "TPA", configPath = "teleportation.tpa", description = "Request teleports to other players")
 public class TPA extends ModuleBase {
@@ -40,6 +41,11 @@ public class TPA extends ModuleBase {
         return Lifecycle.class;
     }
 
+    @Override
+    protected Collection<Class<? extends ModuleListener>> listeners() {
+        return Set.of(PlayerListener.class);
+    }
+
     @Override
     protected Collection<Class<? extends ModuleCommand>> commands() {
         return Set.of(Commands.class);
@@ -19,19 +19,15 @@
  */
 package me.machinemaker.papertweaks.modules.teleportation.tpa;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.Collection;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import me.machinemaker.papertweaks.cloud.cooldown.CommandCooldownManager;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static net.kyori.adventure.text.Component.text;
@@ -45,35 +41,34 @@ import static net.kyori.adventure.text.format.NamedTextColor.YELLOW;
 @Singleton
 class TPAManager {
 
-    final Map<UUID, Request> requestsBySender = new ConcurrentHashMap<>();
-    final Multimap<UUID, Request> requestsByTarget = Multimaps.synchronizedSetMultimap(HashMultimap.create());
+    static final long REQUEST_TIMEOUT = 60 * 1000L;
+
+    final RequestBook<Request> requests = new RequestBook<>();
+    private final Plugin plugin;
     private final CommandCooldownManager<CommandDispatcher, UUID> cooldownManager;
 
     @Inject
-    TPAManager(final CommandCooldownManager<CommandDispatcher, UUID> cooldownManager) {
+    TPAManager(final Plugin plugin, final CommandCooldownManager<CommandDispatcher, UUID> cooldownManager) {
+        this.plugin = plugin;
         this.cooldownManager = cooldownManager;
     }
 
     public void startRequest(final Player from, final Player to) {
-        if (this.requestsBySender.containsKey(from.getUniqueId())) {
-            this.requestsBySender.get(from.getUniqueId()).playerTo().ifPresent(player -> {
-                player.sendMessage(translatable("modules.tpa.teleport.fail.cancel", GOLD, text(player.getName(), YELLOW)));
-            });
-            this.requestsBySender.remove(from.getUniqueId());
-        }
-
         from.sendMessage(translatable("modules.tpa.teleport.request.sender", GOLD, text(to.getName(), YELLOW)));
         from.sendMessage(translatable("modules.tpa.teleport.request.sender.info", GOLD, text("/tpa cancel", YELLOW).hoverEvent(showText(translatable("modules.tpa.teleport.request.sender.info.hover", GOLD, text("/tpa cancel", YELLOW)))).clickEvent(runCommand("/tpa cancel"))));
         to.sendMessage(translatable("modules.tpa.teleport.request.target", GOLD, text(from.getName(), YELLOW)));
         to.sendMessage(translatable("modules.tpa.teleport.request.target.info.accept", GOLD, text("/tpa accept", YELLOW).hoverEvent(showText(translatable("modules.tpa.teleport.request.target.into.hover", GOLD, text("/tpa accept", YELLOW)))).clickEvent(runCommand("/tpa accept"))));
         to.sendMessage(translatable("modules.tpa.teleport.request.target.info.deny", GOLD, text("/tpa deny", YELLOW).hoverEvent(showText(translatable("modules.tpa.teleport.request.target.into.hover", GOLD, text("/tpa deny", YELLOW)))).clickEvent(runCommand("/tpa deny"))));
-        final Request request = new Request(from.getUniqueId(), to.getUniqueId(), System.currentTimeMillis() + (60 * 1000L));
-        this.requestsBySender.put(from.getUniqueId(), request);
-        this.requestsByTarget.put(to.getUniqueId(), request);
+        final @Nullable Request previous = this.requests.add(new Request(from.getUniqueId(), to.getUniqueId(), System.currentTimeMillis() + REQUEST_TIMEOUT));
+        if (previous != null) {
+            previous.playerTo().ifPresent(player -> {
+                player.sendMessage(translatable("modules.tpa.teleport.fail.cancel", GOLD, text(player.getName(), YELLOW)));
+            });
+        }
     }
 
     public void acceptRequest(final Player to, final @Nullable Player from) {
-        if (this.requestsByTarget.containsKey(to.getUniqueId())) {
+        if (this.requests.hasRequestsTo(to.getUniqueId())) {
             final @Nullable Optional<Request> request = this.getRequest(to, from);
             if (request != null) {
                 request.ifPresentOrElse(req -> this.handleAcceptedRequest(to, req), () -> to.sendMessage(translatable("modules.tpa.commands.accept.fail.not-valid-request", RED, text(from != null ? from.getName() : "N/A"))));
@@ -84,7 +79,7 @@ class TPAManager {
     }
 
     public void denyRequest(final Player to, final @Nullable Player from) {
-        if (this.requestsByTarget.containsKey(to.getUniqueId())) {
+        if (this.requests.hasRequestsTo(to.getUniqueId())) {
             final @Nullable Optional<Request> request = this.getRequest(to, from);
             if (request != null) {
                 request.ifPresentOrElse(req -> this.handleDeniedRequest(to, req), () -> to.sendMessage(translatable("modules.tpa.commands.deny.fail.not-valid-request", RED, text(from != null ? from.getName() : "N/A"))));
@@ -96,7 +91,7 @@ class TPAManager {
 
     private @Nullable Optional<Request> getRequest(final Player to, final @Nullable Player from) {
         if (from == null) {
-            final Collection<Request> requests = this.requestsByTarget.get(to.getUniqueId());
+            final Collection<Request> requests = this.requests.toTarget(to.getUniqueId());
             if (requests.size() > 1) {
                 to.sendMessage(translatable("modules.tpa.commands.request-response.fail.multiple", RED));
                 return null;
@@ -104,43 +99,63 @@ class TPAManager {
                 return requests.stream().findAny();
             }
         } else {
-            return this.requestsByTarget.get(to.getUniqueId()).stream().filter(r -> r.from().equals(from.getUniqueId())).findAny();
+            return Optional.ofNullable(this.requests.get(to.getUniqueId(), from.getUniqueId()));
         }
     }
 
     private void handleAcceptedRequest(final Player to, final Request req) {
-        req.complete();
-        this.requestsBySender.remove(req.from());
-        this.requestsByTarget.remove(to.getUniqueId(), req);
+        if (!this.requests.claim(req)) { // expired in the meantime
+            to.sendMessage(translatable("modules.tpa.commands.accept.fail.no-request", RED));
+            return;
+        }
+        req.complete(this.plugin);
     }
 
     private void handleDeniedRequest(final Player to, final Request req) {
+        if (!this.requests.claim(req)) {
+            to.sendMessage(translatable("modules.tpa.commands.deny.fail.no-request", RED));
+            return;
+        }
         if (req.playerFrom().isPresent()) {
             final Player player = req.playerFrom().get();
             player.sendMessage(translatable("modules.tpa.teleport.fail.denied", RED, text(to.getName())));
         }
         to.sendMessage(translatable("modules.tpa.commands.deny.success", GOLD, text(req.playerFrom().map(Player::getName).orElse("N/A"), YELLOW)));
-        this.requestsBySender.remove(req.from());
-        this.requestsByTarget.remove(to.getUniqueId(), req);
     }
 
     public void cancelRequestFrom(final Player from) {
-        if (this.requestsBySender.containsKey(from.getUniqueId())) {
-            this.cancelRequest(this.requestsBySender.get(from.getUniqueId()));
-            this.requestsBySender.remove(from.getUniqueId());
+        final @Nullable Request request = this.requests.fromSender(from.getUniqueId());
+        if (request != null && this.requests.claim(request)) {
+            this.cancelRequest(request);
         } else {
             from.sendMessage(translatable("modules.tpa.commands.cancel.fail.no-request", RED));
         }
     }
 
+    /**
+     * Notifies the sender of a claimed request that it was cancelled.
+     *
+     * @param request the claimed request
+     */
     public void cancelRequest(final Request request) {
         if (request.playerFrom().isPresent()) {
             final Player player = request.playerFrom().get();
             player.sendMessage(translatable("modules.tpa.teleport.fail.cancel", GOLD, text(player.getName(), YELLOW)));
 
         }
-        // this.requestsBySender.remove(request.from()); // Removed in TPARunnable via the iterator
-        this.requestsByTarget.remove(request.to(), request);
         this.cooldownManager.invalidate(request.from(), Commands.TPA_REQUEST_COOLDOWN_KEY);
     }
+
+    /**
+     * Drops every request sent by or to a player that left, and tells the other side.
+     *
+     * @param player the player that left
+     */
+    public void removePlayer(final Player player) {
+        for (final Request request : this.requests.removePlayer(player.getUniqueId())) {
+            final Optional<Player> other = request.from().equals(player.getUniqueId()) ? request.playerTo() : request.playerFrom();
+            other.ifPresent(p -> p.sendMessage(translatable("modules.tpa.teleport.fail.quit", GOLD, text(player.getName(), YELLOW))));
+            this.cooldownManager.invalidate(request.from(), Commands.TPA_REQUEST_COOLDOWN_KEY);
+        }
+    }
 }
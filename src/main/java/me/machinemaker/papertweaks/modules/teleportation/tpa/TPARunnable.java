@@ -21,33 +21,52 @@ package me.machinemaker.papertweaks.modules.teleportation.tpa;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.UUID;
-import me.machinemaker.papertweaks.utils.runnables.TimerRunnable;
 import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Waits on the request delay queue and cancels each request on the
+ * global thread as soon as it expires.
+ */
 @Singleton
-class TPARunnable extends TimerRunnable {
+class TPARunnable implements Runnable {
 
+    private final Plugin plugin;
     private final TPAManager manager;
+    private @Nullable Thread thread;
 
     @Inject
     TPARunnable(final Plugin plugin, final TPAManager manager) {
-        super(plugin);
+        this.plugin = plugin;
         this.manager = manager;
     }
 
+    synchronized void start() {
+        if (this.thread != null) {
+            throw new IllegalStateException("Already started");
+        }
+        this.thread = new Thread(this, "PaperTweaks-TPA-Expiry");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    synchronized void cancel() {
+        if (this.thread != null) {
+            this.thread.interrupt();
+            this.thread = null;
+        }
+    }
+
     @Override
     public void run() {
-        final Iterator<Map.Entry<UUID, Request>> iter = this.manager.requestsBySender.entrySet().iterator();
-        while (iter.hasNext()) {
-            final Map.Entry<UUID, Request> entry = iter.next();
-            if (System.currentTimeMillis() > entry.getValue().cancelAfter()) {
-                SchedulerUtil.runTask(this.plugin, () -> this.manager.cancelRequest(entry.getValue()));
-                iter.remove();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final Request request = this.manager.requests.takeExpired();
+                SchedulerUtil.runTask(this.plugin, () -> this.manager.cancelRequest(request));
             }
+        } catch (final InterruptedException ignored) {
+            // stopped
         }
     }
 }
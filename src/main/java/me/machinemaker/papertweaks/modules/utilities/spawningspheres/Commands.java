@@ -19,7 +19,10 @@
  */
 package me.machinemaker.papertweaks.modules.utilities.spawningspheres;
 
+import com.google.inject.Inject;
 import java.util.Collection;
+import java.util.Locale;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ConfiguredModuleCommand;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -29,6 +32,7 @@ import me.machinemaker.papertweaks.utils.Keys;
 import me.machinemaker.papertweaks.utils.PTUtils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.util.Services;
 import org.bukkit.Location;
@@ -36,13 +40,19 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.SpawnCategory;
 import org.bukkit.inventory.ItemStack;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 
+import static net.kyori.adventure.text.Component.newline;
 import static net.kyori.adventure.text.Component.text;
 import static net.kyori.adventure.text.Component.translatable;
+import static net.kyori.adventure.text.format.NamedTextColor.GOLD;
+import static net.kyori.adventure.text.format.NamedTextColor.GRAY;
 import static net.kyori.adventure.text.format.NamedTextColor.GREEN;
 import static net.kyori.adventure.text.format.NamedTextColor.RED;
+import static net.kyori.adventure.text.format.NamedTextColor.WHITE;
 import static net.kyori.adventure.text.format.TextDecoration.ITALIC;
 import static org.incendo.cloud.parser.standard.EnumParser.enumParser;
 
@@ -54,6 +64,17 @@ class Commands extends ConfiguredModuleCommand {
 
     private static final DespawnDistances DESPAWN_DISTANCES = new PaperDespawnDistances();
 
+    private final Config config;
+    private final SphereRenderer renderer;
+    private final SpawnableSpaceAnalyzer analyzer;
+
+    @Inject
+    Commands(final Config config, final SphereRenderer renderer, final SpawnableSpaceAnalyzer analyzer) {
+        this.config = config;
+        this.renderer = renderer;
+        this.analyzer = analyzer;
+    }
+
     private static void configureStand(final ArmorStand stand, final Color color, final Material helmet) {
         stand.setGravity(false);
         stand.setVisible(false);
@@ -72,31 +93,49 @@ class Commands extends ConfiguredModuleCommand {
         this.register(
             this.literal(builder, "add")
                 .required("color", enumParser(Color.class))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final Color color = context.get("color");
+                    final Location center = PTUtils.toBlockLoc(player.getLocation()).add(0.5, 0, 0.5);
+                    if (this.config.renderMode == SphereRenderer.Mode.PARTICLES) {
+                        if (!this.renderer.add(player, color, center, DESPAWN_DISTANCES.soft(player.getWorld()), DESPAWN_DISTANCES.hard(player.getWorld()))) {
+                            context.sender().sendMessage(translatable("modules.spawning-spheres.commands.add.fail", RED, color));
+                            return;
+                        }
+                        context.sender().sendMessage(translatable("modules.spawning-spheres.commands.add.succeed", GREEN, color));
+                        return;
+                    }
                     final Collection<ArmorStand> stands = Entities.getEntitiesOfType(ArmorStand.class, player.getWorld(), stand -> color == COLOR_KEY.getFrom(stand));
                     if (!stands.isEmpty()) {
                         context.sender().sendMessage(translatable("modules.spawning-spheres.commands.add.fail", RED, color));
                         return;
                     }
-                    final Location center = PTUtils.toBlockLoc(player.getLocation()).add(0.5, 0, 0.5);
                     player.getWorld().spawn(center.clone().subtract(0, 1, 0), ArmorStand.class, stand -> {
                         configureStand(stand, context.get("color"), color.center);
                         stand.customName(text("Center"));
                         stand.setCustomNameVisible(true);
                     });
-                    this.fibonacciSphere(player.getWorld(), center, DESPAWN_DISTANCES.hard(player.getWorld()), 1500, color, color.outer);
-                    this.fibonacciSphere(player.getWorld(), center, DESPAWN_DISTANCES.soft(player.getWorld()), 200, color, color.inner);
+                    this.fibonacciSphere(player.getWorld(), center, DESPAWN_DISTANCES.hard(player.getWorld()), SphereRenderer.HARD_POINTS, color, color.outer);
+                    this.fibonacciSphere(player.getWorld(), center, DESPAWN_DISTANCES.soft(player.getWorld()), SphereRenderer.SOFT_POINTS, color, color.inner);
                     context.sender().sendMessage(translatable("modules.spawning-spheres.commands.add.succeed", GREEN, color));
                 }))
         );
         this.register(
             this.literal(builder, "remove")
                 .required("color", enumParser(Color.class))
-                .handler(this.sync((context, player) -> {
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
                     final Color color = context.get("color");
+                    if (this.config.renderMode == SphereRenderer.Mode.PARTICLES) {
+                        if (!this.renderer.remove(player.getWorld(), color)) {
+                            context.sender().sendMessage(translatable("modules.spawning-spheres.commands.remove.fail", RED, color));
+                            return;
+                        }
+                        context.sender().sendMessage(translatable("modules.spawning-spheres.commands.remove.succeed", GREEN, color));
+                        return;
+                    }
+                    // particle spheres are dropped too, they may have been added before switching to armor stands
+                    final boolean removedParticles = this.renderer.remove(player.getWorld(), color);
                     final Collection<ArmorStand> sphereStands = Entities.getEntitiesOfType(ArmorStand.class, player.getWorld(), stand -> color == COLOR_KEY.getFrom(stand));
-                    if (sphereStands.isEmpty()) {
+                    if (!removedParticles && sphereStands.isEmpty()) {
                         context.sender().sendMessage(translatable("modules.spawning-spheres.commands.remove.fail", RED, color));
                         return;
                     }
@@ -104,6 +143,69 @@ class Commands extends ConfiguredModuleCommand {
                     context.sender().sendMessage(translatable("modules.spawning-spheres.commands.remove.succeed", GREEN, color));
                 }))
         );
+        this.register(
+            this.literal(builder, "view")
+                .required("color", enumParser(Color.class))
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
+                    final Color color = context.get("color");
+                    final @Nullable Boolean shown = this.renderer.toggleViewer(player, color);
+                    if (shown == null) {
+                        context.sender().sendMessage(translatable("modules.spawning-spheres.commands.view.fail", RED, color));
+                    } else if (shown) {
+                        context.sender().sendMessage(translatable("modules.spawning-spheres.commands.view.shown", GREEN, color));
+                    } else {
+                        context.sender().sendMessage(translatable("modules.spawning-spheres.commands.view.hidden", GREEN, color));
+                    }
+                }))
+        );
+        this.register(
+            this.literal(builder, "analyze")
+                .required("color", enumParser(Color.class))
+                .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> {
+                    final Color color = context.get("color");
+                    final @Nullable Location center = this.findCenter(player.getWorld(), color);
+                    if (center == null) {
+                        context.sender().sendMessage(translatable("modules.spawning-spheres.commands.analyze.fail", RED, color));
+                        return;
+                    }
+                    context.sender().sendMessage(translatable("modules.spawning-spheres.commands.analyze.started", GRAY, color));
+                    this.analyzer.analyze(player.getWorld(), center.getX(), center.getY(), center.getZ(), DESPAWN_DISTANCES.soft(player.getWorld()), DESPAWN_DISTANCES.hard(player.getWorld())).whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            SpawningSpheres.LOGGER.error("Failed to analyze the {} sphere", color, throwable);
+                            context.sender().sendMessage(translatable("modules.spawning-spheres.commands.analyze.error", RED, color));
+                        } else {
+                            context.sender().sendMessage(buildReport(color, result));
+                        }
+                    });
+                }))
+        );
+    }
+
+    private @Nullable Location findCenter(final World world, final Color color) {
+        final SphereRenderer.@Nullable Sphere sphere = this.renderer.get(world, color);
+        if (sphere != null) {
+            return new Location(world, sphere.x(), sphere.y(), sphere.z());
+        }
+        if (this.config.renderMode == SphereRenderer.Mode.PARTICLES) {
+            return null;
+        }
+        return Entities.getEntitiesOfType(ArmorStand.class, world, stand -> color == COLOR_KEY.getFrom(stand) && stand.getEquipment().getHelmet().getType() == color.center)
+            .stream().findAny().map(stand -> stand.getLocation().add(0, 1, 0)).orElse(null);
+    }
+
+    private static Component buildReport(final Color color, final SpawnableSpaceAnalyzer.Result result) {
+        final TextComponent.Builder report = text()
+            .append(translatable("modules.spawning-spheres.commands.analyze.result", GOLD, color, text(result.chunks(), WHITE), text(result.unloadedChunks(), WHITE)));
+        for (final SpawnCategory category : SpawnableSpaceAnalyzer.CATEGORIES) {
+            report.append(newline()).append(translatable("modules.spawning-spheres.commands.analyze.category", GRAY, text(category.name().toLowerCase(Locale.ENGLISH)), text(result.totals().get(category), WHITE)));
+        }
+        if (!result.hotspots().isEmpty()) {
+            report.append(newline()).append(translatable("modules.spawning-spheres.commands.analyze.hotspots", GOLD));
+            for (final SpawnableSpaceAnalyzer.ChunkResult hotspot : result.hotspots()) {
+                report.append(newline()).append(translatable("modules.spawning-spheres.commands.analyze.hotspot", GRAY, text(hotspot.chunkX()), text(hotspot.chunkZ()), text(hotspot.counts()[0], WHITE)));
+            }
+        }
+        return report.build();
     }
 
     private void fibonacciSphere(final World world, final Location center, final double radius, final int count, final Color color, final Material helmet) {
@@ -123,20 +225,26 @@ class Commands extends ConfiguredModuleCommand {
     }
 
     enum Color implements ComponentLike {
-        RED(Material.REDSTONE_BLOCK, Material.RED_CONCRETE, Material.ORANGE_CONCRETE, NamedTextColor.RED),
-        BLUE(Material.LAPIS_BLOCK, Material.BLUE_CONCRETE, Material.CYAN_CONCRETE, NamedTextColor.BLUE),
-        GREEN(Material.EMERALD_BLOCK, Material.GREEN_CONCRETE, Material.LIME_CONCRETE, NamedTextColor.GREEN);
+        RED(Material.REDSTONE_BLOCK, Material.RED_CONCRETE, Material.ORANGE_CONCRETE, NamedTextColor.RED, 0xFF0000, 0xB02E26, 0xF9801D),
+        BLUE(Material.LAPIS_BLOCK, Material.BLUE_CONCRETE, Material.CYAN_CONCRETE, NamedTextColor.BLUE, 0x1F4FB0, 0x3C44AA, 0x169C9C),
+        GREEN(Material.EMERALD_BLOCK, Material.GREEN_CONCRETE, Material.LIME_CONCRETE, NamedTextColor.GREEN, 0x17DD62, 0x5E7C16, 0x80C71F);
 
         final Material center;
         final Material inner;
         final Material outer;
         final NamedTextColor color;
+        final org.bukkit.Color centerDust;
+        final org.bukkit.Color innerDust;
+        final org.bukkit.Color outerDust;
 
-        Color(final Material center, final Material inner, final Material outer, final NamedTextColor color) {
+        Color(final Material center, final Material inner, final Material outer, final NamedTextColor color, final int centerDust, final int innerDust, final int outerDust) {
             this.center = center;
             this.inner = inner;
             this.outer = outer;
             this.color = color;
+            this.centerDust = org.bukkit.Color.fromRGB(centerDust);
+            this.innerDust = org.bukkit.Color.fromRGB(innerDust);
+            this.outerDust = org.bukkit.Color.fromRGB(outerDust);
         }
 
         @Override
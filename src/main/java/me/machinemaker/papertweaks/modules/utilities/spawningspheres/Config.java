@@ -0,0 +1,37 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.utilities.spawningspheres;
+
+import me.machinemaker.lectern.annotations.Description;
+import me.machinemaker.lectern.annotations.Key;
+import me.machinemaker.papertweaks.config.PTConfig;
+import me.machinemaker.papertweaks.modules.ModuleConfig;
+
+@PTConfig
+class Config extends ModuleConfig {
+
+    @Key("render-mode")
+    @Description("How spheres are shown. Can be one of: PARTICLES (only sent to players viewing the sphere, nothing is saved to the world), ARMOR_STANDS (glowing armor stands visible to everyone). Armor stand spheres can only be removed while in ARMOR_STANDS mode")
+    public SphereRenderer.Mode renderMode = SphereRenderer.Mode.PARTICLES;
+
+    @Key("particle-detail-distance")
+    @Description("Distance in blocks within which every point of a particle sphere is shown. Points further away are shown at a lower density")
+    public int particleDetailDistance = 24;
+}
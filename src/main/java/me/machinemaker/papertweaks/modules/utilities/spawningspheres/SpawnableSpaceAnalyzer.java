@@ -0,0 +1,183 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.utilities.spawningspheres;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.entity.SpawnCategory;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counts the spaces inside a spawning sphere where mobs could spawn.
+ * <p>
+ * The only work done on region threads is capturing a {@link ChunkSnapshot} of each
+ * loaded chunk the sphere intersects, spread over a few ticks. The snapshots are then
+ * scanned in parallel off-thread. The spawn rules are a simplified version of the
+ * vanilla ones and assume it is night.
+ */
+@Singleton
+class SpawnableSpaceAnalyzer {
+
+    static final List<SpawnCategory> CATEGORIES = List.of(SpawnCategory.MONSTER, SpawnCategory.ANIMAL, SpawnCategory.AMBIENT, SpawnCategory.WATER_ANIMAL);
+    private static final int SNAPSHOTS_PER_TICK = 16;
+    private static final int HOTSPOTS = 5;
+    private static final long SNAPSHOT_TIMEOUT_SECONDS = 10;
+
+    private final JavaPlugin plugin;
+
+    @Inject
+    SpawnableSpaceAnalyzer(final JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    CompletableFuture<Result> analyze(final World world, final double centerX, final double centerY, final double centerZ, final int softRadius, final int hardRadius) {
+        final Bounds bounds = new Bounds(centerX, centerY, centerZ, softRadius, hardRadius, world.getMinHeight(), world.getMaxHeight(), world.getSeaLevel());
+        final List<CompletableFuture<@Nullable ChunkSnapshot>> snapshots = new ArrayList<>();
+        final int minChunkX = ((int) Math.floor(centerX - hardRadius)) >> 4;
+        final int maxChunkX = ((int) Math.floor(centerX + hardRadius)) >> 4;
+        final int minChunkZ = ((int) Math.floor(centerZ - hardRadius)) >> 4;
+        final int maxChunkZ = ((int) Math.floor(centerZ + hardRadius)) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!bounds.intersectsChunk(chunkX, chunkZ)) {
+                    continue;
+                }
+                final int x = chunkX;
+                final int z = chunkZ;
+                final CompletableFuture<@Nullable ChunkSnapshot> snapshot = new CompletableFuture<>();
+                snapshots.add(snapshot);
+                if (!world.isChunkLoaded(x, z)) { // region tasks for unloaded chunks may never run on Folia
+                    snapshot.complete(null);
+                    continue;
+                }
+                final long delay = 1L + snapshots.size() / SNAPSHOTS_PER_TICK;
+                // the chunk can still unload before the task runs, treat it as unloaded if it never does
+                snapshot.completeOnTimeout(null, SNAPSHOT_TIMEOUT_SECONDS + delay / 20, TimeUnit.SECONDS);
+                SchedulerUtil.runAtLocationLater(this.plugin, new Location(world, (x << 4) + 8, centerY, (z << 4) + 8), () -> snapshot.complete(world.isChunkLoaded(x, z) ? world.getChunkAt(x, z).getChunkSnapshot(false, false, false) : null), delay);
+            }
+        }
+        return CompletableFuture.allOf(snapshots.toArray(CompletableFuture[]::new)).thenApplyAsync(ignored -> {
+            final List<ChunkSnapshot> loaded = snapshots.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+            final List<ChunkResult> chunks = loaded.parallelStream().map(snapshot -> scan(snapshot, bounds)).toList();
+            final Map<SpawnCategory, Long> totals = new EnumMap<>(SpawnCategory.class);
+            for (final SpawnCategory category : CATEGORIES) {
+                totals.put(category, chunks.stream().mapToLong(chunk -> chunk.counts()[CATEGORIES.indexOf(category)]).sum());
+            }
+            final List<ChunkResult> hotspots = chunks.stream()
+                .filter(chunk -> chunk.counts()[0] > 0)
+                .sorted(Comparator.comparingLong((ChunkResult chunk) -> chunk.counts()[0]).reversed())
+                .limit(HOTSPOTS)
+                .toList();
+            return new Result(snapshots.size(), snapshots.size() - loaded.size(), totals, hotspots);
+        });
+    }
+
+    static ChunkResult scan(final ChunkSnapshot snapshot, final Bounds bounds) {
+        final long[] counts = new long[CATEGORIES.size()];
+        final double softSquared = (double) bounds.softRadius() * bounds.softRadius();
+        final double hardSquared = (double) bounds.hardRadius() * bounds.hardRadius();
+        for (int localX = 0; localX < 16; localX++) {
+            for (int localZ = 0; localZ < 16; localZ++) {
+                final double dx = (snapshot.getX() << 4) + localX + 0.5 - bounds.x();
+                final double dz = (snapshot.getZ() << 4) + localZ + 0.5 - bounds.z();
+                final double horizontalSquared = dx * dx + dz * dz;
+                if (horizontalSquared > hardSquared) {
+                    continue;
+                }
+                final double halfHeight = Math.sqrt(hardSquared - horizontalSquared);
+                final int minY = Math.max(bounds.minHeight() + 1, (int) Math.ceil(bounds.y() - halfHeight));
+                final int maxY = Math.min(bounds.maxHeight() - 2, (int) Math.floor(bounds.y() + halfHeight));
+                for (int y = minY; y <= maxY; y++) {
+                    final double dy = y - bounds.y();
+                    if (horizontalSquared + dy * dy <= softSquared) {
+                        continue;
+                    }
+                    scanPosition(snapshot, localX, y, localZ, bounds.seaLevel(), counts);
+                }
+            }
+        }
+        return new ChunkResult(snapshot.getX(), snapshot.getZ(), counts);
+    }
+
+    private static void scanPosition(final ChunkSnapshot snapshot, final int x, final int y, final int z, final int seaLevel, final long[] counts) {
+        final Material feet = snapshot.getBlockType(x, y, z);
+        if (feet == Material.WATER) {
+            if (snapshot.getBlockType(x, y + 1, z) == Material.WATER) {
+                counts[3]++;
+            }
+            return;
+        }
+        if (!isSpawnableSpace(feet)) {
+            return;
+        }
+        final Material below = snapshot.getBlockType(x, y - 1, z);
+        if (!below.isOccluding() || below == Material.BEDROCK || below == Material.BARRIER) {
+            return;
+        }
+        final int blockLight = snapshot.getBlockEmittedLight(x, y, z);
+        final int light = Math.max(blockLight, snapshot.getBlockSkyLight(x, y, z));
+        final boolean tallSpace = isSpawnableSpace(snapshot.getBlockType(x, y + 1, z));
+        if (tallSpace && blockLight == 0) {
+            counts[0]++;
+        }
+        if (tallSpace && light > 8 && Tag.ANIMALS_SPAWNABLE_ON.isTagged(below)) {
+            counts[1]++;
+        }
+        if (y < seaLevel && light <= 3) {
+            counts[2]++;
+        }
+    }
+
+    private static boolean isSpawnableSpace(final Material material) {
+        return material.isAir() || (!material.isSolid() && material != Material.WATER && material != Material.LAVA && material != Material.BUBBLE_COLUMN && material != Material.POWDER_SNOW);
+    }
+
+    record Bounds(double x, double y, double z, int softRadius, int hardRadius, int minHeight, int maxHeight, int seaLevel) {
+
+        boolean intersectsChunk(final int chunkX, final int chunkZ) {
+            final double closestX = Math.clamp(this.x, chunkX << 4, (chunkX << 4) + 16);
+            final double closestZ = Math.clamp(this.z, chunkZ << 4, (chunkZ << 4) + 16);
+            final double dx = closestX - this.x;
+            final double dz = closestZ - this.z;
+            return dx * dx + dz * dz <= (double) this.hardRadius * this.hardRadius;
+        }
+    }
+
+    record ChunkResult(int chunkX, int chunkZ, long[] counts) {
+    }
+
+    record Result(int chunks, int unloadedChunks, Map<SpawnCategory, Long> totals, List<ChunkResult> hotspots) {
+    }
+}
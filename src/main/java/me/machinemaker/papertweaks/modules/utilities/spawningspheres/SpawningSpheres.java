@@ -25,7 +25,9 @@ import me.machinemaker.papertweaks.LoggerFactory;
 import me.machinemaker.papertweaks.annotations.ModuleInfo;
 import me.machinemaker.papertweaks.modules.ModuleBase;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
+import me.machinemaker.papertweaks.modules.ModuleConfig;
 import me.machinemaker.papertweaks.modules.ModuleLifecycle;
+import me.machinemaker.papertweaks.modules.ModuleListener;
 import org.slf4j.Logger;
 
 @ModuleInfo(name = "SpawningSpheres", configPath = "utilities.spawning-spheres", description = "Create marker spheres for showing spawning distances")
@@ -35,7 +37,17 @@ public class SpawningSpheres extends ModuleBase {
 
     @Override
     protected Class<? extends ModuleLifecycle> lifecycle() {
-        return ModuleLifecycle.Empty.class;
+        return Lifecycle.class;
+    }
+
+    @Override
+    protected Collection<Class<? extends ModuleListener>> listeners() {
+        return Set.of(PlayerListener.class);
+    }
+
+    @Override
+    protected Collection<Class<? extends ModuleConfig>> configs() {
+        return Set.of(Config.class);
     }
 
     @Override
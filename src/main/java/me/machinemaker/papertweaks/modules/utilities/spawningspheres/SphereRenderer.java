@@ -0,0 +1,233 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.utilities.spawningspheres;
+
+import com.destroystokyo.paper.ParticleBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Draws spawning spheres with particles sent only to the players viewing them.
+ * <p>
+ * Spheres only live in memory. Each viewer has a task on their own entity scheduler
+ * which draws every point close to them, and progressively fewer points the further
+ * away they are.
+ */
+@Singleton
+class SphereRenderer {
+
+    static final int HARD_POINTS = 1500;
+    static final int SOFT_POINTS = 200;
+    private static final double PHI = Math.PI * (3.0 - Math.sqrt(5.0));
+    private static final double[] HARD_SPHERE = unitSphere(HARD_POINTS);
+    private static final double[] SOFT_SPHERE = unitSphere(SOFT_POINTS);
+    private static final long PERIOD = 10L;
+
+    private final JavaPlugin plugin;
+    private final Config config;
+    private final Map<UUID, Map<Commands.Color, Sphere>> spheres = new ConcurrentHashMap<>();
+    private final Map<UUID, SchedulerUtil.Task> viewerTasks = new ConcurrentHashMap<>();
+
+    @Inject
+    SphereRenderer(final JavaPlugin plugin, final Config config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Creates points on a unit sphere, packed as x, y, z triples.
+     */
+    static double[] unitSphere(final int count) {
+        final double[] points = new double[count * 3];
+        for (int i = 0; i < count; i++) {
+            final double y = 1 - ((i / (double) (count - 1)) * 2);
+            final double radiusAtY = Math.sqrt(1 - y * y);
+            final double theta = PHI * i;
+            points[i * 3] = Math.cos(theta) * radiusAtY;
+            points[i * 3 + 1] = y;
+            points[i * 3 + 2] = Math.sin(theta) * radiusAtY;
+        }
+        return points;
+    }
+
+    boolean add(final Player viewer, final Commands.Color color, final Location center, final int softRadius, final int hardRadius) {
+        final Sphere sphere = new Sphere(color, center.getX(), center.getY(), center.getZ(), softRadius, hardRadius, ConcurrentHashMap.newKeySet());
+        if (this.spheres.computeIfAbsent(center.getWorld().getUID(), uuid -> new ConcurrentHashMap<>()).putIfAbsent(color, sphere) != null) {
+            return false;
+        }
+        sphere.viewers().add(viewer.getUniqueId());
+        this.startViewing(viewer);
+        return true;
+    }
+
+    @Nullable Sphere get(final World world, final Commands.Color color) {
+        final @Nullable Map<Commands.Color, Sphere> worldSpheres = this.spheres.get(world.getUID());
+        return worldSpheres == null ? null : worldSpheres.get(color);
+    }
+
+    boolean remove(final World world, final Commands.Color color) {
+        final @Nullable Map<Commands.Color, Sphere> worldSpheres = this.spheres.get(world.getUID());
+        final @Nullable Sphere sphere = worldSpheres == null ? null : worldSpheres.remove(color);
+        if (sphere == null) {
+            return false;
+        }
+        for (final UUID uuid : sphere.viewers()) {
+            final @Nullable Player viewer = Bukkit.getPlayer(uuid);
+            if (viewer != null) {
+                this.stopViewingIfIdle(viewer);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Toggles whether the player sees a sphere.
+     *
+     * @param viewer the player
+     * @param color the sphere color
+     * @return true if now shown, false if now hidden, null if there is no such sphere
+     */
+    @Nullable Boolean toggleViewer(final Player viewer, final Commands.Color color) {
+        final @Nullable Sphere sphere = this.get(viewer.getWorld(), color);
+        if (sphere == null) {
+            return null;
+        }
+        if (sphere.viewers().remove(viewer.getUniqueId())) {
+            this.stopViewingIfIdle(viewer);
+            return false;
+        }
+        sphere.viewers().add(viewer.getUniqueId());
+        this.startViewing(viewer);
+        return true;
+    }
+
+    void removeViewer(final Player viewer) {
+        this.stopViewing(viewer.getUniqueId());
+        this.spheres.values().forEach(worldSpheres -> worldSpheres.values().forEach(sphere -> sphere.viewers().remove(viewer.getUniqueId())));
+    }
+
+    void clear() {
+        this.viewerTasks.values().forEach(SchedulerUtil.Task::cancel);
+        this.viewerTasks.clear();
+        this.spheres.clear();
+    }
+
+    private void startViewing(final Player viewer) {
+        this.viewerTasks.computeIfAbsent(viewer.getUniqueId(), uuid -> SchedulerUtil.runEntityTaskTimer(this.plugin, viewer, task -> this.render(viewer), null, 1L, PERIOD));
+    }
+
+    private boolean isViewingAny(final UUID viewer) {
+        for (final Map<Commands.Color, Sphere> worldSpheres : this.spheres.values()) {
+            for (final Sphere sphere : worldSpheres.values()) {
+                if (sphere.viewers().contains(viewer)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void stopViewingIfIdle(final Player viewer) {
+        final SchedulerUtil.@Nullable Task task = this.viewerTasks.get(viewer.getUniqueId());
+        if (task == null || this.isViewingAny(viewer.getUniqueId())) {
+            return;
+        }
+        if (this.viewerTasks.remove(viewer.getUniqueId(), task)) {
+            task.cancel();
+            if (this.isViewingAny(viewer.getUniqueId())) { // a sphere was shown again while stopping
+                this.startViewing(viewer);
+            }
+        }
+    }
+
+    private void stopViewing(final UUID viewer) {
+        final SchedulerUtil.@Nullable Task task = this.viewerTasks.remove(viewer);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    private void render(final Player viewer) {
+        if (!viewer.isOnline()) {
+            this.stopViewing(viewer.getUniqueId());
+            return;
+        }
+        if (!this.isViewingAny(viewer.getUniqueId())) {
+            this.stopViewingIfIdle(viewer);
+            return;
+        }
+        final @Nullable Map<Commands.Color, Sphere> worldSpheres = this.spheres.get(viewer.getWorld().getUID());
+        if (worldSpheres == null) {
+            return;
+        }
+        final Location eye = viewer.getEyeLocation();
+        final ParticleBuilder builder = Particle.DUST.builder().receivers(viewer).force(true);
+        for (final Sphere sphere : worldSpheres.values()) {
+            if (!sphere.viewers().contains(viewer.getUniqueId())) {
+                continue;
+            }
+            builder.color(sphere.color().centerDust, 2f);
+            for (int i = 0; i < 3; i++) {
+                builder.location(eye.getWorld(), sphere.x(), sphere.y() - 1 + i * 0.5, sphere.z()).spawn();
+            }
+            this.drawSphere(builder.color(sphere.color().outerDust, 1.5f), eye, sphere, sphere.hardRadius(), HARD_SPHERE);
+            this.drawSphere(builder.color(sphere.color().innerDust, 1.5f), eye, sphere, sphere.softRadius(), SOFT_SPHERE);
+        }
+    }
+
+    private void drawSphere(final ParticleBuilder builder, final Location eye, final Sphere sphere, final double radius, final double[] points) {
+        final double detail = this.config.particleDetailDistance;
+        final double fullDetailSquared = detail * detail;
+        final double midDetailSquared = fullDetailSquared * 4;
+        for (int i = 0; i < points.length / 3; i++) {
+            final double x = sphere.x() + points[i * 3] * radius;
+            final double y = sphere.y() + points[i * 3 + 1] * radius;
+            final double z = sphere.z() + points[i * 3 + 2] * radius;
+            final double dx = x - eye.getX();
+            final double dy = y - eye.getY();
+            final double dz = z - eye.getZ();
+            final double distanceSquared = dx * dx + dy * dy + dz * dz;
+            final int stride = distanceSquared <= fullDetailSquared ? 1 : distanceSquared <= midDetailSquared ? 4 : 16;
+            if (i % stride == 0) {
+                builder.location(eye.getWorld(), x, y, z).spawn();
+            }
+        }
+    }
+
+    enum Mode {
+        PARTICLES,
+        ARMOR_STANDS
+    }
+
+    record Sphere(Commands.Color color, double x, double y, double z, int softRadius, int hardRadius, Set<UUID> viewers) {
+    }
+}
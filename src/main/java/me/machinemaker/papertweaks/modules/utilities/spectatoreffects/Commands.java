@@ -20,6 +20,7 @@
 package me.machinemaker.papertweaks.modules.utilities.spectatoreffects;
 
 import org.incendo.cloud.Command;
+import me.machinemaker.papertweaks.cloud.ExecutionTarget;
 import me.machinemaker.papertweaks.cloud.MetaKeys;
 import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
 import me.machinemaker.papertweaks.modules.ModuleCommand;
@@ -39,12 +40,12 @@ class Commands extends ModuleCommand {
         this.register(builder
             .permission(this.modulePermission("vanillatweaks.spectatortoggle.nightvision"))
             .literal("night-vision")
-            .handler(this.sync((context, player) -> this.toggleEffect(player, PotionEffectType.NIGHT_VISION)))
+            .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> this.toggleEffect(player, PotionEffectType.NIGHT_VISION)))
         );
         this.register(builder
             .permission(this.modulePermission("vanillatweaks.spectatortoggle.conduitpower"))
             .literal("conduit-power")
-            .handler(this.sync((context, player) -> this.toggleEffect(player, PotionEffectType.CONDUIT_POWER)))
+            .handler(this.execute(ExecutionTarget.SENDER, (context, player) -> this.toggleEffect(player, PotionEffectType.CONDUIT_POWER)))
         );
     }
 
@@ -0,0 +1,56 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils;
+
+import org.bukkit.block.Block;
+
+/**
+ * Packs block positions into a single long, using the same layout
+ * as vanilla (26 bits x, 26 bits z, 12 bits y).
+ */
+public final class BlockPositions {
+
+    private BlockPositions() {
+    }
+
+    public static long pack(final int x, final int y, final int z) {
+        return (((long) x & 0x3FFFFFFL) << 38) | (((long) z & 0x3FFFFFFL) << 12) | ((long) y & 0xFFFL);
+    }
+
+    public static long pack(final Block block) {
+        return pack(block.getX(), block.getY(), block.getZ());
+    }
+
+    public static int x(final long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int y(final long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int z(final long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    public static long offset(final long packed, final int dx, final int dy, final int dz) {
+        return pack(x(packed) + dx, y(packed) + dy, z(packed) + dz);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * An open addressing hash set of primitive longs. Avoids boxing for
+ * hot paths that track large numbers of packed positions.
+ * <p>
+ * Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsEmpty;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.table = new long[capacity];
+        Arrays.fill(this.table, EMPTY);
+        this.mask = capacity - 1;
+    }
+
+    private static int mix(final long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     * @return true if the value wasn't already present
+     */
+    public boolean add(final long value) {
+        if (value == EMPTY) {
+            if (this.containsEmpty) {
+                return false;
+            }
+            this.containsEmpty = true;
+            this.size++;
+            return true;
+        }
+        int index = mix(value) & this.mask;
+        long current;
+        while ((current = this.table[index]) != EMPTY) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.table[index] = value;
+        if (++this.size > this.table.length * LOAD_FACTOR) {
+            this.rehash(this.table.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(final long value) {
+        if (value == EMPTY) {
+            return this.containsEmpty;
+        }
+        int index = mix(value) & this.mask;
+        long current;
+        while ((current = this.table[index]) != EMPTY) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param value the value
+     * @return true if the value was present
+     */
+    public boolean remove(final long value) {
+        if (value == EMPTY) {
+            if (!this.containsEmpty) {
+                return false;
+            }
+            this.containsEmpty = false;
+            this.size--;
+            return true;
+        }
+        int index = mix(value) & this.mask;
+        long current;
+        while ((current = this.table[index]) != EMPTY) {
+            if (current == value) {
+                this.shiftBack(index);
+                this.size--;
+                return true;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return false;
+    }
+
+    // backward shift deletion, keeps probe sequences intact without tombstones
+    private void shiftBack(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & this.mask;
+            final long current = this.table[index];
+            if (current == EMPTY) {
+                this.table[gap] = EMPTY;
+                return;
+            }
+            final int home = mix(current) & this.mask;
+            if (((index - home) & this.mask) >= ((index - gap) & this.mask)) {
+                this.table[gap] = current;
+                gap = index;
+            }
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final long[] old = this.table;
+        this.table = new long[capacity];
+        Arrays.fill(this.table, EMPTY);
+        this.mask = capacity - 1;
+        for (final long value : old) {
+            if (value != EMPTY) {
+                int index = mix(value) & this.mask;
+                while (this.table[index] != EMPTY) {
+                    index = (index + 1) & this.mask;
+                }
+                this.table[index] = value;
+            }
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, EMPTY);
+        this.size = 0;
+        this.containsEmpty = false;
+    }
+
+    public long[] toArray() {
+        final long[] values = new long[this.size];
+        int index = 0;
+        if (this.containsEmpty) {
+            values[index++] = EMPTY;
+        }
+        for (final long value : this.table) {
+            if (value != EMPTY) {
+                values[index++] = value;
+            }
+        }
+        return values;
+    }
+
+    public void forEach(final LongConsumer consumer) {
+        if (this.containsEmpty) {
+            consumer.accept(EMPTY);
+        }
+        for (final long value : this.table) {
+            if (value != EMPTY) {
+                consumer.accept(value);
+            }
+        }
+    }
+}
@@ -31,9 +31,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Consumer;
+import me.machinemaker.papertweaks.common.Skulls;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
@@ -41,17 +41,13 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.SkullMeta;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
-import static net.kyori.adventure.text.Component.text;
-import static net.kyori.adventure.text.Component.translatable;
 import static net.kyori.adventure.text.format.TextDecoration.ITALIC;
 import static net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer.plainText;
 
@@ -87,31 +83,11 @@ public final class PTUtils {
     }
 
     public static ItemStack getSkull(final Component name, final @Nullable UUID uuid, final String texture, final int count) {
-        return getSkull(name, makeValidGameProfileName(name), uuid, texture, count);
+        return Skulls.skull(name, uuid, texture, count).create();
     }
 
     public static ItemStack getSkull(final String stringName, final @Nullable UUID uuid, final String texture) {
-        final String gameProfileName = makeValidGameProfileName(stringName);
-        final @Nullable Component name;
-        if (!gameProfileName.equals(stringName)) {
-            name = translatable("block.minecraft.player_head.named", text(stringName));
-        } else {
-            name = null; // name is valid in the gameprofile
-        }
-        return getSkull(name, gameProfileName, uuid, texture, 1);
-    }
-
-    private static ItemStack getSkull(final @Nullable Component customName, final String gameProfileName, final @Nullable UUID uuid, final String texture, final int count) {
-        final ItemStack skull = new ItemStack(Material.PLAYER_HEAD, count);
-        final @Nullable SkullMeta meta = (SkullMeta) Objects.requireNonNull(skull.getItemMeta());
-        final PlayerProfile profile = Bukkit.createProfile(uuid == null ? UUID.randomUUID() : uuid, gameProfileName);
-        profile.setProperty(new ProfileProperty("textures", texture));
-        meta.setPlayerProfile(profile);
-        if (customName != null) {
-            meta.itemName(customName);
-        }
-        skull.setItemMeta(meta);
-        return skull;
+        return Skulls.skull(stringName, uuid, texture).create();
     }
 
     public static void sanitizeTextures(final PlayerProfile profile) {
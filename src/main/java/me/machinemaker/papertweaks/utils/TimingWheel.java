@@ -0,0 +1,119 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel. Values are hashed into slots by their deadline, and
+ * advancing the wheel only looks at the slots whose time has come, so the cost
+ * depends on how many deadlines there are, not on how often the wheel is advanced.
+ * <p>
+ * Deadlines are rounded up to the wheel's resolution. All methods are synchronized.
+ *
+ * @param <T> the value type
+ */
+public final class TimingWheel<T> {
+
+    private final long resolutionMillis;
+    private final ArrayDeque<Entry<T>>[] slots;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a new timing wheel.
+     *
+     * @param slotCount the number of slots, rounded up to a power of 2
+     * @param resolutionMillis the duration of each slot in milliseconds
+     * @param nowMillis the current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(final int slotCount, final long resolutionMillis, final long nowMillis) {
+        final int capacity = Integer.highestOneBit(Math.max(2, slotCount) - 1) << 1;
+        this.slots = new ArrayDeque[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.slots[i] = new ArrayDeque<>();
+        }
+        this.mask = capacity - 1;
+        this.resolutionMillis = resolutionMillis;
+        this.currentTick = nowMillis / resolutionMillis;
+    }
+
+    /**
+     * Schedules a value to expire at a deadline. Deadlines in the
+     * past expire the next time the wheel is advanced.
+     *
+     * @param value the value
+     * @param deadlineMillis the deadline in milliseconds
+     */
+    public synchronized void schedule(final T value, final long deadlineMillis) {
+        final long tick = Math.max(this.currentTick + 1, (deadlineMillis + this.resolutionMillis - 1) / this.resolutionMillis);
+        this.slots[(int) (tick & this.mask)].add(new Entry<>(value, tick));
+        this.size++;
+    }
+
+    /**
+     * Advances the wheel to the current time, expiring every value whose deadline has passed.
+     * The consumer is called without holding the wheel's lock, so it may schedule values again.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param expired called with each expired value
+     */
+    public void advance(final long nowMillis, final Consumer<T> expired) {
+        final List<T> due = new ArrayList<>();
+        synchronized (this) {
+            final long target = nowMillis / this.resolutionMillis;
+            // after a full revolution, every slot has been visited
+            final long first = Math.max(this.currentTick + 1, target - this.mask);
+            for (long tick = first; tick <= target; tick++) {
+                final ArrayDeque<Entry<T>> slot = this.slots[(int) (tick & this.mask)];
+                for (int i = slot.size(); i > 0; i--) {
+                    final Entry<T> entry = slot.poll();
+                    if (entry.tick <= target) {
+                        due.add(entry.value);
+                        this.size--;
+                    } else {
+                        slot.add(entry); // later revolution
+                    }
+                }
+            }
+            this.currentTick = Math.max(this.currentTick, target);
+        }
+        due.forEach(expired);
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public synchronized void clear() {
+        for (final ArrayDeque<Entry<T>> slot : this.slots) {
+            slot.clear();
+        }
+        this.size = 0;
+    }
+
+    private record Entry<T>(T value, long tick) {
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils.boards;
+
+import java.util.Collection;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.bukkit.scoreboard.Team;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Mirrors a virtual scoreboard onto a private Bukkit scoreboard. The player
+ * only sees it while something is displayed, otherwise they are left on
+ * the main scoreboard.
+ */
+final class BukkitScoreboardConnection implements ScoreboardConnection {
+
+    private final Player player;
+    private final Scoreboard scoreboard;
+    private int displayedSlots;
+
+    BukkitScoreboardConnection(final Player player, final ScoreboardManager manager) {
+        this.player = player;
+        this.scoreboard = manager.getNewScoreboard();
+    }
+
+    @Override
+    public void addObjective(final String name, final Component title) {
+        this.scoreboard.registerNewObjective(name, Criteria.DUMMY, title);
+    }
+
+    @Override
+    public void updateObjective(final String name, final Component title) {
+        this.objective(name).displayName(title);
+    }
+
+    @Override
+    public void removeObjective(final String name) {
+        final Objective objective = this.objective(name);
+        if (objective.getDisplaySlot() != null) {
+            this.slotChanged(false);
+        }
+        objective.unregister();
+    }
+
+    @Override
+    public void displayObjective(final DisplaySlot slot, final @Nullable String objective) {
+        final boolean wasDisplayed = this.scoreboard.getObjective(slot) != null;
+        if (objective == null) {
+            this.scoreboard.clearSlot(slot);
+        } else {
+            this.objective(objective).setDisplaySlot(slot);
+        }
+        if (wasDisplayed != (objective != null)) {
+            this.slotChanged(objective != null);
+        }
+    }
+
+    @Override
+    public void setScore(final String objective, final String entry, final int score) {
+        this.objective(objective).getScore(entry).setScore(score);
+    }
+
+    @Override
+    public void resetScore(final String objective, final String entry) {
+        this.objective(objective).getScore(entry).resetScore();
+    }
+
+    @Override
+    public void addTeam(final String name, final Component prefix, final @Nullable NamedTextColor color, final Collection<String> entries) {
+        final Team team = this.scoreboard.registerNewTeam(name);
+        this.updateTeam(name, prefix, color);
+        team.addEntries(entries);
+    }
+
+    @Override
+    public void updateTeam(final String name, final Component prefix, final @Nullable NamedTextColor color) {
+        final Team team = this.team(name);
+        team.prefix(prefix);
+        team.color(color);
+    }
+
+    @Override
+    public void removeTeam(final String name) {
+        this.team(name).unregister();
+    }
+
+    @Override
+    public void addTeamEntries(final String name, final Collection<String> entries) {
+        this.team(name).addEntries(entries);
+    }
+
+    @Override
+    public void removeTeamEntries(final String name, final Collection<String> entries) {
+        this.team(name).removeEntries(entries);
+    }
+
+    @Override
+    public void close() {
+        if (this.player.getScoreboard() == this.scoreboard) {
+            this.player.setScoreboard(Scoreboards.main());
+        }
+    }
+
+    private void slotChanged(final boolean displayed) {
+        this.displayedSlots += displayed ? 1 : -1;
+        if (this.displayedSlots > 0 && this.player.getScoreboard() != this.scoreboard) {
+            this.player.setScoreboard(this.scoreboard);
+        } else if (this.displayedSlots == 0) {
+            this.close();
+        }
+    }
+
+    private Objective objective(final String name) {
+        final @Nullable Objective objective = this.scoreboard.getObjective(name);
+        if (objective == null) {
+            throw new IllegalStateException("Objective " + name + " was removed from the scoreboard of " + this.player.getName());
+        }
+        return objective;
+    }
+
+    private Team team(final String name) {
+        final @Nullable Team team = this.scoreboard.getTeam(name);
+        if (team == null) {
+            throw new IllegalStateException("Team " + name + " was removed from the scoreboard of " + this.player.getName());
+        }
+        return team;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils.boards;
+
+import java.util.Collection;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Receives the changes of a {@link VirtualScoreboard}. Each method
+ * corresponds to one scoreboard packet sent to the client. The only
+ * implementation mirrors them onto a private Bukkit scoreboard.
+ */
+public interface ScoreboardConnection {
+
+    void addObjective(String name, Component title);
+
+    void updateObjective(String name, Component title);
+
+    void removeObjective(String name);
+
+    void displayObjective(DisplaySlot slot, @Nullable String objective);
+
+    void setScore(String objective, String entry, int score);
+
+    void resetScore(String objective, String entry);
+
+    void addTeam(String name, Component prefix, @Nullable NamedTextColor color, Collection<String> entries);
+
+    void updateTeam(String name, Component prefix, @Nullable NamedTextColor color);
+
+    void removeTeam(String name);
+
+    void addTeamEntries(String name, Collection<String> entries);
+
+    void removeTeamEntries(String name, Collection<String> entries);
+
+    /**
+     * Called when the scoreboard is no longer used, after everything was removed.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils.boards;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A scoreboard that only exists for a single player. It keeps the state
+ * the client was sent and only forwards actual changes to its
+ * {@link ScoreboardConnection}, so rewriting an unchanged score or team
+ * doesn't send anything.
+ * <p>
+ * Not thread-safe, only update it from the player's thread.
+ */
+public final class VirtualScoreboard {
+
+    private final ScoreboardConnection connection;
+    private final Map<String, Objective> objectives = new HashMap<>();
+    private final Map<DisplaySlot, String> displayed = new EnumMap<>(DisplaySlot.class);
+    private final Map<String, Team> teams = new HashMap<>();
+
+    public VirtualScoreboard(final ScoreboardConnection connection) {
+        this.connection = connection;
+    }
+
+    public boolean hasObjective(final String name) {
+        return this.objectives.containsKey(name);
+    }
+
+    /**
+     * Creates an objective, or changes its title if it already exists.
+     *
+     * @param name the objective name
+     * @param title the title
+     */
+    public void objective(final String name, final Component title) {
+        final @Nullable Objective objective = this.objectives.get(name);
+        if (objective == null) {
+            this.objectives.put(name, new Objective(title));
+            this.connection.addObjective(name, title);
+        } else if (!objective.title.equals(title)) {
+            objective.title = title;
+            this.connection.updateObjective(name, title);
+        }
+    }
+
+    public void removeObjective(final String name) {
+        if (this.objectives.remove(name) != null) {
+            this.displayed.values().removeIf(name::equals);
+            this.connection.removeObjective(name);
+        }
+    }
+
+    /**
+     * Shows an objective in a display slot.
+     *
+     * @param slot the slot
+     * @param objective the objective to show, or null to clear the slot
+     */
+    public void display(final DisplaySlot slot, final @Nullable String objective) {
+        if (objective != null) {
+            this.requireObjective(objective);
+        }
+        if (Objects.equals(this.displayed.get(slot), objective)) {
+            return;
+        }
+        if (objective == null) {
+            this.displayed.remove(slot);
+        } else {
+            this.displayed.put(slot, objective);
+        }
+        this.connection.displayObjective(slot, objective);
+    }
+
+    public @Nullable String displayed(final DisplaySlot slot) {
+        return this.displayed.get(slot);
+    }
+
+    public void score(final String objective, final String entry, final int score) {
+        final @Nullable Integer previous = this.requireObjective(objective).scores.put(entry, score);
+        if (previous == null || previous != score) {
+            this.connection.setScore(objective, entry, score);
+        }
+    }
+
+    public @Nullable Integer score(final String objective, final String entry) {
+        return this.requireObjective(objective).scores.get(entry);
+    }
+
+    public void resetScore(final String objective, final String entry) {
+        if (this.requireObjective(objective).scores.remove(entry) != null) {
+            this.connection.resetScore(objective, entry);
+        }
+    }
+
+    public void resetScores(final String objective) {
+        final Map<String, Integer> scores = this.requireObjective(objective).scores;
+        for (final String entry : scores.keySet()) {
+            this.connection.resetScore(objective, entry);
+        }
+        scores.clear();
+    }
+
+    /**
+     * Creates a team, or changes its prefix and color if it already exists.
+     *
+     * @param name the team name
+     * @param prefix the prefix shown before the team's entries
+     * @param color the color of the team's entries
+     */
+    public void team(final String name, final Component prefix, final @Nullable NamedTextColor color) {
+        final @Nullable Team team = this.teams.get(name);
+        if (team == null) {
+            this.teams.put(name, new Team(prefix, color));
+            this.connection.addTeam(name, prefix, color, List.of());
+        } else if (!team.prefix.equals(prefix) || team.color != color) {
+            team.prefix = prefix;
+            team.color = color;
+            this.connection.updateTeam(name, prefix, color);
+        }
+    }
+
+    public boolean hasTeam(final String name) {
+        return this.teams.containsKey(name);
+    }
+
+    public void addTeamEntry(final String team, final String entry) {
+        if (this.requireTeam(team).entries.add(entry)) {
+            this.connection.addTeamEntries(team, List.of(entry));
+        }
+    }
+
+    public void removeTeamEntry(final String team, final String entry) {
+        if (this.requireTeam(team).entries.remove(entry)) {
+            this.connection.removeTeamEntries(team, List.of(entry));
+        }
+    }
+
+    public void removeTeam(final String name) {
+        if (this.teams.remove(name) != null) {
+            this.connection.removeTeam(name);
+        }
+    }
+
+    /**
+     * Removes all objectives and teams, and closes the connection.
+     */
+    public void clear() {
+        for (final String team : new ArrayList<>(this.teams.keySet())) {
+            this.removeTeam(team);
+        }
+        for (final String objective : new ArrayList<>(this.objectives.keySet())) {
+            this.removeObjective(objective);
+        }
+        this.connection.close();
+    }
+
+    private Objective requireObjective(final String name) {
+        final @Nullable Objective objective = this.objectives.get(name);
+        if (objective == null) {
+            throw new IllegalArgumentException("No objective named " + name);
+        }
+        return objective;
+    }
+
+    private Team requireTeam(final String name) {
+        final @Nullable Team team = this.teams.get(name);
+        if (team == null) {
+            throw new IllegalArgumentException("No team named " + name);
+        }
+        return team;
+    }
+
+    private static final class Objective {
+
+        private final Map<String, Integer> scores = new HashMap<>();
+        private Component title;
+
+        private Objective(final Component title) {
+            this.title = title;
+        }
+    }
+
+    private static final class Team {
+
+        private final Set<String> entries = new LinkedHashSet<>();
+        private Component prefix;
+        private @Nullable NamedTextColor color;
+
+        private Team(final Component prefix, final @Nullable NamedTextColor color) {
+            this.prefix = prefix;
+            this.color = color;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils.boards;
+
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import me.machinemaker.papertweaks.PaperTweaks;
+import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Holds the {@link VirtualScoreboard} of each online player, shared
+ * by all modules. Boards are dropped when the player quits.
+ * <p>
+ * Boards are shown through private Bukkit scoreboards, so they are only
+ * {@link #isDisplayable() displayable} where the server hands those out.
+ * Folia doesn't, and without a packet-level {@link ScoreboardConnection}
+ * boards there are tracked but never shown. Modules should tell players
+ * instead of silently showing nothing.
+ */
+@Singleton
+public final class VirtualScoreboards implements Listener {
+
+    private static final ScoreboardConnection DETACHED = new DetachedConnection();
+
+    private final Map<UUID, VirtualScoreboard> boards = new ConcurrentHashMap<>();
+    private final AtomicBoolean bukkitBoards = new AtomicBoolean(!SchedulerUtil.isFolia());
+
+    /**
+     * Gets or creates the board of a player.
+     *
+     * @param player the player
+     * @return the player's board
+     */
+    public VirtualScoreboard get(final Player player) {
+        return this.boards.computeIfAbsent(player.getUniqueId(), uuid -> new VirtualScoreboard(this.connect(player)));
+    }
+
+    /**
+     * Checks if boards can be shown to players on this server.
+     *
+     * @return true if boards are shown
+     */
+    public boolean isDisplayable() {
+        return this.bukkitBoards.get();
+    }
+
+    public @Nullable VirtualScoreboard getIfPresent(final Player player) {
+        return this.boards.get(player.getUniqueId());
+    }
+
+    public void remove(final Player player) {
+        final @Nullable VirtualScoreboard board = this.boards.remove(player.getUniqueId());
+        if (board != null) {
+            board.clear();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.boards.remove(event.getPlayer().getUniqueId());
+    }
+
+    private ScoreboardConnection connect(final Player player) {
+        if (!this.bukkitBoards.get()) {
+            return DETACHED;
+        }
+        try {
+            // servers without private boards return no manager or throw
+            final @Nullable ScoreboardManager manager = Scoreboards.manager();
+            if (manager != null) {
+                return new BukkitScoreboardConnection(player, manager);
+            }
+            this.detach(null);
+        } catch (final UnsupportedOperationException exception) {
+            this.detach(exception);
+        }
+        return DETACHED;
+    }
+
+    private void detach(final @Nullable Throwable cause) {
+        if (this.bukkitBoards.compareAndSet(true, false)) {
+            PaperTweaks.LOGGER.warn("Virtual scoreboards are unavailable on this server, scoreboard displays like CountMobDeaths will not be shown", cause);
+        }
+    }
+
+    private static final class DetachedConnection implements ScoreboardConnection {
+
+        @Override
+        public void addObjective(final String name, final Component title) {
+        }
+
+        @Override
+        public void updateObjective(final String name, final Component title) {
+        }
+
+        @Override
+        public void removeObjective(final String name) {
+        }
+
+        @Override
+        public void displayObjective(final DisplaySlot slot, final @Nullable String objective) {
+        }
+
+        @Override
+        public void setScore(final String objective, final String entry, final int score) {
+        }
+
+        @Override
+        public void resetScore(final String objective, final String entry) {
+        }
+
+        @Override
+        public void addTeam(final String name, final Component prefix, final @Nullable NamedTextColor color, final Collection<String> entries) {
+        }
+
+        @Override
+        public void updateTeam(final String name, final Component prefix, final @Nullable NamedTextColor color) {
+        }
+
+        @Override
+        public void removeTeam(final String name) {
+        }
+
+        @Override
+        public void addTeamEntries(final String name, final Collection<String> entries) {
+        }
+
+        @Override
+        public void removeTeamEntries(final String name, final Collection<String> entries) {
+        }
+    }
+}
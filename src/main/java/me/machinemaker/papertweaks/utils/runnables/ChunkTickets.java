@@ -0,0 +1,82 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils.runnables;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Chunk;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Reference counts the plugin chunk tickets held by teleport warm-ups.
+ * A plugin holds at most one ticket per chunk, so warm-ups with
+ * overlapping destinations share it. The ticket is added by the first
+ * acquire and removed by the last release.
+ */
+final class ChunkTickets {
+
+    private static final Map<Key, Integer> HOLDERS = new ConcurrentHashMap<>();
+
+    private ChunkTickets() {
+    }
+
+    /**
+     * Acquires the plugin ticket of a chunk. Must be called from
+     * the chunk's thread.
+     *
+     * @param plugin the ticket owner
+     * @param chunk the chunk
+     */
+    static void acquire(final Plugin plugin, final Chunk chunk) {
+        // the ticket is changed inside compute, so it can't interleave with a release of the same chunk
+        HOLDERS.compute(Key.of(chunk), (key, holders) -> {
+            if (holders == null) {
+                chunk.addPluginChunkTicket(plugin);
+                return 1;
+            }
+            return holders + 1;
+        });
+    }
+
+    /**
+     * Releases the plugin ticket of a chunk acquired by {@link #acquire(Plugin, Chunk)}.
+     * Must be called from the chunk's thread.
+     *
+     * @param plugin the ticket owner
+     * @param chunk the chunk
+     */
+    static void release(final Plugin plugin, final Chunk chunk) {
+        HOLDERS.computeIfPresent(Key.of(chunk), (key, holders) -> {
+            if (holders > 1) {
+                return holders - 1;
+            }
+            chunk.removePluginChunkTicket(plugin);
+            return null;
+        });
+    }
+
+    private record Key(UUID world, long chunk) {
+
+        static Key of(final Chunk chunk) {
+            return new Key(chunk.getWorld().getUID(), chunk.getChunkKey());
+        }
+    }
+}
@@ -19,16 +19,20 @@
  */
 package me.machinemaker.papertweaks.utils.runnables;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import me.machinemaker.papertweaks.utils.SchedulerUtil;
 import org.bukkit.entity.Item;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public abstract class ItemDropFinder implements Runnable {
 
+    private static final long LINGER_PERIOD = 10;
+
     private final Item item;
     private final long maxRuns;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
     private long counter;
-    private SchedulerUtil.Task task;
+    private volatile SchedulerUtil.@Nullable Task task;
 
     protected ItemDropFinder(final Item item, final long maxRuns) {
         this.item = item;
@@ -42,9 +46,15 @@ public abstract class ItemDropFinder implements Runnable {
             return;
         }
 
-        if (this.counter >= this.maxRuns) {
-            this.cancel();
-            return;
+        final long run = this.counter++;
+        if (run >= this.maxRuns) {
+            if ((run - this.maxRuns) % LINGER_PERIOD != 0) { // check less often once the item has settled
+                return;
+            }
+            if (!this.keepSearching(this.item)) {
+                this.cancel();
+                return;
+            }
         }
 
         if (this.failCheck(this.item)) {
@@ -55,26 +65,57 @@ public abstract class ItemDropFinder implements Runnable {
         if (this.successCheck(this.item)) {
             this.onSuccess(this.item);
             this.cancel();
-            return;
         }
-
-        this.counter++;
     }
 
+    /**
+     * Sets the timer running this finder. Pass {@link #cancel()} as the timer's
+     * retired callback, so the finder also ends when the item is removed.
+     *
+     * @param task the timer
+     */
     public final void setTask(final SchedulerUtil.Task task) {
         this.task = task;
+        if (this.cancelled.get()) {
+            task.cancel();
+        }
     }
 
-    protected final void cancel() {
-        if (this.task != null) {
-            this.task.cancel();
+    /**
+     * Stops the finder. Safe to call from any thread and more than once.
+     */
+    public final void cancel() {
+        if (!this.cancelled.compareAndSet(false, true)) {
+            return;
         }
+        final SchedulerUtil.@Nullable Task task = this.task;
+        if (task != null) {
+            task.cancel();
+        }
+        this.onCancel();
+    }
+
+    /**
+     * Called once when the finder stops, whether it found anything or not.
+     */
+    protected void onCancel() {
     }
 
     public boolean failCheck(final Item item) {
         return false;
     }
 
+    /**
+     * Checks if the finder should keep checking the item after it has run
+     * {@code maxRuns} times. The item is then only checked every few runs.
+     *
+     * @param item the item
+     * @return true to keep checking the item
+     */
+    public boolean keepSearching(final Item item) {
+        return false;
+    }
+
     public abstract boolean successCheck(Item item);
 
     public void onSuccess(final Item item) {
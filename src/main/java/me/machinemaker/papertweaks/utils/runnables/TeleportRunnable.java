@@ -20,8 +20,12 @@
 package me.machinemaker.papertweaks.utils.runnables;
 
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
 import me.machinemaker.papertweaks.utils.SchedulerUtil;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -29,12 +33,19 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public abstract class TeleportRunnable implements Runnable {
 
     private static final double MOVEMENT_THRESHOLD = 0.01;
+    /**
+     * Radius in chunks around the destination that is loaded during the warm-up.
+     */
+    private static final int PREWARM_RADIUS = 1;
 
     protected final Player player;
     protected final Location originalLoc;
     protected final Location teleportLoc;
     private long tickDelay;
     private SchedulerUtil.Task task;
+    private @Nullable Plugin plugin;
+    private final List<Chunk> ticketedChunks = new ArrayList<>(); // guarded by itself
+    private boolean released; // guarded by ticketedChunks
 
     protected TeleportRunnable(final Player player, final Location teleportLoc, final long tickDelay) {
         Preconditions.checkArgument(tickDelay > 0, "tickDelay must be positive");
@@ -53,13 +64,16 @@ public abstract class TeleportRunnable implements Runnable {
         }
         if (this.tickDelay <= 0) {
             this.onTeleport();
-            if (this.teleportLoc.getChunk().isLoaded()) {
+            this.stopTimer();
+            final World world = this.teleportLoc.getWorld();
+            if (!SchedulerUtil.isFolia() && world.isChunkLoaded(this.teleportLoc.getBlockX() >> 4, this.teleportLoc.getBlockZ() >> 4)) {
                 this.player.teleport(this.teleportLoc);
+                this.releaseChunks();
             } else {
-                this.player.teleportAsync(this.teleportLoc);
+                // completes right away when the warm-up already loaded the destination
+                this.player.teleportAsync(this.teleportLoc).whenComplete((result, throwable) -> this.releaseChunks());
             }
             this.onEnd();
-            this.cancel();
             return;
         }
         if (this.originalLoc.distanceSquared(this.player.getLocation()) >= MOVEMENT_THRESHOLD) {
@@ -73,16 +87,68 @@ public abstract class TeleportRunnable implements Runnable {
     }
 
     public final SchedulerUtil.Task runTaskTimer(final Plugin plugin, final long delay, final long period) {
-        this.task = SchedulerUtil.runEntityTaskTimer(plugin, this.player, t -> this.run(), null, delay, period);
+        this.plugin = plugin;
+        this.prewarmChunks(plugin);
+        this.task = SchedulerUtil.runEntityTaskTimer(plugin, this.player, t -> this.run(), this::releaseChunks, delay, period);
         return this.task;
     }
 
+    /**
+     * Cancels the warm-up and releases the chunks loaded for it.
+     */
     public final void cancel() {
+        this.stopTimer();
+        this.releaseChunks();
+    }
+
+    private void stopTimer() {
         if (this.task != null) {
             this.task.cancel();
         }
     }
 
+    /**
+     * Starts loading the chunks around the destination, so the player
+     * arrives instantly once the warm-up is over. Each loaded chunk is
+     * held by a shared plugin ticket until the teleport ends.
+     */
+    private void prewarmChunks(final Plugin plugin) {
+        final World world = this.teleportLoc.getWorld();
+        final int centerX = this.teleportLoc.getBlockX() >> 4;
+        final int centerZ = this.teleportLoc.getBlockZ() >> 4;
+        for (int x = centerX - PREWARM_RADIUS; x <= centerX + PREWARM_RADIUS; x++) {
+            for (int z = centerZ - PREWARM_RADIUS; z <= centerZ + PREWARM_RADIUS; z++) {
+                world.getChunkAtAsync(x, z).thenAccept(chunk -> {
+                    synchronized (this.ticketedChunks) {
+                        if (!this.released) {
+                            ChunkTickets.acquire(plugin, chunk);
+                            this.ticketedChunks.add(chunk);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private void releaseChunks() {
+        final List<Chunk> chunks;
+        synchronized (this.ticketedChunks) {
+            if (this.released) {
+                return;
+            }
+            this.released = true;
+            chunks = List.copyOf(this.ticketedChunks);
+            this.ticketedChunks.clear();
+        }
+        final @Nullable Plugin owner = this.plugin;
+        if (owner == null) {
+            return;
+        }
+        for (final Chunk chunk : chunks) {
+            SchedulerUtil.runAtLocation(owner, new Location(chunk.getWorld(), chunk.getX() << 4, 0, chunk.getZ() << 4), () -> ChunkTickets.release(owner, chunk));
+        }
+    }
+
     public void onTeleport() {
     }
 
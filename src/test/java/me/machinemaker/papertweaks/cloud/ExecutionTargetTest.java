@@ -0,0 +1,152 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud;
+
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.papertweaks.cloud.dispatchers.CommandDispatcher;
+import me.machinemaker.papertweaks.cloud.dispatchers.PlayerCommandDispatcher;
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.execution.CommandExecutionHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExecutionTargetTest {
+
+    private static String threadRunning(final ExecutionTarget target, final CommandSender sender) throws Exception {
+        try (final ThreadScheduler scheduler = new ThreadScheduler()) {
+            final CompletableFuture<String> ran = new CompletableFuture<>();
+            target.schedule(scheduler, null, sender, () -> ran.complete(Thread.currentThread().getName()));
+            return ran.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testSenderRunsOnEntityThread() throws Exception {
+        assertEquals("entity", threadRunning(ExecutionTarget.SENDER, mock(Player.class)));
+    }
+
+    @Test
+    void testConsoleSenderFallsBackToGlobal() throws Exception {
+        assertEquals("global", threadRunning(ExecutionTarget.SENDER, mock(CommandSender.class)));
+    }
+
+    @Test
+    void testGlobalAndAsync() throws Exception {
+        assertEquals("global", threadRunning(ExecutionTarget.GLOBAL, mock(Player.class)));
+        assertEquals("async", threadRunning(ExecutionTarget.ASYNC, mock(Player.class)));
+    }
+
+    @Test
+    void testLocationRunsOnRegionThread() throws Exception {
+        final Location location = new Location(null, 100, 64, -200);
+        try (final ThreadScheduler scheduler = new ThreadScheduler()) {
+            final CompletableFuture<String> ran = new CompletableFuture<>();
+            ExecutionTarget.at(context -> location).schedule(scheduler, null, mock(Player.class), () -> ran.complete(Thread.currentThread().getName()));
+            assertEquals("region", ran.get(5, TimeUnit.SECONDS));
+            assertSame(location, scheduler.lastLocation);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCommandHandlerRunsOnTarget() throws Exception {
+        final Player player = mock(Player.class);
+        final CommandSourceStack sourceStack = mock(CommandSourceStack.class);
+        when(sourceStack.getExecutor()).thenReturn(player);
+        final CommandContext<CommandDispatcher> context = mock(CommandContext.class);
+        when(context.sender()).thenReturn(new PlayerCommandDispatcher(sourceStack));
+
+        try (final ThreadScheduler scheduler = new ThreadScheduler()) {
+            final PaperTweaksCommand command = new PaperTweaksCommand() {};
+            command.scheduler(scheduler);
+            final CompletableFuture<String> ran = new CompletableFuture<>();
+            final CompletableFuture<Player> handledPlayer = new CompletableFuture<>();
+            final CommandExecutionHandler<CommandDispatcher> handler = command.execute(ExecutionTarget.SENDER, (ctx, sender) -> {
+                handledPlayer.complete(sender);
+                ran.complete(Thread.currentThread().getName());
+            });
+            handler.execute(context);
+            assertEquals("entity", ran.get(5, TimeUnit.SECONDS));
+            assertSame(player, handledPlayer.get(5, TimeUnit.SECONDS));
+
+            final CompletableFuture<String> ranGlobal = new CompletableFuture<>();
+            final CommandExecutionHandler<CommandDispatcher> globalHandler = command.sync((CommandContext<CommandDispatcher> ctx) -> ranGlobal.complete(Thread.currentThread().getName()));
+            globalHandler.execute(context);
+            assertEquals("global", ranGlobal.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Stands in for the Folia schedulers with one named thread each.
+     */
+    private static final class ThreadScheduler implements CommandScheduler, AutoCloseable {
+
+        private final ExecutorService global = named("global");
+        private final ExecutorService async = named("async");
+        private final ExecutorService entity = named("entity");
+        private final ExecutorService region = named("region");
+        private volatile Location lastLocation;
+
+        private static ExecutorService named(final String name) {
+            return Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name));
+        }
+
+        @Override
+        public void global(final Runnable task) {
+            this.global.execute(task);
+        }
+
+        @Override
+        public void async(final Runnable task) {
+            this.async.execute(task);
+        }
+
+        @Override
+        public void entity(final Entity entity, final Runnable task) {
+            this.entity.execute(task);
+        }
+
+        @Override
+        public void location(final Location location, final Runnable task) {
+            this.lastLocation = location;
+            this.region.execute(task);
+        }
+
+        @Override
+        public void close() {
+            this.global.shutdownNow();
+            this.async.shutdownNow();
+            this.entity.shutdownNow();
+            this.region.shutdownNow();
+        }
+    }
+}
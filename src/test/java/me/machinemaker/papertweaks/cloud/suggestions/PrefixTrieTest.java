@@ -0,0 +1,88 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.cloud.suggestions;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixTrieTest {
+
+    @Test
+    void testMatchesLinearScan() {
+        final Random random = new Random(7);
+        final Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            final StringBuilder key = new StringBuilder();
+            final int length = 1 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                final char c = (char) ('a' + random.nextInt(4));
+                key.append(random.nextInt(5) == 0 ? Character.toUpperCase(c) : c);
+            }
+            keys.add(key.toString());
+        }
+        final PrefixTrie<String> trie = PrefixTrie.of(keys);
+        assertEquals(keys.size(), trie.size());
+
+        for (int i = 0; i < 2_000; i++) {
+            final StringBuilder prefix = new StringBuilder();
+            final int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                prefix.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(5)));
+            }
+            final String lowerPrefix = prefix.toString().toLowerCase(Locale.ROOT);
+            final Set<String> expected = new HashSet<>();
+            for (final String key : keys) {
+                if (key.toLowerCase(Locale.ROOT).startsWith(lowerPrefix)) {
+                    expected.add(key);
+                }
+            }
+            final List<String> actual = trie.withPrefix(prefix.toString());
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+        }
+    }
+
+    @Test
+    void testSortedAndCachedViews() {
+        final PrefixTrie<String> trie = PrefixTrie.of(List.of("nether", "Home", "home2", "base", "homestead"));
+        assertEquals(List.of("base", "Home", "home2", "homestead", "nether"), trie.withPrefix(""));
+        assertEquals(List.of("Home", "home2", "homestead"), trie.withPrefix("HO"));
+        assertSame(trie.withPrefix("ho"), trie.withPrefix("Ho"));
+        assertSame(trie.withPrefix("hom"), trie.withPrefix("HOM"));
+        assertEquals(List.of("home2"), trie.withPrefix("home2"));
+        assertTrue(trie.withPrefix("x").isEmpty());
+        assertTrue(trie.withPrefix("homes2").isEmpty());
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(PrefixTrie.<String>empty().withPrefix("").isEmpty());
+        assertTrue(PrefixTrie.of(new ArrayList<>()).withPrefix("a").isEmpty());
+    }
+}
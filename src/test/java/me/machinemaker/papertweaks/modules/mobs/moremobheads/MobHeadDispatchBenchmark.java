@@ -0,0 +1,174 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.mobs.moremobheads;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the dispatch table with a linear scan over the heads in
+ * {@code data/more_mob_heads.json}, in declaration order. Mobs are faked, as
+ * the Bukkit variant types need a running server, so each keyed head is keyed
+ * by its own name and each guard by a flag. Which heads are guarded mirrors
+ * {@link MobHeadCustomizations}.
+ * <p>
+ * Run with {@code ./gradlew test -Ppapertweaks.benchmark=true --tests '*MobHeadDispatchBenchmark'}.
+ */
+@EnabledIfSystemProperty(named = "papertweaks.benchmark", matches = "true")
+class MobHeadDispatchBenchmark {
+
+    private static final int MOBS = 10_000;
+    private static final int ROUNDS = 200;
+    private static final Set<String> GUARDED = Set.of("Toast", "jeb_ Sheep", "Charged Creeper", "Brown Panda", "Weak Panda", "Angry Wolf");
+    private static final Set<String> UNCUSTOMIZED = Set.of("wither", "wolf");
+    private static final Function<Mob, String> VARIANT = Mob::variant;
+
+    private static List<Head> heads() throws IOException {
+        final List<Head> heads = new ArrayList<>();
+        try (final InputStream stream = Objects.requireNonNull(MobHeadDispatchBenchmark.class.getClassLoader().getResourceAsStream("data/more_mob_heads.json"))) {
+            for (final JsonNode node : new ObjectMapper().readTree(stream)) {
+                final String table = node.get("tableName").asText();
+                final String type = table.startsWith("sheep") ? "sheep" : table.split("\\.")[0];
+                final String name = node.get("name").asText();
+                final Kind kind;
+                if (GUARDED.contains(name) || type.equals("bee")) {
+                    kind = Kind.GUARDED;
+                } else if (!node.get("requiresCustomization").asBoolean() || UNCUSTOMIZED.contains(type)) {
+                    kind = Kind.ALWAYS;
+                } else {
+                    kind = Kind.KEYED;
+                }
+                heads.add(new Head(type, name, kind));
+            }
+        }
+        return heads;
+    }
+
+    private static MobHeadDispatch<String, Mob, Head> dispatch(final List<Head> heads) {
+        final MobHeadDispatch.Builder<String, Mob, Head> builder = MobHeadDispatch.builder();
+        for (final Head head : heads) {
+            switch (head.kind()) {
+                case KEYED -> builder.keyed(head.type(), head, VARIANT, head.name());
+                case GUARDED -> builder.guarded(head.type(), head, Mob::flagged);
+                case ALWAYS -> builder.always(head.type(), head);
+            }
+        }
+        return builder.build();
+    }
+
+    private static @Nullable Head scan(final List<Head> heads, final Mob mob) {
+        for (final Head head : heads) {
+            if (head.type().equals(mob.type()) && head.test(mob)) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    private static List<Mob> mobs(final List<Head> heads) {
+        final Map<String, List<String>> variants = new LinkedHashMap<>();
+        for (final Head head : heads) {
+            variants.computeIfAbsent(head.type(), ignored -> new ArrayList<>()).add(head.name());
+        }
+        variants.put("zombie", List.of()); // a type without heads
+        final List<String> types = List.copyOf(variants.keySet());
+        final SplittableRandom random = new SplittableRandom(2);
+        final List<Mob> mobs = new ArrayList<>(MOBS);
+        for (int i = 0; i < MOBS; i++) {
+            final String type = types.get(random.nextInt(types.size()));
+            final List<String> names = variants.get(type);
+            final String variant = names.isEmpty() || random.nextInt(8) == 0 ? "none" : names.get(random.nextInt(names.size()));
+            mobs.add(new Mob(type, variant, random.nextInt(8) == 0));
+        }
+        return mobs;
+    }
+
+    @Test
+    void benchmarkDispatchAgainstScan() throws IOException {
+        final List<Head> heads = heads();
+        final MobHeadDispatch<String, Mob, Head> dispatch = dispatch(heads);
+        final List<Mob> mobs = mobs(heads);
+
+        long scanBlackhole = 0;
+        long dispatchBlackhole = 0;
+        for (int i = 0; i < ROUNDS / 4; i++) { // warm up
+            scanBlackhole += run(mobs, mob -> scan(heads, mob));
+            dispatchBlackhole += run(mobs, mob -> dispatch.find(mob.type(), mob));
+        }
+        final long scanStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            scanBlackhole += run(mobs, mob -> scan(heads, mob));
+        }
+        final long scanTime = System.nanoTime() - scanStart;
+        final long dispatchStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            dispatchBlackhole += run(mobs, mob -> dispatch.find(mob.type(), mob));
+        }
+        final long dispatchTime = System.nanoTime() - dispatchStart;
+
+        final double ops = (double) MOBS * ROUNDS;
+        System.out.printf("mob head lookup over %d heads: scan %.1f ns/op, dispatch %.1f ns/op%n", heads.size(), scanTime / ops, dispatchTime / ops);
+        assertEquals(scanBlackhole, dispatchBlackhole);
+    }
+
+    private static long run(final List<Mob> mobs, final Function<Mob, @Nullable Head> lookup) {
+        long found = 0;
+        for (final Mob mob : mobs) {
+            final @Nullable Head head = lookup.apply(mob);
+            if (head != null) {
+                found += head.name().length();
+            }
+        }
+        return found;
+    }
+
+    private enum Kind {
+        KEYED, GUARDED, ALWAYS
+    }
+
+    private record Mob(String type, String variant, boolean flagged) {
+    }
+
+    private record Head(String type, String name, Kind kind) {
+
+        boolean test(final Mob mob) {
+            return switch (this.kind) {
+                case KEYED -> this.name.equals(mob.variant());
+                case GUARDED -> mob.flagged();
+                case ALWAYS -> true;
+            };
+        }
+    }
+}
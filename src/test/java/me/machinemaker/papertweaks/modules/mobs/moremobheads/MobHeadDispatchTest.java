@@ -0,0 +1,152 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.mobs.moremobheads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MobHeadDispatchTest {
+
+    private static final int MOBS = 10_000;
+    private static final Function<Mob, Color> COLOR = Mob::color;
+    private static final Function<Mob, Boolean> POWERED = Mob::powered;
+
+    private static List<Head> heads() {
+        final List<Head> heads = new ArrayList<>();
+        // guard declared before the keyed heads, like the toast rabbit
+        heads.add(Head.guarded(Type.RABBIT, "Toast", Mob::named));
+        for (final Color color : Color.values()) {
+            heads.add(Head.keyed(Type.RABBIT, color + " Rabbit", COLOR, color));
+        }
+        // guard declared after the keyed heads, like the jeb_ sheep
+        for (final Color color : Color.values()) {
+            heads.add(Head.keyed(Type.SHEEP, color + " Sheep", COLOR, color));
+        }
+        heads.add(Head.guarded(Type.SHEEP, "jeb_ Sheep", Mob::named));
+        // unconditional head declared before a guard, like the wolf
+        heads.add(Head.always(Type.WOLF, "Wolf"));
+        heads.add(Head.guarded(Type.WOLF, "Angry Wolf", Mob::powered));
+        // guard with a fallback, like the creeper
+        heads.add(Head.guarded(Type.CREEPER, "Charged Creeper", Mob::powered));
+        heads.add(Head.always(Type.CREEPER, "Creeper"));
+        // a second property becomes a guard
+        heads.add(Head.keyed(Type.GOAT, "Red Goat", COLOR, Color.RED));
+        heads.add(Head.keyed(Type.GOAT, "Screaming Goat", POWERED, true));
+        heads.add(Head.keyed(Type.GOAT, "Goat", POWERED, false));
+        return heads;
+    }
+
+    private static MobHeadDispatch<Type, Mob, Head> dispatch(final List<Head> heads) {
+        final MobHeadDispatch.Builder<Type, Mob, Head> builder = MobHeadDispatch.builder();
+        for (final Head head : heads) {
+            if (head.property() != null) {
+                builder.keyed(head.type(), head, head.property(), head.value());
+            } else if (head.guard() != null) {
+                builder.guarded(head.type(), head, head.guard());
+            } else {
+                builder.always(head.type(), head);
+            }
+        }
+        return builder.build();
+    }
+
+    private static @Nullable Head scan(final List<Head> heads, final Mob mob) {
+        for (final Head head : heads) {
+            if (head.type() == mob.type() && head.test(mob)) {
+                return head;
+            }
+        }
+        return null;
+    }
+
+    private static List<Mob> mobs(final long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<Mob> mobs = new ArrayList<>(MOBS);
+        for (int i = 0; i < MOBS; i++) {
+            mobs.add(new Mob(
+                Type.values()[random.nextInt(Type.values().length)],
+                Color.values()[random.nextInt(Color.values().length)],
+                random.nextInt(8) == 0,
+                random.nextBoolean()
+            ));
+        }
+        return mobs;
+    }
+
+    @Test
+    void testMatchesFirstDeclaredHead() {
+        final List<Head> heads = heads();
+        final MobHeadDispatch<Type, Mob, Head> dispatch = dispatch(heads);
+
+        assertEquals("Toast", dispatch.find(Type.RABBIT, new Mob(Type.RABBIT, Color.RED, true, false)).name());
+        assertEquals("RED Sheep", dispatch.find(Type.SHEEP, new Mob(Type.SHEEP, Color.RED, true, false)).name());
+        assertEquals("Wolf", dispatch.find(Type.WOLF, new Mob(Type.WOLF, Color.RED, false, true)).name());
+        assertEquals("Charged Creeper", dispatch.find(Type.CREEPER, new Mob(Type.CREEPER, Color.RED, false, true)).name());
+        assertEquals("Red Goat", dispatch.find(Type.GOAT, new Mob(Type.GOAT, Color.RED, false, true)).name());
+        assertEquals("Screaming Goat", dispatch.find(Type.GOAT, new Mob(Type.GOAT, Color.BLUE, false, true)).name());
+        assertNull(dispatch.find(Type.PIG, new Mob(Type.PIG, Color.RED, false, false)));
+
+        for (final Mob mob : mobs(1)) {
+            assertEquals(scan(heads, mob), dispatch.find(mob.type(), mob), mob::toString);
+        }
+    }
+
+    private enum Type {
+        RABBIT, SHEEP, WOLF, CREEPER, GOAT, PIG
+    }
+
+    private enum Color {
+        WHITE, ORANGE, MAGENTA, LIGHT_BLUE, YELLOW, LIME, PINK, GRAY, CYAN, PURPLE, BLUE, BROWN, GREEN, RED, BLACK
+    }
+
+    private record Mob(Type type, Color color, boolean named, boolean powered) {
+    }
+
+    private record Head(Type type, String name, @Nullable Function<Mob, ?> property, @Nullable Object value, @Nullable Predicate<Mob> guard) {
+
+        static Head keyed(final Type type, final String name, final Function<Mob, ?> property, final Object value) {
+            return new Head(type, name, property, value, null);
+        }
+
+        static Head guarded(final Type type, final String name, final Predicate<Mob> guard) {
+            return new Head(type, name, null, null, guard);
+        }
+
+        static Head always(final Type type, final String name) {
+            return new Head(type, name, null, null, null);
+        }
+
+        boolean test(final Mob mob) {
+            if (this.property != null) {
+                return Objects.equals(this.property.apply(mob), this.value);
+            }
+            return this.guard == null || this.guard.test(mob);
+        }
+    }
+}
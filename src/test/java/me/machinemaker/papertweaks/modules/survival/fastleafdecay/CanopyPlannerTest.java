@@ -0,0 +1,227 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.fastleafdecay;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import me.machinemaker.papertweaks.utils.BlockPositions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CanopyPlannerTest {
+
+    @Test
+    void testRemovingOnlyLogDecaysWholeCanopy() {
+        final Canopy canopy = Canopy.tree(0, 0, 3);
+        final CanopyPlanner.Plan plan = new CanopyPlanner(canopy).plan(0, 1, 0);
+        canopy.remove(0, 1, 0);
+
+        assertEquals(canopy.leafCount(), plan.decay().length);
+        assertEquals(canopy.leafCount(), plan.canopySize());
+        final Set<Long> expected = canopy.naiveDecaySet();
+        for (final long pos : plan.decay()) {
+            assertTrue(expected.remove(pos));
+        }
+        assertTrue(expected.isEmpty());
+    }
+
+    @Test
+    void testLeavesNearRemainingLogSurvive() {
+        final Canopy canopy = Canopy.tree(0, 0, 3);
+        canopy.blocks.put(BlockPositions.pack(10, 1, 0), CanopyPlanner.Kind.LOG);
+        for (int x = 1; x < 10; x++) {
+            canopy.blocks.put(BlockPositions.pack(x, 1, 0), CanopyPlanner.Kind.LEAVES); // bridge to the second log
+        }
+        final CanopyPlanner.Plan plan = new CanopyPlanner(canopy).plan(0, 1, 0);
+        canopy.remove(0, 1, 0);
+
+        final Set<Long> expected = canopy.naiveDecaySet();
+        assertEquals(expected.size(), plan.decay().length);
+        assertTrue(plan.decay().length < canopy.leafCount());
+        for (final long pos : plan.decay()) {
+            assertTrue(expected.contains(pos));
+        }
+    }
+
+    @Test
+    void testPersistentLeavesDoNotDecay() {
+        final Canopy canopy = Canopy.tree(0, 0, 2);
+        final long persistent = BlockPositions.pack(1, 2, 0);
+        canopy.blocks.put(persistent, CanopyPlanner.Kind.PERSISTENT_LEAVES);
+        final CanopyPlanner.Plan plan = new CanopyPlanner(canopy).plan(0, 1, 0);
+
+        for (final long pos : plan.decay()) {
+            assertTrue(pos != persistent);
+        }
+        assertEquals(canopy.leafCount(), plan.decay().length); // every other leaf
+    }
+
+    @Test
+    void testLogPlacedAfterPlanningSupportsLeaves() {
+        final Canopy canopy = Canopy.tree(0, 0, 3);
+        final CanopyPlanner planner = new CanopyPlanner(canopy);
+        final CanopyPlanner.Plan plan = planner.plan(0, 1, 0);
+        canopy.remove(0, 1, 0);
+        canopy.blocks.put(BlockPositions.pack(2, 4, 2), CanopyPlanner.Kind.LOG);
+
+        final Set<Long> expected = canopy.naiveDecaySet();
+        assertTrue(expected.size() < plan.decay().length);
+        for (final long pos : plan.decay()) {
+            assertEquals(!expected.contains(pos), planner.isSupported(BlockPositions.x(pos), BlockPositions.y(pos), BlockPositions.z(pos)));
+        }
+    }
+
+    @Test
+    void testDecayOrderedByDistanceFromRemovedLog() {
+        final Canopy canopy = Canopy.tree(0, 0, 3);
+        final CanopyPlanner.Plan plan = new CanopyPlanner(canopy).plan(0, 1, 0);
+        int last = 0;
+        for (final long pos : plan.decay()) {
+            final int distance = distanceTo(pos, 0, 1, 0);
+            assertTrue(distance >= last);
+            last = distance;
+        }
+    }
+
+    @Test
+    void testBudgetKeepsUnexploredLeaves() {
+        final Canopy canopy = Canopy.tree(0, 0, 5);
+        final CanopyPlanner.Plan plan = new CanopyPlanner(canopy, 20, CanopyPlanner.DEFAULT_RADIUS).plan(0, 1, 0);
+        assertEquals(20, plan.canopySize());
+        assertTrue(plan.decay().length < 20); // leaves next to the unexplored ones stay
+    }
+
+    /**
+     * Compares block reads of the planner against checking every leaf on its own,
+     * which is what the neighbour-by-neighbour decay did.
+     */
+    @Test
+    void testVisitsGrowLinearly() {
+        final int[] radii = {2, 3, 4, 5, 6};
+        final int[] plannerVisits = new int[radii.length];
+        final long[] naiveVisits = new long[radii.length];
+        final int[] sizes = new int[radii.length];
+        for (int i = 0; i < radii.length; i++) {
+            final Canopy canopy = Canopy.tree(0, 0, radii[i]);
+            final CanopyPlanner.Plan plan = new CanopyPlanner(canopy).plan(0, 1, 0);
+            canopy.reads = 0;
+            canopy.remove(0, 1, 0);
+            canopy.naiveDecaySet();
+
+            sizes[i] = plan.canopySize();
+            plannerVisits[i] = plan.visits();
+            naiveVisits[i] = canopy.reads;
+            // each block is read at most once from each of its six neighbours and once as the start
+            assertTrue(plan.visits() <= 7 * plan.canopySize() + 7, "planner reads each block at most once per neighbour");
+        }
+        final int last = radii.length - 1;
+        final double sizeGrowth = (double) sizes[last] / sizes[0];
+        assertTrue((double) plannerVisits[last] / plannerVisits[0] <= sizeGrowth * 1.5);
+        assertTrue((double) naiveVisits[last] / naiveVisits[0] > sizeGrowth * 1.5);
+    }
+
+    private static int distanceTo(final long pos, final int x, final int y, final int z) {
+        return Math.abs(BlockPositions.x(pos) - x) + Math.abs(BlockPositions.y(pos) - y) + Math.abs(BlockPositions.z(pos) - z);
+    }
+
+    private static final class Canopy implements CanopyPlanner.BlockKinds {
+
+        private final Map<Long, CanopyPlanner.Kind> blocks = new HashMap<>();
+        private long reads;
+
+        /**
+         * A single log with a diamond of leaves around it.
+         */
+        static Canopy tree(final int x, final int z, final int radius) {
+            final Canopy canopy = new Canopy();
+            final int cy = 1 + radius;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dy = -radius; dy <= radius; dy++) {
+                    for (int dz = -radius; dz <= radius; dz++) {
+                        if (Math.abs(dx) + Math.abs(dy) + Math.abs(dz) <= radius && cy + dy >= 1) {
+                            canopy.blocks.put(BlockPositions.pack(x + dx, cy + dy, z + dz), CanopyPlanner.Kind.LEAVES);
+                        }
+                    }
+                }
+            }
+            canopy.blocks.put(BlockPositions.pack(x, 1, z), CanopyPlanner.Kind.LOG);
+            return canopy;
+        }
+
+        @Override
+        public CanopyPlanner.Kind kind(final int x, final int y, final int z) {
+            this.reads++;
+            return this.blocks.getOrDefault(BlockPositions.pack(x, y, z), CanopyPlanner.Kind.OTHER);
+        }
+
+        void remove(final int x, final int y, final int z) {
+            this.blocks.remove(BlockPositions.pack(x, y, z));
+        }
+
+        long leafCount() {
+            return this.blocks.values().stream().filter(kind -> kind == CanopyPlanner.Kind.LEAVES).count();
+        }
+
+        /**
+         * Searches for a log from every leaf separately.
+         */
+        Set<Long> naiveDecaySet() {
+            final Set<Long> decay = new HashSet<>();
+            for (final Map.Entry<Long, CanopyPlanner.Kind> entry : Map.copyOf(this.blocks).entrySet()) {
+                if (entry.getValue() == CanopyPlanner.Kind.LEAVES && !this.reachesLog(entry.getKey())) {
+                    decay.add(entry.getKey());
+                }
+            }
+            return decay;
+        }
+
+        private boolean reachesLog(final long start) {
+            final Map<Long, Integer> distances = new HashMap<>();
+            final Queue<Long> queue = new ArrayDeque<>();
+            distances.put(start, 0);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                final long current = queue.remove();
+                final int distance = distances.get(current);
+                for (final int[] offset : new int[][]{{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}}) {
+                    final long next = BlockPositions.offset(current, offset[0], offset[1], offset[2]);
+                    if (distances.containsKey(next)) {
+                        continue;
+                    }
+                    final CanopyPlanner.Kind kind = this.kind(BlockPositions.x(next), BlockPositions.y(next), BlockPositions.z(next));
+                    if (kind == CanopyPlanner.Kind.LOG) {
+                        return true;
+                    }
+                    distances.put(next, distance + 1);
+                    if ((kind == CanopyPlanner.Kind.LEAVES || kind == CanopyPlanner.Kind.PERSISTENT_LEAVES) && distance + 1 < CanopyPlanner.MAX_DISTANCE) {
+                        queue.add(next);
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
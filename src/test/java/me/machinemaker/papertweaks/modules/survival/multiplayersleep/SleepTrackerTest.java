@@ -0,0 +1,130 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.multiplayersleep;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SleepTrackerTest {
+
+    private static final int THREADS = 8;
+    private static final int PLAYERS_PER_THREAD = 16;
+    private static final int OPERATIONS = 20_000;
+
+    @Test
+    void testPromoteAndLeave() {
+        final SleepTracker<String> tracker = new SleepTracker<>();
+        assertTrue(tracker.enterBed("a"));
+        assertFalse(tracker.enterBed("a"));
+        assertTrue(tracker.enterBed("b"));
+        assertTrue(tracker.promote("a"::equals));
+        assertFalse(tracker.promote("a"::equals));
+        assertEquals(List.of("a"), tracker.snapshot().sleeping());
+        assertEquals(Set.of("b"), tracker.snapshot().almostSleeping());
+
+        final long version = tracker.snapshot().version();
+        tracker.touch();
+        assertEquals(version + 1, tracker.snapshot().version());
+
+        assertTrue(tracker.leaveBed("a"));
+        assertFalse(tracker.leaveBed("a"));
+        final SleepTracker.Snapshot<String> previous = tracker.clear();
+        assertEquals(Set.of("b"), previous.almostSleeping());
+        assertTrue(tracker.snapshot().isEmpty());
+    }
+
+    @Test
+    void testConcurrentBedEvents() throws InterruptedException {
+        final SleepTracker<String> tracker = new SleepTracker<>();
+        final Set<String> expectedInBed = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(THREADS);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int id = t;
+            threads.add(new Thread(() -> {
+                final Random random = new Random(id);
+                for (int i = 0; i < OPERATIONS; i++) {
+                    final String player = "t" + id + "-p" + random.nextInt(PLAYERS_PER_THREAD);
+                    if (random.nextBoolean()) {
+                        if (tracker.enterBed(player)) {
+                            expectedInBed.add(player);
+                        }
+                    } else if (tracker.leaveBed(player) != expectedInBed.remove(player)) {
+                        failure.compareAndSet(null, "leaveBed disagreed for " + player);
+                    }
+                }
+                done.countDown();
+            }));
+        }
+        final Thread owner = new Thread(() -> {
+            final Random random = new Random(-1);
+            long lastVersion = -1;
+            while (running.get()) {
+                tracker.promote(player -> random.nextInt(4) == 0);
+                final SleepTracker.Snapshot<String> snapshot = tracker.snapshot();
+                if (snapshot.version() < lastVersion) {
+                    failure.compareAndSet(null, "version went backwards");
+                }
+                lastVersion = snapshot.version();
+                final Set<String> sleeping = new HashSet<>(snapshot.sleeping());
+                if (sleeping.size() != snapshot.sleeping().size()) {
+                    failure.compareAndSet(null, "duplicate sleeping player");
+                }
+                for (final String player : snapshot.almostSleeping()) {
+                    if (sleeping.contains(player)) {
+                        failure.compareAndSet(null, player + " is both sleeping and getting into bed");
+                    }
+                }
+            }
+        });
+
+        owner.start();
+        threads.forEach(Thread::start);
+        done.await();
+        running.set(false);
+        owner.join();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        final SleepTracker.Snapshot<String> snapshot = tracker.snapshot();
+        final Set<String> inBed = new HashSet<>(snapshot.sleeping());
+        inBed.addAll(snapshot.almostSleeping());
+        assertEquals(snapshot.sleeping().size() + snapshot.almostSleeping().size(), inBed.size());
+        assertEquals(Set.copyOf(expectedInBed), inBed);
+    }
+}
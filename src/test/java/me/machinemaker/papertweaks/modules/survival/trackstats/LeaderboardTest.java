@@ -0,0 +1,106 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.survival.trackstats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardTest {
+
+    private static final Comparator<Map.Entry<String, Integer>> ORDER = Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    @Test
+    void testMatchesSortedScores() {
+        final Random random = new Random(42);
+        final Leaderboard leaderboard = new Leaderboard();
+        final Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            final String name = "player" + random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                assertEquals(expected.remove(name) != null, leaderboard.remove(name));
+            } else {
+                final int score = random.nextInt(200);
+                expected.put(name, score);
+                leaderboard.set(name, score);
+            }
+            assertEquals(expected.size(), leaderboard.size());
+        }
+
+        final List<Map.Entry<String, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(ORDER);
+        final List<Leaderboard.Entry> top = leaderboard.top(sorted.size() + 10);
+        assertEquals(sorted.size(), top.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i).getKey(), top.get(i).name());
+            assertEquals((int) sorted.get(i).getValue(), top.get(i).score());
+        }
+        for (final Map.Entry<String, Integer> entry : sorted) {
+            final long higher = expected.values().stream().filter(score -> score > entry.getValue()).count();
+            assertEquals(higher + 1, leaderboard.rank(entry.getKey()));
+            assertEquals(entry.getValue(), leaderboard.score(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testTopIsBounded() {
+        final Leaderboard leaderboard = new Leaderboard();
+        for (int i = 0; i < 100; i++) {
+            leaderboard.set("p" + i, i);
+        }
+        final List<Leaderboard.Entry> top = leaderboard.top(3);
+        assertEquals(List.of(new Leaderboard.Entry("p99", 99), new Leaderboard.Entry("p98", 98), new Leaderboard.Entry("p97", 97)), top);
+    }
+
+    @Test
+    void testTiesShareRank() {
+        final Leaderboard leaderboard = new Leaderboard();
+        leaderboard.set("a", 5);
+        leaderboard.set("b", 10);
+        leaderboard.set("c", 10);
+        leaderboard.set("d", 1);
+        assertEquals(1, leaderboard.rank("b"));
+        assertEquals(1, leaderboard.rank("c"));
+        assertEquals(3, leaderboard.rank("a"));
+        assertEquals(4, leaderboard.rank("d"));
+    }
+
+    @Test
+    void testMissingEntries() {
+        final Leaderboard leaderboard = new Leaderboard();
+        assertEquals(-1, leaderboard.rank("a"));
+        assertNull(leaderboard.score("a"));
+        assertFalse(leaderboard.remove("a"));
+        assertTrue(leaderboard.top(5).isEmpty());
+        leaderboard.set("a", 1);
+        leaderboard.clear();
+        assertEquals(0, leaderboard.size());
+        assertEquals(-1, leaderboard.rank("a"));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.modules.teleportation.tpa;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestBookTest {
+
+    private static final int REQUESTS = 4_000;
+    private static final int ACCEPTORS = 4;
+
+    private static TestRequest request(final UUID from, final UUID to, final long cancelAfter) {
+        return new TestRequest(from, to, cancelAfter);
+    }
+
+    @Test
+    void testIndexes() {
+        final RequestBook<TestRequest> book = new RequestBook<>();
+        final UUID a = UUID.randomUUID();
+        final UUID b = UUID.randomUUID();
+        final UUID c = UUID.randomUUID();
+        final long later = System.currentTimeMillis() + 60_000;
+
+        final TestRequest first = request(a, b, later);
+        assertNull(book.add(first));
+        final TestRequest second = request(c, b, later);
+        book.add(second);
+        assertEquals(first, book.get(b, a));
+        assertEquals(Set.of(first, second), new HashSet<>(book.toTarget(b)));
+
+        final TestRequest replacement = request(a, c, later + 1);
+        assertEquals(first, book.add(replacement));
+        assertFalse(book.claim(first));
+        assertNull(book.get(b, a));
+        assertEquals(List.of(second), List.copyOf(book.toTarget(b)));
+
+        assertTrue(book.claim(second));
+        assertFalse(book.hasRequestsTo(b));
+        assertEquals(List.of(replacement), book.removePlayer(c));
+        assertEquals(0, book.size());
+        assertNull(book.pollExpired());
+    }
+
+    @Test
+    void testExpiredRequestsAreClaimedOnce() {
+        final RequestBook<TestRequest> book = new RequestBook<>();
+        final long now = System.currentTimeMillis();
+        final TestRequest expired = request(UUID.randomUUID(), UUID.randomUUID(), now - 10);
+        final TestRequest accepted = request(UUID.randomUUID(), UUID.randomUUID(), now - 5);
+        final TestRequest pending = request(UUID.randomUUID(), UUID.randomUUID(), now + 60_000);
+        book.add(pending);
+        book.add(accepted);
+        book.add(expired);
+
+        assertTrue(book.claim(accepted));
+        assertEquals(expired, book.pollExpired());
+        assertNull(book.pollExpired());
+        assertEquals(1, book.size());
+        assertEquals(pending, book.fromSender(pending.from()));
+    }
+
+    @Test
+    void testAcceptAtExpiry() throws InterruptedException {
+        final RequestBook<TestRequest> book = new RequestBook<>();
+        final long start = System.currentTimeMillis() + 20;
+        final List<TestRequest> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            final TestRequest request = request(UUID.randomUUID(), UUID.randomUUID(), start + (i % 50));
+            requests.add(request);
+            book.add(request);
+        }
+
+        final Set<TestRequest> accepted = ConcurrentHashMap.newKeySet();
+        final Set<TestRequest> expired = ConcurrentHashMap.newKeySet();
+        final AtomicInteger resolved = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(ACCEPTORS);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < ACCEPTORS; t++) {
+            final int offset = t;
+            threads.add(new Thread(() -> {
+                for (int i = offset; i < REQUESTS; i += ACCEPTORS) {
+                    final TestRequest request = requests.get(i);
+                    while (System.currentTimeMillis() < request.cancelAfter()) {
+                        Thread.onSpinWait();
+                    }
+                    if (book.claim(request)) {
+                        accepted.add(request);
+                        resolved.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }));
+        }
+        final Thread expirer = new Thread(() -> {
+            while (resolved.get() < REQUESTS) {
+                final TestRequest request = book.pollExpired();
+                if (request != null) {
+                    expired.add(request);
+                    resolved.incrementAndGet();
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+
+        expirer.start();
+        threads.forEach(Thread::start);
+        done.await();
+        expirer.join();
+
+        assertEquals(REQUESTS, resolved.get());
+        assertEquals(REQUESTS, accepted.size() + expired.size());
+        for (final TestRequest request : accepted) {
+            assertFalse(expired.contains(request));
+        }
+        assertEquals(0, book.size());
+    }
+
+    private record TestRequest(UUID from, UUID to, long cancelAfter) implements RequestBook.Entry {
+    }
+}
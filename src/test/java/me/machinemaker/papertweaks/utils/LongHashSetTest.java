@@ -0,0 +1,74 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void testMatchesHashSet() {
+        final Random random = new Random(42);
+        final LongHashSet set = new LongHashSet();
+        final Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            final long value = random.nextInt(2_000) - 1_000L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (long value = -1_000; value < 1_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+        assertEquals(expected.size(), set.toArray().length);
+    }
+
+    @Test
+    void testSentinelValue() {
+        final LongHashSet set = new LongHashSet();
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertFalse(set.add(Long.MIN_VALUE));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertEquals(1, set.size());
+        assertTrue(set.remove(Long.MIN_VALUE));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void testBlockPositionRoundTrip() {
+        final int[][] positions = {{0, 0, 0}, {-1, -64, -1}, {29_999_999, 319, -29_999_999}, {-30_000_000, -2048, 30_000_000}, {12, 2047, -7}};
+        for (final int[] pos : positions) {
+            final long packed = BlockPositions.pack(pos[0], pos[1], pos[2]);
+            assertEquals(pos[0], BlockPositions.x(packed));
+            assertEquals(pos[1], BlockPositions.y(packed));
+            assertEquals(pos[2], BlockPositions.z(packed));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * GNU General Public License v3
+ *
+ * PaperTweaks, a performant replacement for the VanillaTweaks datapacks.
+ *
+ * Copyright (C) 2026 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package me.machinemaker.papertweaks.utils.boards;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualScoreboardTest {
+
+    private static final Component TITLE = Component.text("Title");
+
+    @Test
+    void testOnlyChangesAreSent() {
+        final FakeConnection connection = new FakeConnection();
+        final VirtualScoreboard board = new VirtualScoreboard(connection);
+        board.objective("obj", TITLE);
+        board.objective("obj", TITLE);
+        board.display(DisplaySlot.SIDEBAR, "obj");
+        board.display(DisplaySlot.SIDEBAR, "obj");
+        board.score("obj", "a", 1);
+        board.score("obj", "a", 1);
+        board.score("obj", "b", 1);
+        board.score("obj", "a", 2);
+        assertEquals(List.of("addObjective obj", "display SIDEBAR obj", "setScore obj a 1", "setScore obj b 1", "setScore obj a 2"), connection.sent);
+    }
+
+    @Test
+    void testTeams() {
+        final FakeConnection connection = new FakeConnection();
+        final VirtualScoreboard board = new VirtualScoreboard(connection);
+        board.team("team", TITLE, NamedTextColor.RED);
+        board.team("team", TITLE, NamedTextColor.RED);
+        board.addTeamEntry("team", "a");
+        board.addTeamEntry("team", "a");
+        board.team("team", TITLE, NamedTextColor.BLUE);
+        board.removeTeamEntry("team", "b");
+        board.removeTeamEntry("team", "a");
+        board.removeTeam("team");
+        board.removeTeam("team");
+        assertEquals(List.of("addTeam team", "addTeamEntries team [a]", "updateTeam team", "removeTeamEntries team [a]", "removeTeam team"), connection.sent);
+    }
+
+    @Test
+    void testRemovingObjectiveClearsDisplay() {
+        final FakeConnection connection = new FakeConnection();
+        final VirtualScoreboard board = new VirtualScoreboard(connection);
+        board.objective("obj", TITLE);
+        board.display(DisplaySlot.SIDEBAR, "obj");
+        board.removeObjective("obj");
+        assertNull(board.displayed(DisplaySlot.SIDEBAR));
+        board.objective("obj", TITLE);
+        board.score("obj", "a", 1);
+        board.resetScores("obj");
+        board.resetScore("obj", "a");
+        assertEquals(List.of("addObjective obj", "display SIDEBAR obj", "removeObjective obj", "addObjective obj", "setScore obj a 1", "resetScore obj a"), connection.sent);
+    }
+
+    @Test
+    void testClear() {
+        final FakeConnection connection = new FakeConnection();
+        final VirtualScoreboard board = new VirtualScoreboard(connection);
+        board.objective("obj", TITLE);
+        board.team("team", TITLE, null);
+        board.clear();
+        assertEquals(List.of("addObjective obj", "addTeam team", "removeTeam team", "removeObjective obj", "close"), connection.sent);
+    }
+
+    @Test
+    void testMissingObjective() {
+        final FakeConnection connection = new FakeConnection();
+        final VirtualScoreboard board = new VirtualScoreboard(connection);
+        assertThrows(IllegalArgumentException.class, () -> board.score("missing", "a", 1));
+        assertThrows(IllegalArgumentException.class, () -> board.display(DisplaySlot.SIDEBAR, "missing"));
+        assertThrows(IllegalArgumentException.class, () -> board.addTeamEntry("missing", "a"));
+        assertTrue(connection.sent.isEmpty());
+    }
+
+    private static final class FakeConnection implements ScoreboardConnection {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void addObjective(final String name, final Component title) {
+            this.sent.add("addObjective " + name);
+        }
+
+        @Override
+        public void updateObjective(final String name, final Component title) {
+            this.sent.add("updateObjective " + name);
+        }
+
+        @Override
+        public void removeObjective(final String name) {
+            this.sent.add("removeObjective " + name);
+        }
+
+        @Override
+        public void displayObjective(final DisplaySlot slot, final @Nullable String objective) {
+            this.sent.add("display " + slot + " " + objective);
+        }
+
+        @Override
+        public void setScore(final String objective, final String entry, final int score) {
+            this.sent.add("setScore " + objective + " " + entry + " " + score);
+        }
+
+        @Override
+        public void resetScore(final String objective, final String entry) {
+            this.sent.add("resetScore " + objective + " " + entry);
+        }
+
+        @Override
+        public void addTeam(final String name, final Component prefix, final @Nullable NamedTextColor color, final Collection<String> entries) {
+            this.sent.add("addTeam " + name);
+        }
+
+        @Override
+        public void updateTeam(final String name, final Component prefix, final @Nullable NamedTextColor color) {
+            this.sent.add("updateTeam " + name);
+        }
+
+        @Override
+        public void removeTeam(final String name) {
+            this.sent.add("removeTeam " + name);
+        }
+
+        @Override
+        public void addTeamEntries(final String name, final Collection<String> entries) {
+            this.sent.add("addTeamEntries " + name + " " + entries);
+        }
+
+        @Override
+        public void removeTeamEntries(final String name, final Collection<String> entries) {
+            this.sent.add("removeTeamEntries " + name + " " + entries);
+        }
+
+        @Override
+        public void close() {
+            this.sent.add("close");
+        }
+    }
+}